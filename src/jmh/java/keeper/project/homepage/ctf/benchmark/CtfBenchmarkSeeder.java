@@ -0,0 +1,199 @@
+package keeper.project.homepage.ctf.benchmark;
+
+import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.MISC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.DYNAMIC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.STANDARD;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity;
+import keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfChallengeHasCtfChallengeCategoryEntity;
+import keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity;
+import keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType;
+import keeper.project.homepage.ctf.entity.CtfContestEntity;
+import keeper.project.homepage.ctf.entity.CtfDynamicChallengeInfoEntity;
+import keeper.project.homepage.ctf.entity.CtfFlagEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamHasMemberEntity;
+import keeper.project.homepage.ctf.repository.CtfChallengeCategoryRepository;
+import keeper.project.homepage.ctf.repository.CtfChallengeHasCtfChallengeCategoryRepository;
+import keeper.project.homepage.ctf.repository.CtfChallengeRepository;
+import keeper.project.homepage.ctf.repository.CtfChallengeTypeRepository;
+import keeper.project.homepage.ctf.repository.CtfContestRepository;
+import keeper.project.homepage.ctf.repository.CtfFlagRepository;
+import keeper.project.homepage.ctf.repository.CtfTeamHasMemberRepository;
+import keeper.project.homepage.ctf.repository.CtfTeamRepository;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.repository.MemberRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 비어있는 embedded DB에 VIRTUAL 데이터와 대회 하나를 만든다.
+ *
+ * <p>VIRTUAL 회원, 대회, 팀, 문제와 문제 유형, 카테고리는 id가 고정되어 있으므로 가장 먼저 순서대로 저장한다.
+ * 팀마다 {@link #MEMBER_COUNT_PER_TEAM}명이 가입하고, 문제의 절반은 dynamic 문제다.
+ */
+class CtfBenchmarkSeeder {
+
+  static final int MEMBER_COUNT_PER_TEAM = 3;
+  static final String FLAG_PREFIX = "keeper{benchmark_";
+
+  private final MemberRepository memberRepository;
+  private final CtfChallengeTypeRepository typeRepository;
+  private final CtfChallengeCategoryRepository categoryRepository;
+  private final CtfContestRepository contestRepository;
+  private final CtfTeamRepository teamRepository;
+  private final CtfTeamHasMemberRepository teamHasMemberRepository;
+  private final CtfChallengeRepository challengeRepository;
+  private final CtfChallengeHasCtfChallengeCategoryRepository challengeHasCategoryRepository;
+  private final CtfFlagRepository flagRepository;
+
+  CtfBenchmarkSeeder(ConfigurableApplicationContext context) {
+    this.memberRepository = context.getBean(MemberRepository.class);
+    this.typeRepository = context.getBean(CtfChallengeTypeRepository.class);
+    this.categoryRepository = context.getBean(CtfChallengeCategoryRepository.class);
+    this.contestRepository = context.getBean(CtfContestRepository.class);
+    this.teamRepository = context.getBean(CtfTeamRepository.class);
+    this.teamHasMemberRepository = context.getBean(CtfTeamHasMemberRepository.class);
+    this.challengeRepository = context.getBean(CtfChallengeRepository.class);
+    this.challengeHasCategoryRepository = context.getBean(
+        CtfChallengeHasCtfChallengeCategoryRepository.class);
+    this.flagRepository = context.getBean(CtfFlagRepository.class);
+  }
+
+  /**
+   * 트랜잭션 안에서 호출해야 한다.
+   */
+  CtfBenchmarkData seed(int teamCount, int challengeCount) {
+    MemberEntity virtualMember = saveMember("virtual");
+    for (CtfChallengeType type : CtfChallengeType.values()) {
+      typeRepository.save(CtfChallengeTypeEntity.builder().name(type.getName()).build());
+    }
+    for (CtfChallengeCategory category : CtfChallengeCategory.values()) {
+      categoryRepository.save(CtfChallengeCategoryEntity.builder().name(category.getName()).build());
+    }
+    CtfContestEntity virtualContest = saveContest(virtualMember, false);
+    CtfTeamEntity virtualTeam = saveTeam(virtualContest, virtualMember, "virtual_ctf_team");
+    saveChallenge(virtualContest, virtualMember, STANDARD, 0, virtualTeam);
+
+    CtfContestEntity contest = saveContest(virtualMember, true);
+    List<Long> challengeIds = new ArrayList<>(challengeCount);
+    List<Long> dynamicChallengeIds = new ArrayList<>();
+    for (int i = 0; i < challengeCount; i++) {
+      CtfChallengeType type = i % 2 == 0 ? STANDARD : DYNAMIC;
+      CtfChallengeEntity challenge = saveChallenge(contest, virtualMember, type, i, virtualTeam);
+      challengeIds.add(challenge.getId());
+      if (type == DYNAMIC) {
+        dynamicChallengeIds.add(challenge.getId());
+      }
+    }
+
+    List<Long> teamIds = new ArrayList<>(teamCount);
+    List<Long> memberIds = new ArrayList<>(teamCount * MEMBER_COUNT_PER_TEAM);
+    for (int i = 0; i < teamCount; i++) {
+      MemberEntity creator = saveMember("team" + i + "_0");
+      CtfTeamEntity team = saveTeam(contest, creator, "team" + i);
+      teamHasMemberRepository.save(new CtfTeamHasMemberEntity(team, creator));
+      memberIds.add(creator.getId());
+      for (int j = 1; j < MEMBER_COUNT_PER_TEAM; j++) {
+        MemberEntity member = saveMember("team" + i + "_" + j);
+        teamHasMemberRepository.save(new CtfTeamHasMemberEntity(team, member));
+        memberIds.add(member.getId());
+      }
+      flagRepository.insertFlagForAllChallenges(team);
+      teamIds.add(team.getId());
+    }
+    return new CtfBenchmarkData(contest.getId(), teamIds, memberIds, challengeIds,
+        dynamicChallengeIds);
+  }
+
+  static String getFlag(int challengeIndex) {
+    return FLAG_PREFIX + challengeIndex + "}";
+  }
+
+  private MemberEntity saveMember(String name) {
+    return memberRepository.save(MemberEntity.builder()
+        .loginId("bench_" + name)
+        .emailAddress("bench_" + name + "@keeper.co.kr")
+        .password("keeper1234")
+        .realName(name)
+        .nickName(name)
+        .studentId("bench_" + name)
+        .point(0)
+        .level(0)
+        .merit(0)
+        .demerit(0)
+        .generation(0F)
+        .totalAttendance(0)
+        .build());
+  }
+
+  private CtfContestEntity saveContest(MemberEntity creator, boolean isJoinable) {
+    return contestRepository.save(CtfContestEntity.builder()
+        .name("benchmark")
+        .description("benchmark")
+        .registerTime(LocalDateTime.now())
+        .creator(creator)
+        .isJoinable(isJoinable)
+        .build());
+  }
+
+  private CtfTeamEntity saveTeam(CtfContestEntity contest, MemberEntity creator, String name) {
+    return teamRepository.save(CtfTeamEntity.builder()
+        .name(name)
+        .description(name)
+        .registerTime(LocalDateTime.now())
+        .creator(creator)
+        .score(0L)
+        .ctfContestEntity(contest)
+        .lastSolveTime(LocalDateTime.now())
+        .build());
+  }
+
+  private CtfChallengeEntity saveChallenge(CtfContestEntity contest, MemberEntity creator,
+      CtfChallengeType type, int index, CtfTeamEntity virtualTeam) {
+    CtfChallengeEntity challenge = challengeRepository.save(CtfChallengeEntity.builder()
+        .name("challenge" + index)
+        .description("challenge" + index)
+        .registerTime(LocalDateTime.now())
+        .creator(creator)
+        .isSolvable(true)
+        .ctfChallengeTypeEntity(typeRepository.getById(type.getId()))
+        .ctfChallengeHasCtfChallengeCategoryList(new ArrayList<>())
+        .score(1000L)
+        .ctfContestEntity(contest)
+        .ctfFlagEntity(new ArrayList<>())
+        .maxSubmitCount(Long.MAX_VALUE / 2)
+        .build());
+    challenge.getCtfChallengeHasCtfChallengeCategoryList().add(
+        challengeHasCategoryRepository.save(CtfChallengeHasCtfChallengeCategoryEntity.builder()
+            .challenge(challenge)
+            .category(categoryRepository.getById(MISC.getId()))
+            .build()));
+    if (type == DYNAMIC) {
+      challenge.setDynamicChallengeInfoEntity(CtfDynamicChallengeInfoEntity.builder()
+          .challengeId(challenge.getId())
+          .ctfChallengeEntity(challenge)
+          .maxScore(1000L)
+          .minScore(100L)
+          .build());
+    }
+    // 팀을 만들 때 문제별로 가장 먼저 만들어진 flag를 복사하므로 VIRTUAL TEAM의 flag를 먼저 만든다.
+    flagRepository.save(CtfFlagEntity.builder()
+        .content(getFlag(index))
+        .ctfTeamEntity(virtualTeam)
+        .ctfChallengeEntity(challenge)
+        .isCorrect(false)
+        .remainedSubmitCount(challenge.getMaxSubmitCount())
+        .build());
+    return challengeRepository.save(challenge);
+  }
+
+  record CtfBenchmarkData(Long ctfId, List<Long> teamIds, List<Long> memberIds,
+                          List<Long> challengeIds, List<Long> dynamicChallengeIds) {
+
+  }
+}
@@ -0,0 +1,110 @@
+package keeper.project.homepage.ctf.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import keeper.project.homepage.KeeperApplication;
+import keeper.project.homepage.ctf.benchmark.CtfBenchmarkSeeder.CtfBenchmarkData;
+import keeper.project.homepage.ctf.service.CtfSubmitRateLimiter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 벤치마크마다 H2(MySQL 모드) 위에 애플리케이션을 띄우고 {@link CtfBenchmarkSeeder}로 대회 하나를 만든다.
+ *
+ * <p>팀 수, 문제 수는 {@code -Pjmh.params=teamCount=200,challengeCount=30} 처럼 바꿀 수 있다.
+ */
+@State(Scope.Benchmark)
+public class CtfBenchmarkState {
+
+  private static final String[] PROPERTIES = {
+      "--spring.datasource.url=jdbc:h2:mem:ctf_benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+          + "DB_CLOSE_DELAY=-1",
+      "--spring.datasource.driver-class-name=org.h2.Driver",
+      "--spring.datasource.username=sa",
+      "--spring.datasource.password=",
+      "--spring.jpa.database=h2",
+      "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+      "--spring.jpa.hibernate.ddl-auto=create-drop",
+      "--spring.sql.init.mode=never",
+      "--spring.redis.host=localhost",
+      "--spring.redis.port=6379",
+      "--server.port=0",
+      "--server.tomcat.accesslog.enabled=false",
+      "--logging.level.root=WARN",
+      "--logging.level.org.springframework=WARN",
+      "--logging.level.org.hibernate=WARN",
+  };
+
+  @Param({"50", "200"})
+  public int teamCount;
+
+  @Param({"30"})
+  public int challengeCount;
+
+  ConfigurableApplicationContext context;
+  CtfBenchmarkData data;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(KeeperApplication.class,
+        RateLimiterOverride.class).run(PROPERTIES);
+    data = getBean(TransactionTemplate.class).execute(status ->
+        new CtfBenchmarkSeeder(context).seed(teamCount, challengeCount));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+    context.close();
+  }
+
+  <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  Long getMemberId(int memberIndex) {
+    return data.memberIds().get(memberIndex % data.memberIds().size());
+  }
+
+  int getMemberCount() {
+    return data.memberIds().size();
+  }
+
+  static void authenticate(Long memberId) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(memberId, "keeper1234",
+            List.of(new SimpleGrantedAuthority("ROLE_회원"))));
+  }
+
+  /**
+   * 같은 (팀, 문제)를 반복해서 제출해도 채점 경로를 측정할 수 있도록 메모리의 제출 횟수 제한을 끈다.
+   * DB의 마지막 제출 시간 확인은 그대로 동작한다.
+   */
+  @Configuration
+  static class RateLimiterOverride {
+
+    @Bean
+    @Primary
+    CtfSubmitRateLimiter benchmarkSubmitRateLimiter(MeterRegistry meterRegistry) {
+      return new CtfSubmitRateLimiter(meterRegistry) {
+        @Override
+        public boolean tryAcquire(Long teamId, Long challengeId) {
+          return true;
+        }
+      };
+    }
+  }
+}
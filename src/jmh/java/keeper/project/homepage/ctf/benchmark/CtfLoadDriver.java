@@ -0,0 +1,295 @@
+package keeper.project.homepage.ctf.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실행 중인 로컬 서버에 대회 중 요청을 흉내 낸 부하를 주고, 요청 종류별 p50/p99 응답 시간과 처리량을 출력한다.
+ *
+ * <p>계정 파일의 한 줄({@code loginId,password})마다 사용자 하나가 로그인한 뒤, 정해진 비율로 스코어보드 조회,
+ * 문제 목록 조회, 오답 제출을 반복한다. 계정은 대회에 참가한 팀의 팀원이어야 한다.
+ *
+ * <pre>
+ * ./gradlew ctfLoadTest -PctfLoad="ctfId=2 challenges=3,4,5 accounts=accounts.csv duration=60"
+ * </pre>
+ *
+ * <p>운영 서버에 부하를 주지 않도록 localhost 이외의 주소는 거부한다.
+ */
+public class CtfLoadDriver {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  enum Operation {
+    RANKING, CHALLENGE_LIST, SUBMIT
+  }
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+  private final URI baseUri;
+  private final long ctfId;
+  private final long[] challengeIds;
+  private final Map<Operation, Integer> weights;
+  private final long thinkTimeMs;
+
+  CtfLoadDriver(URI baseUri, long ctfId, long[] challengeIds, Map<Operation, Integer> weights,
+      long thinkTimeMs) {
+    this.baseUri = baseUri;
+    this.ctfId = ctfId;
+    this.challengeIds = challengeIds;
+    this.weights = weights;
+    this.thinkTimeMs = thinkTimeMs;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parseOptions(args);
+    URI baseUri = URI.create(options.getOrDefault("baseUrl", "http://localhost:8080"));
+    checkLocalOnly(baseUri);
+
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    weights.put(Operation.RANKING, Integer.parseInt(options.getOrDefault("ranking", "60")));
+    weights.put(Operation.CHALLENGE_LIST, Integer.parseInt(options.getOrDefault("list", "25")));
+    weights.put(Operation.SUBMIT, Integer.parseInt(options.getOrDefault("submit", "15")));
+
+    CtfLoadDriver driver = new CtfLoadDriver(baseUri,
+        Long.parseLong(getRequired(options, "ctfId")),
+        Arrays.stream(getRequired(options, "challenges").split(","))
+            .mapToLong(Long::parseLong)
+            .toArray(),
+        weights,
+        Long.parseLong(options.getOrDefault("thinkTimeMs", "200")));
+    List<String[]> accounts = Files.readAllLines(Path.of(getRequired(options, "accounts")))
+        .stream()
+        .filter(line -> !line.isBlank())
+        .map(line -> line.trim().split(","))
+        .toList();
+    Duration duration = Duration.ofSeconds(
+        Long.parseLong(options.getOrDefault("duration", "60")));
+
+    driver.run(accounts, duration).print(duration);
+  }
+
+  Report run(List<String[]> accounts, Duration duration) throws Exception {
+    List<String> tokens = new ArrayList<>(accounts.size());
+    for (String[] account : accounts) {
+      tokens.add(signIn(account[0], account[1]));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(tokens.size());
+    long endTime = System.nanoTime() + duration.toNanos();
+    try {
+      List<Future<Report>> futures = new ArrayList<>();
+      for (String token : tokens) {
+        futures.add(executor.submit(() -> runUser(token, endTime)));
+      }
+      Report total = new Report();
+      for (Future<Report> future : futures) {
+        total.merge(future.get());
+      }
+      return total;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Report runUser(String token, long endTime) throws InterruptedException {
+    Report report = new Report();
+    while (System.nanoTime() < endTime) {
+      Operation operation = nextOperation();
+      HttpRequest request = buildRequest(operation, token);
+      long start = System.nanoTime();
+      boolean success;
+      try {
+        HttpResponse<Void> response = httpClient.send(request, BodyHandlers.discarding());
+        success = response.statusCode() < 500;
+      } catch (IOException e) {
+        success = false;
+      }
+      report.record(operation, System.nanoTime() - start, success);
+      if (thinkTimeMs > 0) {
+        Thread.sleep(ThreadLocalRandom.current().nextLong(thinkTimeMs * 2 + 1));
+      }
+    }
+    return report;
+  }
+
+  private Operation nextOperation() {
+    int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+    int pick = ThreadLocalRandom.current().nextInt(total);
+    for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+      pick -= entry.getValue();
+      if (pick < 0) {
+        return entry.getKey();
+      }
+    }
+    return Operation.RANKING;
+  }
+
+  private HttpRequest buildRequest(Operation operation, String token) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder()
+        .header("Authorization", "Bearer " + token)
+        .timeout(Duration.ofSeconds(10));
+    switch (operation) {
+      case RANKING:
+        return builder.uri(baseUri.resolve("/v1/ctf/ranking?ctfId=" + ctfId + "&page=0&size=20"))
+            .GET()
+            .build();
+      case CHALLENGE_LIST:
+        return builder.uri(baseUri.resolve("/v1/ctf/prob?cid=" + ctfId))
+            .GET()
+            .build();
+      default:
+        long challengeId = challengeIds[ThreadLocalRandom.current().nextInt(challengeIds.length)];
+        return builder.uri(baseUri.resolve("/v1/ctf/prob/" + challengeId + "/submit/flag"))
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString("{\"content\":\"keeper{load_test}\"}"))
+            .build();
+    }
+  }
+
+  private String signIn(String loginId, String password) throws IOException, InterruptedException {
+    String body = OBJECT_MAPPER.writeValueAsString(
+        Map.of("loginId", loginId, "password", password));
+    HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder()
+            .uri(baseUri.resolve("/v1/signin"))
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(body))
+            .build(),
+        BodyHandlers.ofString());
+    String token = OBJECT_MAPPER.readTree(response.body()).path("data").path("token").asText(null);
+    if (token == null) {
+      throw new IllegalStateException("로그인 실패 : " + loginId + " " + response.body());
+    }
+    return token;
+  }
+
+  private static void checkLocalOnly(URI baseUri) throws IOException {
+    if (!InetAddress.getByName(baseUri.getHost()).isLoopbackAddress()) {
+      throw new IllegalArgumentException("localhost 서버에만 부하를 줄 수 있습니다 : " + baseUri);
+    }
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator > 0) {
+        options.put(arg.substring(0, separator), arg.substring(separator + 1));
+      }
+    }
+    return options;
+  }
+
+  private static String getRequired(Map<String, String> options, String key) {
+    String value = options.get(key);
+    if (value == null) {
+      throw new IllegalArgumentException(key + " 옵션이 필요합니다.");
+    }
+    return value;
+  }
+
+  /**
+   * 요청 종류별 응답 시간. 로컬 실행용이므로 모든 값을 저장했다가 정렬해서 백분위를 구한다.
+   */
+  static class Report {
+
+    private final Map<Operation, LatencyList> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+      latencies.computeIfAbsent(operation, key -> new LatencyList()).add(latencyNanos);
+      if (!success) {
+        errors.merge(operation, 1L, Long::sum);
+      }
+    }
+
+    void merge(Report other) {
+      other.latencies.forEach((operation, list) ->
+          latencies.computeIfAbsent(operation, key -> new LatencyList()).addAll(list));
+      other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+    }
+
+    void print(Duration duration) {
+      double seconds = duration.toMillis() / 1000.0;
+      System.out.printf("%-15s %10s %8s %10s %10s %10s %10s%n",
+          "operation", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+      LatencyList all = new LatencyList();
+      long allErrors = 0;
+      for (Operation operation : Operation.values()) {
+        LatencyList list = latencies.get(operation);
+        if (list == null) {
+          continue;
+        }
+        long errorCount = errors.getOrDefault(operation, 0L);
+        printRow(operation.name(), list, errorCount, seconds);
+        all.addAll(list);
+        allErrors += errorCount;
+      }
+      printRow("TOTAL", all, allErrors, seconds);
+    }
+
+    private static void printRow(String name, LatencyList list, long errorCount, double seconds) {
+      long[] sorted = list.toSortedArray();
+      System.out.printf("%-15s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+          name, sorted.length, errorCount, sorted.length / seconds,
+          toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.99)),
+          toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double ratio) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(ratio * sorted.length) - 1;
+      return sorted[Math.max(index, 0)];
+    }
+
+    private static double toMillis(long nanos) {
+      return nanos / 1_000_000.0;
+    }
+  }
+
+  private static class LatencyList {
+
+    private long[] values = new long[1024];
+    private int size;
+
+    void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    void addAll(LatencyList other) {
+      for (int i = 0; i < other.size; i++) {
+        add(other.values[i]);
+      }
+    }
+
+    long[] toSortedArray() {
+      long[] sorted = Arrays.copyOf(values, size);
+      Arrays.sort(sorted);
+      return sorted;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package keeper.project.homepage.ctf.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import keeper.project.homepage.ctf.dto.CtfFlagDto;
+import keeper.project.homepage.ctf.dto.CtfRankingDto;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.exception.CustomTooFastRetryException;
+import keeper.project.homepage.ctf.repository.CtfChallengeRepository;
+import keeper.project.homepage.ctf.service.CtfChallengeService;
+import keeper.project.homepage.ctf.service.CtfRankingService;
+import keeper.project.homepage.util.service.CtfUtilService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.AuxCounters.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대회 중 자주 호출되는 CTF 서비스 메소드의 처리량.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * ./gradlew jmh -Pjmh.includes=CtfServiceBenchmark.checkFlag -Pjmh.params=teamCount=200
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CtfServiceBenchmark {
+
+  private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+  /**
+   * 스레드마다 다른 팀원으로 제출한다. 같은 팀원은 문제를 돌아가며 제출한다.
+   */
+  @State(Scope.Thread)
+  public static class Submitter {
+
+    private static int nextMemberIndex;
+
+    int memberIndex;
+    int challengeIndex;
+
+    @Setup(Level.Trial)
+    public void setUp(CtfBenchmarkState state) {
+      synchronized (Submitter.class) {
+        memberIndex = nextMemberIndex++ % state.getMemberCount();
+      }
+      CtfBenchmarkState.authenticate(state.getMemberId(memberIndex));
+    }
+  }
+
+  /**
+   * 채점까지 진행된 제출과 DB의 마지막 제출 시간 때문에 거절된 제출을 따로 센다.
+   */
+  @AuxCounters(Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class SubmitResult {
+
+    public long scored;
+    public long rejected;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      scored = 0;
+      rejected = 0;
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object checkFlag(CtfBenchmarkState state, Submitter submitter, SubmitResult result) {
+    List<Long> challengeIds = state.data.challengeIds();
+    int challengeIndex = submitter.challengeIndex++ % challengeIds.size();
+    CtfFlagDto submitFlag = CtfFlagDto.builder().content("keeper{wrong}").build();
+    try {
+      CtfFlagDto checked = state.getBean(CtfChallengeService.class)
+          .checkFlag(challengeIds.get(challengeIndex), submitFlag);
+      result.scored++;
+      return checked;
+    } catch (CustomTooFastRetryException e) {
+      result.rejected++;
+      return e;
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Page<CtfRankingDto> getRankingList(CtfBenchmarkState state) {
+    return state.getBean(CtfRankingService.class).getRankingList(state.data.ctfId(), FIRST_PAGE);
+  }
+
+  @Benchmark
+  public Object setDynamicScore(CtfBenchmarkState state, Submitter submitter) {
+    List<Long> dynamicChallengeIds = state.data.dynamicChallengeIds();
+    Long challengeId = dynamicChallengeIds.get(
+        submitter.challengeIndex++ % dynamicChallengeIds.size());
+    return state.getBean(TransactionTemplate.class).execute(status -> {
+      CtfChallengeEntity challenge = state.getBean(CtfChallengeRepository.class)
+          .findById(challengeId)
+          .orElseThrow();
+      state.getBean(CtfUtilService.class).setDynamicScore(challenge);
+      return challenge.getScore();
+    });
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object getTeamHasMemberEntity(CtfBenchmarkState state, Submitter submitter) {
+    TransactionTemplate transactionTemplate = state.getBean(TransactionTemplate.class);
+    return transactionTemplate.execute(status -> state.getBean(CtfUtilService.class)
+        .getTeamHasMemberEntity(state.data.ctfId(), state.getMemberId(submitter.memberIndex))
+        .getTeam()
+        .getId());
+  }
+}
@@ -3,7 +3,7 @@ package keeper.project.homepage.attendance.controller;
 import static keeper.project.homepage.util.ClientUtil.getUserIP;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import keeper.project.homepage.attendance.dto.AttendanceDto;
 import keeper.project.homepage.attendance.dto.AttendanceResultDto;
@@ -84,7 +84,7 @@ public class AttendanceController {
   }
 
   @GetMapping(value = "/point-info")
-  public SingleResult<HashMap<String, Integer>> getPointInfo() throws IllegalAccessException {
+  public SingleResult<Map<String, Integer>> getPointInfo() {
     return responseService.getSuccessSingleResult(
         attendanceService.getAllBonusPointInfo());
   }
@@ -11,6 +11,8 @@ public interface AttendanceRepository extends JpaRepository<AttendanceEntity, Lo
 
   Optional<AttendanceEntity> findTopByMemberOrderByIdDesc(MemberEntity memberEntity);
 
+  Optional<AttendanceEntity> findTopByMember_IdOrderByIdDesc(Long memberId);
+
   List<AttendanceEntity> findAllByMember(MemberEntity memberEntity);
 
   List<AttendanceEntity> findAllByTimeBetween(LocalDateTime time, LocalDateTime time2);
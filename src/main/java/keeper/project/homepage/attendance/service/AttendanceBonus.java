@@ -0,0 +1,142 @@
+package keeper.project.homepage.attendance.service;
+
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.DAILY_ATTENDANCE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.FIRST_PLACE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.MONTH_ATTENDANCE;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.MONTH_ATTENDANCE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.SECOND_PLACE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.THIRD_PLACE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.WEEK_ATTENDANCE;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.WEEK_ATTENDANCE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.YEAR_ATTENDANCE;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.YEAR_ATTENDANCE_POINT;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import keeper.project.homepage.attendance.dto.AttendancePointDto;
+
+/**
+ * 순위 포인트와 주/월/연 개근 포인트를 계산한다.
+ *
+ * <p>날짜(day of year)마다 개근으로 인정받는 데 필요한 연속 출석 일수를 연도별 표로 한 번만 만들어 두고, 출석할 때는
+ * 표에서 읽기만 한다. 표는 마지막으로 사용한 연도 하나만 유지한다.
+ */
+final class AttendanceBonus {
+
+  // 개근 날이 아니면 0
+  private static final int NOT_BONUS_DAY = 0;
+
+  private static final Map<String, Integer> BONUS_POINT_INFO = createBonusPointInfo();
+
+  private static volatile YearTable yearTable = YearTable.of(LocalDate.now().getYear());
+
+  private AttendanceBonus() {
+  }
+
+  static int getRankPoint(long rank) {
+    if (rank == 1) {
+      return FIRST_PLACE_POINT;
+    } else if (rank == 2) {
+      return SECOND_PLACE_POINT;
+    } else if (rank == 3) {
+      return THIRD_PLACE_POINT;
+    }
+    return 0;
+  }
+
+  /**
+   * 토요일에는 {@link AttendancePointDto#WEEK_ATTENDANCE}일, 매달 마지막 날에는 그 달의 일수, 12월 31일에는 그 해의
+   * 일수 이상 연속으로 출석했으면 개근 포인트를 준다.
+   */
+  static int getContinuousPoint(int continuousDay, LocalDate date) {
+    YearTable table = getYearTable(date.getYear());
+    int dayOfYear = date.getDayOfYear();
+
+    int continuousPoint = 0;
+    if (isPerfectAttendance(continuousDay, table.weekRequiredDays[dayOfYear])) {
+      continuousPoint += WEEK_ATTENDANCE_POINT;
+    }
+    if (isPerfectAttendance(continuousDay, table.monthRequiredDays[dayOfYear])) {
+      continuousPoint += MONTH_ATTENDANCE_POINT;
+    }
+    if (isPerfectAttendance(continuousDay, table.yearRequiredDays[dayOfYear])) {
+      continuousPoint += YEAR_ATTENDANCE_POINT;
+    }
+    return continuousPoint;
+  }
+
+  /**
+   * {@link AttendancePointDto}의 포인트 정보. 바뀌지 않으므로 처음 한 번만 만든다.
+   */
+  static Map<String, Integer> getBonusPointInfo() {
+    return BONUS_POINT_INFO;
+  }
+
+  private static boolean isPerfectAttendance(int continuousDay, int requiredDays) {
+    return requiredDays != NOT_BONUS_DAY && continuousDay >= requiredDays;
+  }
+
+  private static YearTable getYearTable(int year) {
+    YearTable table = yearTable;
+    if (table.year != year) {
+      // 해가 바뀔 때 여러 스레드가 동시에 만들어도 결과가 같으므로 잠그지 않는다.
+      table = YearTable.of(year);
+      yearTable = table;
+    }
+    return table;
+  }
+
+  private static Map<String, Integer> createBonusPointInfo() {
+    Map<String, Integer> bonusPointInfo = new LinkedHashMap<>();
+    bonusPointInfo.put("FIRST_PLACE_POINT", FIRST_PLACE_POINT);
+    bonusPointInfo.put("SECOND_PLACE_POINT", SECOND_PLACE_POINT);
+    bonusPointInfo.put("THIRD_PLACE_POINT", THIRD_PLACE_POINT);
+    bonusPointInfo.put("WEEK_ATTENDANCE", WEEK_ATTENDANCE);
+    bonusPointInfo.put("MONTH_ATTENDANCE", MONTH_ATTENDANCE);
+    bonusPointInfo.put("YEAR_ATTENDANCE", YEAR_ATTENDANCE);
+    bonusPointInfo.put("DAILY_ATTENDANCE_POINT", DAILY_ATTENDANCE_POINT);
+    bonusPointInfo.put("WEEK_ATTENDANCE_POINT", WEEK_ATTENDANCE_POINT);
+    bonusPointInfo.put("MONTH_ATTENDANCE_POINT", MONTH_ATTENDANCE_POINT);
+    bonusPointInfo.put("YEAR_ATTENDANCE_POINT", YEAR_ATTENDANCE_POINT);
+    return Collections.unmodifiableMap(bonusPointInfo);
+  }
+
+  /**
+   * 한 해의 날짜(day of year, 1부터 시작)별로 주/월/연 개근에 필요한 연속 출석 일수. 개근 날이 아니면
+   * {@link #NOT_BONUS_DAY}.
+   */
+  private static final class YearTable {
+
+    private final int year;
+    private final int[] weekRequiredDays;
+    private final int[] monthRequiredDays;
+    private final int[] yearRequiredDays;
+
+    private YearTable(int year, int lengthOfYear) {
+      this.year = year;
+      this.weekRequiredDays = new int[lengthOfYear + 1];
+      this.monthRequiredDays = new int[lengthOfYear + 1];
+      this.yearRequiredDays = new int[lengthOfYear + 1];
+    }
+
+    static YearTable of(int year) {
+      int lengthOfYear = Year.of(year).length();
+      YearTable table = new YearTable(year, lengthOfYear);
+      for (int dayOfYear = 1; dayOfYear <= lengthOfYear; dayOfYear++) {
+        LocalDate date = LocalDate.ofYearDay(year, dayOfYear);
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY) {
+          table.weekRequiredDays[dayOfYear] = WEEK_ATTENDANCE;
+        }
+        if (date.getDayOfMonth() == date.lengthOfMonth()) {
+          table.monthRequiredDays[dayOfYear] = date.lengthOfMonth();
+        }
+      }
+      table.yearRequiredDays[lengthOfYear] = lengthOfYear;
+      return table;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package keeper.project.homepage.attendance.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import keeper.project.homepage.attendance.entity.AttendanceEntity;
+import keeper.project.homepage.attendance.exception.CustomAttendanceException;
+import keeper.project.homepage.attendance.repository.AttendanceRepository;
+import keeper.project.homepage.util.redis.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 출석 중복 확인, 오늘의 출석 순위, 연속 출석 일수를 Redis Lua script 하나로 처리한다.
+ *
+ * <p>회원마다 마지막 출석 날짜와 연속 출석 일수({@code yyyy-MM-dd|일수})를 저장한다. 마지막 출석 날짜가 오늘이면
+ * 이미 출석한 것이므로, 동시에 여러 번 요청해도 한 번만 순위를 받는다. Redis에 값이 없으면(처음 출석, 만료, Redis 재시작)
+ * DB의 마지막 출석으로 한 번 더 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceCheckIn {
+
+  private static final String RANK_KEY_PREFIX = "attendance:";
+  private static final String LAST_ATTENDANCE_KEY_PREFIX = "attendance:last:";
+  private static final long RANK_EXPIRE_SECONDS = 60 * 60 * 24;
+  // 다음 날 연속 출석을 확인해야 하므로 이틀 동안 유지한다.
+  private static final long LAST_ATTENDANCE_EXPIRE_SECONDS = 60 * 60 * 24 * 2;
+  private static final String NO_ATTENDANCE = "none|0";
+
+  private static final long ALREADY_ATTENDED = -1;
+  private static final long NOT_LOADED = -2;
+
+  /**
+   * KEYS : 마지막 출석, 오늘의 순위 <br>
+   * ARGV : 오늘, 어제, DB의 마지막 출석(없으면 빈 문자열), 순위 TTL, 마지막 출석 TTL
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CHECK_IN_SCRIPT = RedisScript.of("""
+      local last = redis.call('GET', KEYS[1])
+      if not last then
+        if ARGV[3] == '' then
+          return {-2, 0}
+        end
+        last = ARGV[3]
+      end
+      local separator = string.find(last, '|', 1, true)
+      local lastDate = string.sub(last, 1, separator - 1)
+      local lastContinuousDay = tonumber(string.sub(last, separator + 1))
+      if lastDate == ARGV[1] then
+        return {-1, lastContinuousDay}
+      end
+      local continuousDay = 1
+      if lastDate == ARGV[2] then
+        continuousDay = lastContinuousDay + 1
+      end
+      redis.call('SET', KEYS[1], ARGV[1] .. '|' .. continuousDay, 'EX', ARGV[5])
+      local rank = redis.call('INCR', KEYS[2])
+      if redis.call('TTL', KEYS[2]) < 0 then
+        redis.call('EXPIRE', KEYS[2], ARGV[4])
+      end
+      return {rank, continuousDay}
+      """, List.class);
+
+  private final RedisUtil redisUtil;
+  private final AttendanceRepository attendanceRepository;
+
+  public Result checkIn(Long memberId, LocalDate today) {
+    List<?> result = execute(memberId, today, "");
+    if (toLong(result.get(0)) == NOT_LOADED) {
+      result = execute(memberId, today, getLastAttendance(memberId));
+    }
+    if (toLong(result.get(0)) == ALREADY_ATTENDED) {
+      throw new CustomAttendanceException("이미 출석을 완료했습니다.");
+    }
+    return new Result(toLong(result.get(0)), (int) toLong(result.get(1)));
+  }
+
+  /**
+   * 출석이 DB에 저장되지 않았을 때 호출한다. 다음 출석 때 DB의 마지막 출석으로 다시 확인한다.
+   */
+  public void evict(Long memberId) {
+    redisUtil.deleteData(LAST_ATTENDANCE_KEY_PREFIX + memberId);
+  }
+
+  private List<?> execute(Long memberId, LocalDate today, String lastAttendance) {
+    return redisUtil.execute(CHECK_IN_SCRIPT,
+        List.of(LAST_ATTENDANCE_KEY_PREFIX + memberId, RANK_KEY_PREFIX + today),
+        today.toString(),
+        today.minusDays(1).toString(),
+        lastAttendance,
+        String.valueOf(RANK_EXPIRE_SECONDS),
+        String.valueOf(LAST_ATTENDANCE_EXPIRE_SECONDS));
+  }
+
+  private String getLastAttendance(Long memberId) {
+    return attendanceRepository.findTopByMember_IdOrderByIdDesc(memberId)
+        .map(AttendanceCheckIn::toLastAttendance)
+        .orElse(NO_ATTENDANCE);
+  }
+
+  private static String toLastAttendance(AttendanceEntity attendance) {
+    return attendance.getTime().toLocalDate() + "|" + attendance.getContinuousDay();
+  }
+
+  private static long toLong(Object value) {
+    return ((Number) value).longValue();
+  }
+
+  public record Result(long rank, int continuousDay) {
+
+  }
+}
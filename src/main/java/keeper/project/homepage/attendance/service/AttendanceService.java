@@ -2,31 +2,16 @@ package keeper.project.homepage.attendance.service;
 
 
 import static keeper.project.homepage.attendance.dto.AttendancePointDto.DAILY_ATTENDANCE_POINT;
-import static keeper.project.homepage.attendance.dto.AttendancePointDto.FIRST_PLACE_POINT;
-import static keeper.project.homepage.attendance.dto.AttendancePointDto.MONTH_ATTENDANCE_POINT;
-import static keeper.project.homepage.attendance.dto.AttendancePointDto.SECOND_PLACE_POINT;
-import static keeper.project.homepage.attendance.dto.AttendancePointDto.THIRD_PLACE_POINT;
-import static keeper.project.homepage.attendance.dto.AttendancePointDto.WEEK_ATTENDANCE;
-import static keeper.project.homepage.attendance.dto.AttendancePointDto.WEEK_ATTENDANCE_POINT;
-import static keeper.project.homepage.attendance.dto.AttendancePointDto.YEAR_ATTENDANCE_POINT;
-import static keeper.project.homepage.attendance.service.DateUtils.isBeforeDay;
-import static keeper.project.homepage.attendance.service.DateUtils.isToday;
-
-import java.lang.reflect.Field;
-import java.sql.Timestamp;
-import java.time.DayOfWeek;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import keeper.project.homepage.point.dto.request.PointLogRequestDto;
 import keeper.project.homepage.attendance.dto.AttendanceDto;
-import keeper.project.homepage.attendance.dto.AttendancePointDto;
 import keeper.project.homepage.attendance.dto.AttendanceResultDto;
 import keeper.project.homepage.attendance.entity.AttendanceEntity;
 import keeper.project.homepage.member.entity.MemberEntity;
@@ -34,11 +19,11 @@ import keeper.project.homepage.attendance.exception.CustomAttendanceException;
 import keeper.project.homepage.member.exception.CustomMemberNotFoundException;
 import keeper.project.homepage.attendance.repository.AttendanceRepository;
 import keeper.project.homepage.member.repository.MemberRepository;
-import keeper.project.homepage.util.redis.RedisUtil;
 import keeper.project.homepage.util.service.auth.AuthService;
-import keeper.project.homepage.point.service.PointLogService;
+import keeper.project.homepage.attendance.service.AttendanceWriter.PendingAttendance;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -49,73 +34,51 @@ public class AttendanceService {
   private final AttendanceRepository attendanceRepository;
   private final MemberRepository memberRepository;
   private final AuthService authService;
-  private final PointLogService pointLogService;
-  private final RedisUtil redisUtil;
+  private final AttendanceCheckIn attendanceCheckIn;
+  private final AttendanceWriter attendanceWriter;
 
-  private static final long rankDataExpireDuration = 60 * 60 * 24; // 60s * 60m * 24h로 하루를 의미함.
   private static final int MIN_POINT = 100;
   private static final int MAX_POINT = 1000;
   private static final String DEFAULT_GREETINGS = "자동 출석입니다.";
-  private static final List<Integer> LEAP_YEAR_DAY_OF_MONTH = List.of(0, 31, 29, 31, 30, 31, 30,
-      31, 31, 30, 31, 30, 31);
-  private static final List<Integer> NON_LEAP_YEAR_DAY_OF_MONTH = List.of(0, 31, 28, 31, 30, 31, 30,
-      31, 31, 30, 31, 30, 31);
 
-  @Transactional
+  /**
+   * 중복 확인, 순위, 연속 출석 일수는 {@link AttendanceCheckIn}에서 한 번에 처리하고, 출석 기록과 포인트 로그는
+   * {@link AttendanceWriter}가 백그라운드에서 저장한다. DB를 사용하지 않으므로 트랜잭션 없이 실행한다.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void save(AttendanceDto attendanceDto) {
-
-    if (isAlreadyAttendance()) {
-      throw new CustomAttendanceException("이미 출석을 완료했습니다.");
-    }
-    MemberEntity memberEntity = getMemberEntityWithJWT();
-
-    int point = saveAttendance(attendanceDto, memberEntity);
-    createPointSaveLog(point, memberEntity);
+    saveAttendance(attendanceDto, authService.getMemberIdByJWT());
   }
 
-  @Transactional
-  int saveAttendance(AttendanceDto attendanceDto, MemberEntity memberEntity) {
+  void saveAttendance(AttendanceDto attendanceDto, Long memberId) {
     LocalDateTime now = LocalDateTime.now();
+    LocalDate today = now.toLocalDate();
 
     String greeting = attendanceDto.getGreetings();
     if (greeting == "" || greeting == null) {
       greeting = DEFAULT_GREETINGS;
     }
 
-    long rank = getMyTodayRank(now, memberEntity);
-    int rankPoint = 0;
-    if (rank == 1) {
-      rankPoint += FIRST_PLACE_POINT;
-    } else if (rank == 2) {
-      rankPoint += SECOND_PLACE_POINT;
-    } else if (rank == 3) {
-      rankPoint += THIRD_PLACE_POINT;
-    }
+    AttendanceCheckIn.Result checkIn = attendanceCheckIn.checkIn(memberId, today);
+    long rank = checkIn.rank();
+    int rankPoint = AttendanceBonus.getRankPoint(rank);
 
-    int continuousDay = getContinuousDay();
-    int continuousPoint = getContinuousPoint(continuousDay, now);
+    int continuousDay = checkIn.continuousDay();
+    int continuousPoint = AttendanceBonus.getContinuousPoint(continuousDay, today);
     int randomPoint = getRandomPointBetween(MIN_POINT, MAX_POINT);
     int totalPoint = continuousPoint + DAILY_ATTENDANCE_POINT + randomPoint + rankPoint;
-    attendanceRepository.save(AttendanceEntity.builder()
-        .point(totalPoint)
-        .rankPoint(0)
-        .continuousPoint(continuousPoint)
-        .continuousDay(continuousDay)
+    attendanceWriter.write(PendingAttendance.builder()
+        .memberId(memberId)
+        .time(now)
         .greetings(greeting)
         .ipAddress(attendanceDto.getIpAddress())
-        .time(now)
-        .date(now.toLocalDate())
-        .member(memberEntity)
+        .point(totalPoint)
+        .continuousDay(continuousDay)
+        .continuousPoint(continuousPoint)
         .randomPoint(randomPoint)
         .rankPoint(rankPoint)
         .rank(rank)
         .build());
-    return totalPoint;
-  }
-
-  private void createPointSaveLog(int point, MemberEntity memberEntity) {
-    pointLogService.createPointSaveLog(memberEntity,
-        new PointLogRequestDto(LocalDateTime.now(), point, "출석 포인트"));
   }
 
   private int getRandomPointBetween(int min, int max) {
@@ -125,60 +88,13 @@ public class AttendanceService {
     return (int) (Math.random() * (max - min) + min);
   }
 
-  private int getContinuousPoint(int continuousDay, LocalDateTime now) {
-    List<Integer> dayOfMonth;
-    if (isLeapYear(now.getYear())) {
-      dayOfMonth = LEAP_YEAR_DAY_OF_MONTH;
-    } else {
-      dayOfMonth = NON_LEAP_YEAR_DAY_OF_MONTH;
-    }
-
-    int continuousPoint = 0;
-    if (isWeekPerfectAttendance(continuousDay, now)) {
-      continuousPoint += WEEK_ATTENDANCE_POINT;
-    }
-    if (isMonthPerfectAttendance(continuousDay, now, dayOfMonth)) {
-      continuousPoint += MONTH_ATTENDANCE_POINT;
-    }
-    if (isYearPerfectAttendance(continuousDay, now, dayOfMonth)) {
-      continuousPoint += YEAR_ATTENDANCE_POINT;
-    }
-
-    return continuousPoint;
-  }
-
-  private boolean isWeekPerfectAttendance(int continuousDay, LocalDateTime now) {
-    return now.getDayOfWeek() == DayOfWeek.SATURDAY && continuousDay >= WEEK_ATTENDANCE;
-  }
-
-  private boolean isMonthPerfectAttendance(int continuousDay, LocalDateTime now,
-      List<Integer> dayOfMonth) {
-    return now.getDayOfMonth() == dayOfMonth.get(now.getMonthValue())
-        && continuousDay >= dayOfMonth.get(now.getMonthValue());
-  }
-
-  private boolean isYearPerfectAttendance(int continuousDay, LocalDateTime now,
-      List<Integer> dayOfMonth) {
-    return now.getMonthValue() == 12 && now.getDayOfMonth() == 31
-        && continuousDay >= dayOfMonth.stream().mapToInt(Integer::intValue).sum();
-  }
-
-  private static boolean isLeapYear(int year) {
-    Calendar cal = Calendar.getInstance();
-    cal.set(Calendar.YEAR, year);
-    return cal.getActualMaximum(Calendar.DAY_OF_YEAR) > 365;
-  }
-
-  private long getMyTodayRank(LocalDateTime now, MemberEntity memberEntity) {
-    String todayKey = "attendance:" + now.toLocalDate().toString();
-    return redisUtil.increaseAndGetWithExpire(todayKey, rankDataExpireDuration);
-  }
-
   @Transactional
   public void updateGreeting(AttendanceDto attendanceDto) {
+    // 트랜잭션에서 처음 읽기 전에 저장해야 방금 한 출석이 보인다.
+    attendanceWriter.saveNow(authService.getMemberIdByJWT());
     AttendanceEntity attendanceEntity = getMostRecentlyAttendance();
 
-    if (!isToday(Timestamp.valueOf(attendanceEntity.getTime()))) {
+    if (!attendanceEntity.getTime().toLocalDate().equals(LocalDate.now())) {
       throw new CustomAttendanceException("출석을 하지 않았습니다.");
     }
     String greeting = attendanceDto.getGreetings();
@@ -207,6 +123,7 @@ public class AttendanceService {
     if (date == null) {
       throw new CustomAttendanceException("date를 입력하지 않았습니다.");
     }
+    attendanceWriter.saveNow(authService.getMemberIdByJWT());
     MemberEntity member = getMemberEntityWithJWT();
 
     LocalDateTime startDate = date.atStartOfDay();
@@ -254,15 +171,8 @@ public class AttendanceService {
     return attendanceResultDtoList;
   }
 
-  public HashMap<String, Integer> getAllBonusPointInfo() throws IllegalAccessException {
-    Field[] declaredFields = AttendancePointDto.class.getDeclaredFields();
-    HashMap<String, Integer> staticFields = new HashMap<>();
-    for (Field field : declaredFields) {
-      if (java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
-        staticFields.put(field.getName(), field.getInt(null));
-      }
-    }
-    return staticFields;
+  public Map<String, Integer> getAllBonusPointInfo() {
+    return AttendanceBonus.getBonusPointInfo();
   }
 
   private List<AttendanceEntity> getAttendanceEntitiesInPeriodWithMemberId(
@@ -299,31 +209,4 @@ public class AttendanceService {
     }
     return member.get();
   }
-
-  private int getContinuousDay() {
-    AttendanceEntity recentAttendanceEntity = getMostRecentlyAttendance();
-    if (recentAttendanceEntity == null) {
-      return 1;
-    }
-
-    int continuousDay = 1;
-    if (isConsecutiveAttendance(recentAttendanceEntity.getTime())) {
-      continuousDay = recentAttendanceEntity.getContinuousDay() + 1;
-    }
-    return continuousDay;
-  }
-
-  private static boolean isConsecutiveAttendance(LocalDateTime recentAttendanceTime) {
-    return recentAttendanceTime.plusDays(1).getDayOfMonth() == LocalDate.now()
-        .getDayOfMonth();
-  }
-
-  private boolean isAlreadyAttendance() {
-    AttendanceEntity recentAttendanceEntity = getMostRecentlyAttendance();
-    if (recentAttendanceEntity == null) {
-      return false;
-    }
-
-    return isToday(Timestamp.valueOf(recentAttendanceEntity.getTime()));
-  }
 }
@@ -0,0 +1,164 @@
+package keeper.project.homepage.attendance.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import keeper.project.homepage.attendance.entity.AttendanceEntity;
+import keeper.project.homepage.attendance.repository.AttendanceRepository;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.exception.CustomMemberNotFoundException;
+import keeper.project.homepage.member.repository.MemberRepository;
+import keeper.project.homepage.point.dto.request.PointLogRequestDto;
+import keeper.project.homepage.point.service.PointLogService;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link AttendanceCheckIn}을 통과한 출석을 큐에 모아두었다가 백그라운드에서 출석 기록과 포인트 로그를 저장한다.
+ *
+ * <p>출석은 하나씩 자신의 트랜잭션으로 저장하므로 한 명이 실패해도 다른 출석은 저장된다. 저장에 실패하면 Redis의 마지막 출석을
+ * 지워서 다시 출석할 수 있게 한다. 큐가 가득 차면 {@link #OFFER_TIMEOUT_MS}만큼 기다리고, 그래도 자리가 없으면 요청
+ * 스레드에서 직접 저장한다. 종료 시점에 남은 출석도 저장한다.
+ *
+ * <p>출석은 응답한 뒤 최대 {@link #FLUSH_INTERVAL_MS}만큼 늦게 저장되므로, 출석 기록을 읽는 쪽은 먼저
+ * {@link #saveNow(Long)}를 호출한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AttendanceWriter {
+
+  private static final int QUEUE_CAPACITY = 10_000;
+  private static final int BATCH_SIZE = 100;
+  private static final long OFFER_TIMEOUT_MS = 100;
+  private static final long FLUSH_INTERVAL_MS = 200;
+  private static final String POINT_LOG_DETAIL = "출석 포인트";
+
+  private final PlatformTransactionManager transactionManager;
+  private final MemberRepository memberRepository;
+  private final AttendanceRepository attendanceRepository;
+  private final PointLogService pointLogService;
+  private final AttendanceCheckIn attendanceCheckIn;
+
+  private final BlockingQueue<PendingAttendance> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  // 아직 저장되지 않은 출석. 회원은 하루에 한 번만 출석하므로 회원 id로 찾는다.
+  private final Map<Long, PendingAttendance> pendingAttendances = new ConcurrentHashMap<>();
+
+  public void write(PendingAttendance attendance) {
+    pendingAttendances.put(attendance.memberId(), attendance);
+    try {
+      if (queue.offer(attendance, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // 큐가 가득 찼으면 writer를 기다리지 않고 직접 저장한다.
+    save(attendance);
+  }
+
+  public int getPendingCount() {
+    return queue.size();
+  }
+
+  /**
+   * 회원의 출석이 아직 저장되지 않았으면 호출한 스레드에서 바로 저장한다. 다른 스레드에서 저장 중이면 끝날 때까지 기다린다.
+   *
+   * <p>출석 직후 출석 기록을 읽는 요청이 저장을 기다리지 않고 "출석하지 않았다"고 응답하지 않도록 읽기 전에 호출한다.
+   */
+  public void saveNow(Long memberId) {
+    PendingAttendance attendance = pendingAttendances.get(memberId);
+    if (attendance == null) {
+      return;
+    }
+    if (queue.remove(attendance)) {
+      save(attendance);
+      return;
+    }
+    awaitFlush();
+  }
+
+  /**
+   * 다른 스레드에서 저장 중인 출석이 있으면 끝날 때까지 기다린다.
+   */
+  @Scheduled(fixedDelay = FLUSH_INTERVAL_MS, initialDelay = FLUSH_INTERVAL_MS)
+  public synchronized void flush() {
+    List<PendingAttendance> batch = new ArrayList<>(BATCH_SIZE);
+    while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+      batch.forEach(this::save);
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  // 큐에서 꺼내 저장 중인 flush가 있으면 끝날 때까지 기다린다.
+  private synchronized void awaitFlush() {
+  }
+
+  private void save(PendingAttendance attendance) {
+    try {
+      newSaveTransaction().executeWithoutResult(status -> {
+        MemberEntity member = memberRepository.findById(attendance.memberId())
+            .orElseThrow(() -> new CustomMemberNotFoundException(attendance.memberId()));
+        attendanceRepository.save(attendance.toEntity(member));
+        pointLogService.createPointSaveLog(member,
+            new PointLogRequestDto(attendance.time(), attendance.point(), POINT_LOG_DETAIL));
+      });
+    } catch (RuntimeException e) {
+      log.error("출석 저장 실패 : memberId={}, time={}", attendance.memberId(), attendance.time(),
+          e);
+      attendanceCheckIn.evict(attendance.memberId());
+    } finally {
+      pendingAttendances.remove(attendance.memberId(), attendance);
+    }
+  }
+
+  /**
+   * 큐가 가득 차 요청 스레드에서 저장할 때 호출한 쪽의 트랜잭션(읽기 전용일 수 있다)에 참여하지 않도록 항상 새 트랜잭션에서
+   * 저장한다.
+   */
+  private TransactionTemplate newSaveTransaction() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return transactionTemplate;
+  }
+
+  @Builder
+  public record PendingAttendance(Long memberId, LocalDateTime time, String greetings,
+                                  String ipAddress, int point, int continuousDay,
+                                  int continuousPoint, int randomPoint, int rankPoint,
+                                  long rank) {
+
+    AttendanceEntity toEntity(MemberEntity member) {
+      return AttendanceEntity.builder()
+          .point(point)
+          .continuousPoint(continuousPoint)
+          .continuousDay(continuousDay)
+          .greetings(greetings)
+          .ipAddress(ipAddress)
+          .time(time)
+          .date(time.toLocalDate())
+          .member(member)
+          .randomPoint(randomPoint)
+          .rankPoint(rankPoint)
+          .rank(rank)
+          .build();
+    }
+  }
+}
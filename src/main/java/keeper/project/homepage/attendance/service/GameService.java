@@ -18,10 +18,9 @@ import static keeper.project.homepage.attendance.dto.GameInfoDto.SECOND_POINT;
 import static keeper.project.homepage.attendance.dto.GameInfoDto.SECOND_PROB;
 import static keeper.project.homepage.attendance.dto.GameInfoDto.THIRD_POINT;
 import static keeper.project.homepage.attendance.dto.GameInfoDto.THIRD_PROB;
-import static keeper.project.homepage.attendance.service.DateUtils.isToday;
 
 import java.lang.reflect.Field;
-import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -247,7 +246,8 @@ public class GameService {
       gameRepository.save(gameEntity);
       return gameEntity;
 
-    } else if (!(isToday(Timestamp.valueOf(optionalGameEntity.get().getLastPlayTime())))) {
+    } else if (!optionalGameEntity.get().getLastPlayTime().toLocalDate()
+        .equals(LocalDate.now())) {
       optionalGameEntity.get().reset();
       gameRepository.save(optionalGameEntity.get());
     }
@@ -0,0 +1,81 @@
+package keeper.project.homepage.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 principal을 보관하는 LRU 캐시.
+ *
+ * <p>토큰 원문 대신 SHA-256 hash를 key로 사용하고, 각 항목은 토큰의 exp 시각이 지나면 만료된다.
+ */
+class JwtAuthenticationCache {
+
+  private static final int DEFAULT_MAX_SIZE = 10_000;
+
+  private final Map<String, Entry> entries;
+
+  JwtAuthenticationCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  JwtAuthenticationCache(int maxSize) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  JwtMemberEntity get(String token, long now) {
+    String key = hash(token);
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expiresAt <= now) {
+        entries.remove(key);
+        return null;
+      }
+      return entry.member;
+    }
+  }
+
+  void put(String token, JwtMemberEntity member, long expiresAt) {
+    String key = hash(token);
+    synchronized (entries) {
+      entries.put(key, new Entry(member, expiresAt));
+    }
+  }
+
+  int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private String hash(String token) {
+    try {
+      MessageDigest sh = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder().encodeToString(sh.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class Entry {
+
+    private final JwtMemberEntity member;
+    private final long expiresAt;
+
+    Entry(JwtMemberEntity member, long expiresAt) {
+      this.member = member;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
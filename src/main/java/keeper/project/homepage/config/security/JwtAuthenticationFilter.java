@@ -21,14 +21,18 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     this.jwtTokenProvider = jwtTokenProvider;
   }
 
-  // Request로 들어오는 Jwt Token의 유효성을 검증(jwtTokenProvider.validateToken)하는 filter를 filterChain에 등록합니다.
+  // Request로 들어오는 Jwt Token의 유효성을 검증(jwtTokenProvider.getAuthenticatedMember)하는 filter를 filterChain에 등록합니다.
+  // 서명 검증은 요청당 한 번만 수행되며, 검증된 토큰은 만료 전까지 캐시됩니다.
   @Override
   public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
       throws IOException, ServletException {
     String token = jwtTokenProvider.resolveToken((HttpServletRequest) request);
-    if (token != null && jwtTokenProvider.validateToken(token)) {
-      Authentication auth = jwtTokenProvider.getAuthentication(token);
-      SecurityContextHolder.getContext().setAuthentication(auth);
+    if (token != null) {
+      JwtMemberEntity member = jwtTokenProvider.getAuthenticatedMember(token);
+      if (member != null) {
+        Authentication auth = jwtTokenProvider.getAuthentication(member);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+      }
     }
     filterChain.doFilter(request, response);
   }
@@ -14,6 +14,10 @@ public class JwtMemberEntity implements UserDetails {
   private final String id;
   private final List<String> memberJobs;
 
+  public Long getMemberId() {
+    return Long.valueOf(id);
+  }
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     List<SimpleGrantedAuthority> roles = new ArrayList<>();
@@ -3,12 +3,12 @@ package keeper.project.homepage.config.security;
 // import 생략
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.security.Principal;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -20,7 +20,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +34,8 @@ public class JwtTokenProvider { // JWT 토큰을 생성 및 검증 모듈
   // FIXME: CTF 기간동안 5일의 세션을 가짐!! CTF 종료 후 꼭 수정 필요
   private final long tokenValidMilisecond = 1000L * 60 * 60 * 24 * 5;
 
+  private final JwtAuthenticationCache authenticationCache = new JwtAuthenticationCache();
+
   @PostConstruct
   protected void init() {
     secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
@@ -55,12 +56,53 @@ public class JwtTokenProvider { // JWT 토큰을 생성 및 검증 모듈
 
   // Jwt 토큰으로 인증 정보를 조회
   public Authentication getAuthentication(String token) {
-    Claims claims = getClaim(token);
-    String rolesString = claims.get("roles").toString();
-    List<String> roles = Arrays.stream(
-        rolesString.substring(1, rolesString.length() - 1).split(", ")).toList();
-    UserDetails userDetails = new JwtMemberEntity(claims.getSubject(), roles);
-    return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    JwtMemberEntity member = getAuthenticatedMember(token);
+    if (member == null) {
+      member = toJwtMember(getClaim(token));
+    }
+    return getAuthentication(member);
+  }
+
+  public Authentication getAuthentication(JwtMemberEntity member) {
+    return new UsernamePasswordAuthenticationToken(member, "", member.getAuthorities());
+  }
+
+  /**
+   * 서명 검증과 만료 확인을 한 번에 수행한다. 검증된 토큰은 exp 시각까지 캐시되어 다시 검증하지 않는다.
+   *
+   * @return 유효한 토큰이면 principal, 유효하지 않으면 null
+   */
+  public JwtMemberEntity getAuthenticatedMember(String token) {
+    long now = System.currentTimeMillis();
+    JwtMemberEntity cached = authenticationCache.get(token, now);
+    if (cached != null) {
+      return cached;
+    }
+
+    Claims claims;
+    try {
+      claims = getClaim(token);
+    } catch (Exception e) {
+      return null;
+    }
+    Date expiration = claims.getExpiration();
+    if (expiration == null || expiration.getTime() <= now) {
+      return null;
+    }
+    JwtMemberEntity member = toJwtMember(claims);
+    authenticationCache.put(token, member, expiration.getTime());
+    return member;
+  }
+
+  private JwtMemberEntity toJwtMember(Claims claims) {
+    List<String> roles = new ArrayList<>();
+    Object rolesClaim = claims.get("roles");
+    if (rolesClaim instanceof Collection) {
+      for (Object role : (Collection<?>) rolesClaim) {
+        roles.add(String.valueOf(role));
+      }
+    }
+    return new JwtMemberEntity(claims.getSubject(), roles);
   }
 
   // Jwt 토큰을 Claim 으로 변경
@@ -85,11 +127,6 @@ public class JwtTokenProvider { // JWT 토큰을 생성 및 검증 모듈
 
   // Jwt 토큰의 유효성 + 만료일자 확인
   public boolean validateToken(String jwtToken) {
-    try {
-      Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(jwtToken);
-      return !claims.getBody().getExpiration().before(new Date());
-    } catch (Exception e) {
-      return false;
-    }
+    return getAuthenticatedMember(jwtToken) != null;
   }
 }
\ No newline at end of file
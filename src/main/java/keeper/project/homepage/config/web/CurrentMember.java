@@ -0,0 +1,17 @@
+package keeper.project.homepage.config.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JWT로 인증된 회원을 controller parameter로 주입한다.
+ *
+ * <p>{@code MemberEntity} 타입이면 회원 entity를, {@code Long} 타입이면 회원 ID를 주입한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentMember {
+
+}
@@ -0,0 +1,36 @@
+package keeper.project.homepage.config.web;
+
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.util.service.auth.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private final AuthService authService;
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    if (!parameter.hasParameterAnnotation(CurrentMember.class)) {
+      return false;
+    }
+    Class<?> type = parameter.getParameterType();
+    return MemberEntity.class.isAssignableFrom(type) || Long.class.equals(type);
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+    if (Long.class.equals(parameter.getParameterType())) {
+      return authService.getMemberIdByJWT();
+    }
+    return authService.getMemberEntityWithJWT();
+  }
+}
@@ -41,7 +41,6 @@ public class CtfChallengeController {
       @PathVariable("pid") Long probId,
       @RequestBody CtfFlagDto submitFlag
   ) {
-    ctfChallengeService.setLog(probId, submitFlag);
     return responseService.getSuccessSingleResult(
         ctfChallengeService.checkFlag(probId, submitFlag));
   }
@@ -1,8 +1,5 @@
 package keeper.project.homepage.ctf.controller;
 
-import static org.springframework.data.domain.Sort.Direction.ASC;
-import static org.springframework.data.domain.Sort.Direction.DESC;
-
 import keeper.project.homepage.ctf.dto.CtfRankingDto;
 import keeper.project.homepage.ctf.service.CtfRankingService;
 import keeper.project.homepage.util.dto.result.PageResult;
@@ -11,7 +8,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.data.web.SortDefault;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -31,12 +27,7 @@ public class CtfRankingController {
   @GetMapping("")
   public PageResult<CtfRankingDto> getRankingList(
       @RequestParam Long ctfId,
-      @PageableDefault
-      @SortDefault.SortDefaults({
-          @SortDefault(sort = "score", direction = DESC),
-          @SortDefault(sort = "lastSolveTime", direction = ASC),
-      })
-      Pageable pageable
+      @PageableDefault Pageable pageable
   ) {
     return responseService.getSuccessPageResult(ctfRankingService.getRankingList(ctfId, pageable));
   }
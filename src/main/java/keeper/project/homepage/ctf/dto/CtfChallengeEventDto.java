@@ -0,0 +1,28 @@
+package keeper.project.homepage.ctf.dto;
+
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CtfChallengeEventDto {
+
+  private Long challengeId;
+  private String name;
+  private Long score;
+  private Boolean isSolvable;
+
+  public static CtfChallengeEventDto toDto(CtfChallengeEntity challenge) {
+    return CtfChallengeEventDto.builder()
+        .challengeId(challenge.getId())
+        .name(challenge.getName())
+        .score(challenge.getScore())
+        .isSolvable(challenge.getIsSolvable())
+        .build();
+  }
+}
@@ -0,0 +1,21 @@
+package keeper.project.homepage.ctf.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스코어보드 변경분. 순위, 점수 등이 바뀐 팀과 스코어보드에서 빠진 팀만 담는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CtfScoreboardEventDto {
+
+  private Long ctfId;
+  private List<CtfRankingDto> changed;
+  private List<Long> removedTeamIds;
+}
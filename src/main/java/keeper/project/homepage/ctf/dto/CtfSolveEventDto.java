@@ -0,0 +1,35 @@
+package keeper.project.homepage.ctf.dto;
+
+import java.time.LocalDateTime;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CtfSolveEventDto {
+
+  private Long challengeId;
+  private String challengeName;
+  private Long teamId;
+  private String teamName;
+  private LocalDateTime solvedTime;
+  private Boolean isFirstBlood;
+
+  public static CtfSolveEventDto toDto(CtfChallengeEntity challenge, CtfTeamEntity team,
+      LocalDateTime solvedTime, boolean isFirstBlood) {
+    return CtfSolveEventDto.builder()
+        .challengeId(challenge.getId())
+        .challengeName(challenge.getName())
+        .teamId(team.getId())
+        .teamName(team.getName())
+        .solvedTime(solvedTime)
+        .isFirstBlood(isFirstBlood)
+        .build();
+  }
+}
@@ -0,0 +1,29 @@
+package keeper.project.homepage.ctf.entity;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import keeper.project.homepage.ctf.service.CtfChallengeBoard;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 문제가 생성, 수정, 삭제되면 대회의 문제 목록 캐시를 버린다.
+ *
+ * <p>문제 공개/비공개, dynamic 점수 변경 모두 문제가 저장되므로 여기서 한 번에 처리한다.
+ */
+public class CtfChallengeBoardListener {
+
+  private final ObjectProvider<CtfChallengeBoard> ctfChallengeBoard;
+
+  public CtfChallengeBoardListener(ObjectProvider<CtfChallengeBoard> ctfChallengeBoard) {
+    this.ctfChallengeBoard = ctfChallengeBoard;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void invalidate(CtfChallengeEntity challenge) {
+    ctfChallengeBoard.ifAvailable(
+        board -> board.invalidate(challenge.getCtfContestEntity().getId()));
+  }
+}
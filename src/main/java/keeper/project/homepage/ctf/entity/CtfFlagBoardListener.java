@@ -0,0 +1,36 @@
+package keeper.project.homepage.ctf.entity;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import keeper.project.homepage.ctf.service.CtfChallengeBoard;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * flag가 바뀌면 팀의 flag 상태 캐시를 버린다.
+ *
+ * <p>flag가 삭제되면(팀 삭제) 맞힌 팀 수가 바뀔 수 있으므로 대회의 문제 목록 캐시도 버린다.
+ */
+public class CtfFlagBoardListener {
+
+  private final ObjectProvider<CtfChallengeBoard> ctfChallengeBoard;
+
+  public CtfFlagBoardListener(ObjectProvider<CtfChallengeBoard> ctfChallengeBoard) {
+    this.ctfChallengeBoard = ctfChallengeBoard;
+  }
+
+  @PostPersist
+  @PostUpdate
+  public void invalidate(CtfFlagEntity flag) {
+    ctfChallengeBoard.ifAvailable(
+        board -> board.invalidateTeam(flag.getCtfTeamEntity().getId()));
+  }
+
+  @PostRemove
+  public void remove(CtfFlagEntity flag) {
+    ctfChallengeBoard.ifAvailable(board -> {
+      board.invalidateTeam(flag.getCtfTeamEntity().getId());
+      board.invalidateByChallengeId(flag.getCtfChallengeEntity().getId());
+    });
+  }
+}
@@ -3,6 +3,7 @@ package keeper.project.homepage.ctf.entity;
 import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -26,6 +27,7 @@ import org.hibernate.annotations.DynamicUpdate;
 @DynamicUpdate
 @DynamicInsert
 @Table(name = "ctf_flag")
+@EntityListeners(CtfFlagBoardListener.class)
 public class CtfFlagEntity {
 
   @Id
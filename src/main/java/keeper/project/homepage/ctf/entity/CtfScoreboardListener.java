@@ -0,0 +1,32 @@
+package keeper.project.homepage.ctf.entity;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import keeper.project.homepage.ctf.service.CtfScoreboard;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 팀이 생성, 수정, 삭제될 때 스코어보드에 반영한다.
+ *
+ * <p>문제를 맞혔을 때와 dynamic 점수가 바뀌었을 때 모두 팀 점수가 저장되므로 여기서 한 번에 처리한다.
+ */
+public class CtfScoreboardListener {
+
+  private final ObjectProvider<CtfScoreboard> ctfScoreboard;
+
+  public CtfScoreboardListener(ObjectProvider<CtfScoreboard> ctfScoreboard) {
+    this.ctfScoreboard = ctfScoreboard;
+  }
+
+  @PostPersist
+  @PostUpdate
+  public void update(CtfTeamEntity team) {
+    ctfScoreboard.ifAvailable(scoreboard -> scoreboard.update(team));
+  }
+
+  @PostRemove
+  public void remove(CtfTeamEntity team) {
+    ctfScoreboard.ifAvailable(scoreboard -> scoreboard.remove(team));
+  }
+}
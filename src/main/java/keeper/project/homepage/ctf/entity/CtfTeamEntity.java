@@ -6,6 +6,7 @@ import java.util.List;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -34,6 +35,7 @@ import org.hibernate.annotations.DynamicUpdate;
     uniqueConstraints = @UniqueConstraint(columnNames = {"name", "contest_id"}))
 @DynamicInsert
 @DynamicUpdate
+@EntityListeners(CtfScoreboardListener.class)
 public class CtfTeamEntity {
 
   @Id
@@ -6,10 +6,11 @@ import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
 import keeper.project.homepage.ctf.entity.CtfContestEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CtfChallengeRepository extends
-    JpaRepository<CtfChallengeEntity, Long> {
+    JpaRepository<CtfChallengeEntity, Long>, CtfChallengeRepositoryCustom {
 
   Optional<CtfChallengeEntity> findByIdAndIsSolvableTrue(Long id);
 
@@ -23,4 +24,10 @@ public interface CtfChallengeRepository extends
       CtfContestEntity ctfContestEntity, Boolean isSolvable);
 
   List<CtfChallengeEntity> findAllByCtfChallengeTypeEntityId(Long ctfChallengeTypeEntity_id);
+
+  // 카테고리를 함께 읽으므로 같은 문제가 여러 번 포함될 수 있다.
+  @EntityGraph(attributePaths = {"ctfChallengeHasCtfChallengeCategoryList",
+      "ctfChallengeHasCtfChallengeCategoryList.category", "creator", "fileEntity"})
+  List<CtfChallengeEntity> findAllWithDetailByIdIsNotAndCtfContestEntityIdAndIsSolvableTrueOrderByIdAsc(
+      Long id, Long ctfId);
 }
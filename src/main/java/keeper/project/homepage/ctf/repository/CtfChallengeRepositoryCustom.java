@@ -0,0 +1,11 @@
+package keeper.project.homepage.ctf.repository;
+
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+
+public interface CtfChallengeRepositoryCustom {
+
+  /**
+   * 문제 row에 쓰기 lock을 걸고 최신 상태로 다시 읽는다. lock은 트랜잭션이 끝날 때 풀린다.
+   */
+  void refreshForUpdate(CtfChallengeEntity challenge);
+}
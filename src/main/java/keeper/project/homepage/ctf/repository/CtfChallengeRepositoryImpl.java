@@ -0,0 +1,19 @@
+package keeper.project.homepage.ctf.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+
+public class CtfChallengeRepositoryImpl implements CtfChallengeRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  public CtfChallengeRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public void refreshForUpdate(CtfChallengeEntity challenge) {
+    entityManager.refresh(challenge, LockModeType.PESSIMISTIC_WRITE);
+  }
+}
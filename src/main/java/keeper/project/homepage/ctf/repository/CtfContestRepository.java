@@ -12,4 +12,6 @@ public interface CtfContestRepository extends
   Page<CtfContestEntity> findAllByIdIsNotOrderByIdDesc(Long id, Pageable pageable);
 
   List<CtfContestEntity> findAllByIsJoinableTrueOrderByIdDesc();
+
+  boolean existsByIdAndIsJoinableTrue(Long id);
 }
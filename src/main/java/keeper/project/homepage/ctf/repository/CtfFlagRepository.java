@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.Optional;
 import keeper.project.homepage.ctf.entity.CtfFlagEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CtfFlagRepository extends
-    JpaRepository<CtfFlagEntity, Long> {
+    JpaRepository<CtfFlagEntity, Long>, CtfFlagRepositoryCustom {
 
   Optional<CtfFlagEntity> findByCtfChallengeEntityIdAndCtfTeamEntityId(Long ctfChallengeEntity_id,
       Long ctfTeamEntity_id);
@@ -20,7 +22,19 @@ public interface CtfFlagRepository extends
 
   Long countByCtfChallengeEntityIdAndIsCorrect(Long ctfChallengeEntity_id, Boolean isCorrect);
 
+  @Query("SELECT f.ctfTeamEntity.id FROM CtfFlagEntity f "
+      + "WHERE f.ctfChallengeEntity.id = :challengeId AND f.isCorrect = true")
+  List<Long> findSolvedTeamIdsByCtfChallengeEntityId(@Param("challengeId") Long challengeId);
+
   List<CtfFlagEntity> findAllByCtfChallengeEntityId(Long id);
 
+  /**
+   * @return [문제 id, 맞힌 팀 수] 목록. 맞힌 팀이 없는 문제는 포함되지 않는다.
+   */
+  @Query("SELECT f.ctfChallengeEntity.id, COUNT(f) FROM CtfFlagEntity f "
+      + "WHERE f.ctfChallengeEntity.ctfContestEntity.id = :ctfId AND f.isCorrect = true "
+      + "GROUP BY f.ctfChallengeEntity.id")
+  List<Object[]> countSolvedTeamsGroupByChallengeId(@Param("ctfId") Long ctfId);
+
   void deleteAllByCtfTeamEntityId(Long ctfTeamEntity_id);
 }
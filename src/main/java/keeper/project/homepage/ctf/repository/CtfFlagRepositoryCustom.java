@@ -0,0 +1,31 @@
+package keeper.project.homepage.ctf.repository;
+
+import java.time.LocalDateTime;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfFlagEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+
+public interface CtfFlagRepositoryCustom {
+
+  /**
+   * 아직 맞히지 않은 flag만 맞힌 것으로 바꾼다. 같은 팀이 동시에 정답을 제출해도 한 요청만 성공한다.
+   * 다른 요청이 먼저 맞혔으면 flag를 DB의 최신 상태로 다시 읽는다.
+   *
+   * @return 이 요청이 처음으로 맞혔으면 true
+   */
+  boolean markSolved(CtfFlagEntity flag, LocalDateTime solvedTime);
+
+  /**
+   * 대회의 모든 팀과 VIRTUAL TEAM에 문제의 flag를 INSERT ... SELECT 한 번으로 만든다.
+   *
+   * @return 만든 flag 수
+   */
+  int insertFlagForAllTeams(CtfChallengeEntity challenge, String content, Long maxSubmitCount);
+
+  /**
+   * 팀에 대회의 모든 문제 flag를 INSERT ... SELECT 한 번으로 만든다. flag 내용은 문제별로 가장 먼저 만들어진 flag를 따른다.
+   *
+   * @return 만든 flag 수
+   */
+  int insertFlagForAllChallenges(CtfTeamEntity team);
+}
@@ -0,0 +1,76 @@
+package keeper.project.homepage.ctf.repository;
+
+import static keeper.project.homepage.util.service.CtfUtilService.VIRTUAL_PROBLEM_ID;
+import static keeper.project.homepage.util.service.CtfUtilService.VIRTUAL_TEAM_ID;
+
+import java.time.LocalDateTime;
+import javax.persistence.EntityManager;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfFlagEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+
+public class CtfFlagRepositoryImpl implements CtfFlagRepositoryCustom {
+
+  // IDENTITY 전략이라 Hibernate가 insert를 batch로 묶지 못하므로, 팀 x 문제 flag는 native query 한 번으로 만든다.
+  private static final String INSERT_FLAG_FOR_ALL_TEAMS_SQL = "INSERT INTO ctf_flag "
+      + "(content, team_id, challenge_id, is_correct, remained_submit_count) "
+      + "SELECT :content, t.id, :challengeId, false, :maxSubmitCount FROM ctf_team t "
+      + "WHERE t.id = :virtualTeamId OR t.contest_id = :ctfId";
+
+  private static final String INSERT_FLAG_FOR_ALL_CHALLENGES_SQL = "INSERT INTO ctf_flag "
+      + "(content, team_id, challenge_id, is_correct, remained_submit_count) "
+      + "SELECT f.content, :teamId, c.id, false, c.max_submit_count FROM ctf_challenge c "
+      + "JOIN ctf_flag f ON f.id = "
+      + "(SELECT MIN(first_flag.id) FROM ctf_flag first_flag WHERE first_flag.challenge_id = c.id) "
+      + "WHERE c.contest_id = :ctfId AND c.id <> :virtualProblemId";
+
+  private final EntityManager entityManager;
+
+  public CtfFlagRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public boolean markSolved(CtfFlagEntity flag, LocalDateTime solvedTime) {
+    // 제출 시간, 남은 제출 횟수 변경이 refresh로 사라지지 않도록 먼저 flush 한다.
+    entityManager.flush();
+    int updatedCount = entityManager.createQuery(
+            "UPDATE CtfFlagEntity f SET f.isCorrect = true, f.solvedTime = :solvedTime "
+                + "WHERE f.id = :id AND f.isCorrect = false")
+        .setParameter("solvedTime", solvedTime)
+        .setParameter("id", flag.getId())
+        .executeUpdate();
+    if (updatedCount == 0) {
+      entityManager.refresh(flag);
+      return false;
+    }
+    // 다시 읽으면 시간이 컬럼 정밀도로 잘리므로, 변경한 값만 entity에 맞춰 둔다.
+    flag.setIsCorrect(true);
+    flag.setSolvedTime(solvedTime);
+    return true;
+  }
+
+  @Override
+  public int insertFlagForAllTeams(CtfChallengeEntity challenge, String content,
+      Long maxSubmitCount) {
+    // 아직 저장되지 않은 문제, 팀이 있으면 SELECT에서 빠지므로 먼저 flush 한다.
+    entityManager.flush();
+    return entityManager.createNativeQuery(INSERT_FLAG_FOR_ALL_TEAMS_SQL)
+        .setParameter("content", content)
+        .setParameter("challengeId", challenge.getId())
+        .setParameter("maxSubmitCount", maxSubmitCount)
+        .setParameter("virtualTeamId", VIRTUAL_TEAM_ID)
+        .setParameter("ctfId", challenge.getCtfContestEntity().getId())
+        .executeUpdate();
+  }
+
+  @Override
+  public int insertFlagForAllChallenges(CtfTeamEntity team) {
+    entityManager.flush();
+    return entityManager.createNativeQuery(INSERT_FLAG_FOR_ALL_CHALLENGES_SQL)
+        .setParameter("teamId", team.getId())
+        .setParameter("ctfId", team.getCtfContestEntity().getId())
+        .setParameter("virtualProblemId", VIRTUAL_PROBLEM_ID)
+        .executeUpdate();
+  }
+}
@@ -1,17 +1,17 @@
 package keeper.project.homepage.ctf.repository;
 
-import java.util.List;
+import java.util.Optional;
 import keeper.project.homepage.ctf.entity.CtfTeamHasMemberEntity;
 import keeper.project.homepage.ctf.entity.CtfTeamHasMemberEntityPK;
-import keeper.project.homepage.member.entity.MemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CtfTeamHasMemberRepository extends
     JpaRepository<CtfTeamHasMemberEntity, CtfTeamHasMemberEntityPK> {
 
-  List<CtfTeamHasMemberEntity> findAllByMember(MemberEntity memberEntity);
+  Optional<CtfTeamHasMemberEntity> findFirstByTeam_CtfContestEntity_IdAndMember_Id(Long ctfId,
+      Long memberId);
 
-  List<CtfTeamHasMemberEntity> findAllByMemberId(Long memberId);
+  boolean existsByTeam_CtfContestEntity_IdAndMember_Id(Long ctfId, Long memberId);
 
   void deleteAllByTeamId(Long teamId);
 }
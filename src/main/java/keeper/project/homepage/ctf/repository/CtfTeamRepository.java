@@ -9,11 +9,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CtfTeamRepository extends
-    JpaRepository<CtfTeamEntity, Long> {
+    JpaRepository<CtfTeamEntity, Long>, CtfTeamRepositoryCustom {
 
   Page<CtfTeamEntity> findAllByIdIsNotAndCtfContestEntity_Id(Long id, Long ctfContestEntity_id,
       Pageable pageable);
 
+  List<CtfTeamEntity> findAllByIdIsNotAndCtfContestEntity_Id(Long id, Long ctfContestEntity_id);
+
   List<CtfTeamEntity> findAllByIdOrCtfContestEntityId(Long id, Long ctfContestEntity_id);
 
   Optional<CtfTeamEntity> findByCreatorId(Long creator_id);
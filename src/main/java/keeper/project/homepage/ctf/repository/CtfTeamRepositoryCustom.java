@@ -0,0 +1,28 @@
+package keeper.project.homepage.ctf.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface CtfTeamRepositoryCustom {
+
+  /**
+   * 여러 팀의 점수를 한 번의 UPDATE로 변경한다. 영속성 컨텍스트에 올라와 있는 팀은 변경된 점수로 다시 읽는다.
+   *
+   * @return 변경된 팀 수
+   */
+  int addScoreByIdIn(Collection<Long> teamIds, long scoreDelta);
+
+  /**
+   * 팀마다 다른 점수 변경분을 반영한다. 변경할 팀 row를 먼저 id 순서로 한 번에 잠가서, 여러 팀의 점수를 바꾸는 트랜잭션끼리
+   * 서로 다른 순서로 잠그다 교착 상태에 빠지지 않게 한다. 영속성 컨텍스트에 올라와 있는 팀은 변경된 점수로 다시 읽는다.
+   *
+   * @param scoreDeltaByTeamId 팀 id -> 점수 변경분
+   * @return 변경된 팀 수
+   */
+  int addScores(Map<Long, Long> scoreDeltaByTeamId);
+
+  /**
+   * @return 팀 id -> 점수
+   */
+  Map<Long, Long> findScoresByIdIn(Collection<Long> teamIds);
+}
@@ -0,0 +1,85 @@
+package keeper.project.homepage.ctf.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import org.hibernate.Hibernate;
+
+public class CtfTeamRepositoryImpl implements CtfTeamRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  public CtfTeamRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public int addScoreByIdIn(Collection<Long> teamIds, long scoreDelta) {
+    if (scoreDelta == 0) {
+      return 0;
+    }
+    Map<Long, Long> scoreDeltaByTeamId = new HashMap<>();
+    teamIds.forEach(teamId -> scoreDeltaByTeamId.put(teamId, scoreDelta));
+    return addScores(scoreDeltaByTeamId);
+  }
+
+  @Override
+  public int addScores(Map<Long, Long> scoreDeltaByTeamId) {
+    Map<Long, List<Long>> teamIdsByScoreDelta = new TreeMap<>();
+    scoreDeltaByTeamId.forEach((teamId, scoreDelta) -> {
+      if (scoreDelta != 0) {
+        teamIdsByScoreDelta.computeIfAbsent(scoreDelta, delta -> new ArrayList<>()).add(teamId);
+      }
+    });
+    if (teamIdsByScoreDelta.isEmpty()) {
+      return 0;
+    }
+    // 아직 반영되지 않은 점수 변경이 UPDATE 결과를 덮어쓰지 않도록 먼저 flush 한다.
+    entityManager.flush();
+    List<Long> teamIds = teamIdsByScoreDelta.values().stream().flatMap(List::stream).toList();
+    entityManager.createQuery(
+            "SELECT t.id FROM CtfTeamEntity t WHERE t.id IN :teamIds ORDER BY t.id", Long.class)
+        .setParameter("teamIds", teamIds)
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .getResultList();
+
+    // 변경분이 같은 팀끼리 묶어 UPDATE 한다. row는 위에서 이미 잠갔으므로 UPDATE 순서는 상관없다.
+    int updatedCount = 0;
+    for (Map.Entry<Long, List<Long>> entry : teamIdsByScoreDelta.entrySet()) {
+      updatedCount += entityManager.createQuery(
+              "UPDATE CtfTeamEntity t SET t.score = t.score + :scoreDelta WHERE t.id IN :teamIds")
+          .setParameter("scoreDelta", entry.getKey())
+          .setParameter("teamIds", entry.getValue())
+          .executeUpdate();
+    }
+
+    // bulk UPDATE는 영속성 컨텍스트를 거치지 않으므로, 이미 읽어온 팀만 다시 읽는다.
+    for (Long teamId : teamIds) {
+      CtfTeamEntity team = entityManager.getReference(CtfTeamEntity.class, teamId);
+      if (Hibernate.isInitialized(team)) {
+        entityManager.refresh(team);
+      }
+    }
+    return updatedCount;
+  }
+
+  @Override
+  public Map<Long, Long> findScoresByIdIn(Collection<Long> teamIds) {
+    if (teamIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, Long> scores = new HashMap<>();
+    entityManager.createQuery(
+            "SELECT t.id, t.score FROM CtfTeamEntity t WHERE t.id IN :teamIds", Object[].class)
+        .setParameter("teamIds", teamIds)
+        .getResultList()
+        .forEach(row -> scores.put((Long) row[0], (Long) row[1]));
+    return scores;
+  }
+}
@@ -19,8 +19,6 @@ import keeper.project.homepage.ctf.entity.CtfChallengeHasCtfChallengeCategoryEnt
 import keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity;
 import keeper.project.homepage.ctf.entity.CtfContestEntity;
 import keeper.project.homepage.ctf.entity.CtfDynamicChallengeInfoEntity;
-import keeper.project.homepage.ctf.entity.CtfFlagEntity;
-import keeper.project.homepage.ctf.entity.CtfTeamEntity;
 import keeper.project.homepage.ctf.exception.CustomContestNotFoundException;
 import keeper.project.homepage.ctf.exception.CustomCtfCategoryNotFoundException;
 import keeper.project.homepage.ctf.exception.CustomCtfChallengeNotFoundException;
@@ -33,7 +31,6 @@ import keeper.project.homepage.ctf.repository.CtfContestRepository;
 import keeper.project.homepage.ctf.repository.CtfDynamicChallengeInfoRepository;
 import keeper.project.homepage.ctf.repository.CtfFlagRepository;
 import keeper.project.homepage.ctf.repository.CtfSubmitLogRepository;
-import keeper.project.homepage.ctf.repository.CtfTeamRepository;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberHasMemberJobEntity;
 import keeper.project.homepage.member.entity.MemberJobEntity;
@@ -63,8 +60,9 @@ public class CtfAdminService {
   private final AuthService authService;
   private final FileService fileService;
   private final CtfUtilService ctfUtilService;
+  private final CtfEventPublisher ctfEventPublisher;
+  private final CtfChallengeBoard ctfChallengeBoard;
   private final CtfContestRepository ctfContestRepository;
-  private final CtfTeamRepository ctfTeamRepository;
   private final CtfChallengeCategoryRepository ctfChallengeCategoryRepository;
 
   private final CtfChallengeHasCtfChallengeCategoryRepository ctfChallengeHasCtfChallengeCategoryRepository;
@@ -141,6 +139,7 @@ public class CtfAdminService {
     ctfUtilService.checkVirtualProblem(problemId);
     CtfChallengeEntity challenge = getChallengeById(problemId);
     challenge.setIsSolvable(true);
+    ctfEventPublisher.publishChallenge(challenge);
     return CtfChallengeAdminDto.toDto(challenge, getSolvedTeamCount(problemId));
   }
 
@@ -149,6 +148,7 @@ public class CtfAdminService {
     ctfUtilService.checkVirtualProblem(problemId);
     CtfChallengeEntity challenge = getChallengeById(problemId);
     challenge.setIsSolvable(false);
+    ctfEventPublisher.publishChallenge(challenge);
     return CtfChallengeAdminDto.toDto(challenge, getSolvedTeamCount(problemId));
   }
 
@@ -303,24 +303,11 @@ public class CtfAdminService {
 
   private void setFlagAllTeam(String flag, CtfChallengeEntity challenge, long maxSubmitCount) {
     // team이 하나도 없을 때 flag가 유실되는 것을 방지하기 위해 VIRTUAL TEAM을 이용해 flag를 저장합니다.
-    List<CtfTeamEntity> allCtfTeamList = ctfTeamRepository
-        .findAllByIdOrCtfContestEntityId(VIRTUAL_TEAM_ID, getCtfId(challenge));
-    for (CtfTeamEntity ctfTeam : allCtfTeamList) {
-      CtfFlagEntity flagEntity = CtfFlagEntity.builder()
-          .content(flag)
-          .ctfTeamEntity(ctfTeam)
-          .ctfChallengeEntity(challenge)
-          .isCorrect(false)
-          .remainedSubmitCount(maxSubmitCount)
-          .lastTryTime(null)
-          .build();
-      ctfFlagRepository.save(flagEntity);
-      challenge.getCtfFlagEntity().add(flagEntity);
-    }
-  }
-
-  private Long getCtfId(CtfChallengeEntity challenge) {
-    return challenge.getCtfContestEntity().getId();
+    ctfFlagRepository.insertFlagForAllTeams(challenge, flag, maxSubmitCount);
+    ctfChallengeBoard.invalidateAllTeams();
+    // 응답에 사용할 VIRTUAL TEAM의 flag만 다시 읽는다.
+    ctfFlagRepository.findByCtfChallengeEntityIdAndCtfTeamEntityId(challenge.getId(),
+        VIRTUAL_TEAM_ID).ifPresent(challenge.getCtfFlagEntity()::add);
   }
 
   private CtfChallengeEntity createChallengeEntityWithFileEntity(
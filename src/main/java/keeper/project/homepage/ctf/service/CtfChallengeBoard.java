@@ -0,0 +1,329 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.util.service.CtfUtilService.VIRTUAL_PROBLEM_ID;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import keeper.project.homepage.ctf.dto.CtfChallengeCategoryDto;
+import keeper.project.homepage.ctf.dto.CtfChallengeDto;
+import keeper.project.homepage.ctf.dto.CtfCommonChallengeDto;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfFlagEntity;
+import keeper.project.homepage.ctf.exception.CustomCtfChallengeNotFoundException;
+import keeper.project.homepage.ctf.repository.CtfChallengeRepository;
+import keeper.project.homepage.ctf.repository.CtfFlagRepository;
+import keeper.project.homepage.util.dto.FileDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대회별 문제 목록과 팀별 flag 상태 캐시.
+ *
+ * <ul>
+ *   <li>대회 : 풀 수 있는 문제의 정보와 문제별 맞힌 팀 수. 두 번의 쿼리로 만든다.</li>
+ *   <li>팀 : 문제별 정답 여부, 남은 제출 횟수, 마지막 제출 시간. 팀의 flag를 한 번에 읽어서 만든다.</li>
+ * </ul>
+ *
+ * <p>문제, flag가 바뀌면 {@link keeper.project.homepage.ctf.entity.CtfChallengeBoardListener}를 통해
+ * 해당 캐시를 바로 버리고, 트랜잭션이 끝난 뒤 한 번 더 버린다. 캐시는 호출한 쪽의 트랜잭션 스냅샷이 아니라 새 READ
+ * COMMITTED 트랜잭션에서 읽으므로, 커밋 뒤에 이전 상태가 다시 캐시되지 않는다. 그 밖에 놓친 변경은
+ * {@link #TIME_TO_LIVE_NANOS}가 지나면 다시 만들면서 반영한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CtfChallengeBoard {
+
+  private static final long TIME_TO_LIVE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final CtfChallengeRepository challengeRepository;
+  private final CtfFlagRepository flagRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  private final Map<Long, CompletableFuture<Board>> boards = new ConcurrentHashMap<>();
+  private final Map<Long, CompletableFuture<TeamFlags>> teamFlags = new ConcurrentHashMap<>();
+
+  public List<CtfCommonChallengeDto> getChallengeList(Long ctfId, Long teamId) {
+    Board board = getBoard(ctfId);
+    TeamFlags flags = getTeamFlags(teamId);
+    List<CtfCommonChallengeDto> result = new ArrayList<>(board.challenges.size());
+    for (Challenge challenge : board.challenges.values()) {
+      result.add(challenge.toCommonDto(flags.get(challenge.challengeId)));
+    }
+    return result;
+  }
+
+  /**
+   * @throws CustomCtfChallengeNotFoundException 풀 수 없는 문제인 경우
+   */
+  public CtfChallengeDto getChallenge(Long ctfId, Long challengeId, Long teamId) {
+    Challenge challenge = getBoard(ctfId).challenges.get(challengeId);
+    if (challenge == null) {
+      throw new CustomCtfChallengeNotFoundException();
+    }
+    return challenge.toDto(getTeamFlags(teamId).get(challengeId));
+  }
+
+  /**
+   * 문제 정보나 맞힌 팀 수가 바뀌었을 때 호출한다.
+   */
+  public void invalidate(Long ctfId) {
+    boards.remove(ctfId);
+    afterCompletion(() -> boards.remove(ctfId));
+  }
+
+  /**
+   * 문제가 속한 대회를 모를 때 호출한다. flush 중에 문제를 읽지 않도록 캐시된 문제 목록에서 대회를 찾는다.
+   */
+  public void invalidateByChallengeId(Long challengeId) {
+    boards.forEach((ctfId, cached) -> {
+      if (!cached.isDone() || cached.isCompletedExceptionally()
+          || cached.join().challenges.containsKey(challengeId)) {
+        invalidate(ctfId);
+      }
+    });
+  }
+
+  /**
+   * 팀의 flag가 바뀌었을 때 호출한다.
+   */
+  public void invalidateTeam(Long teamId) {
+    teamFlags.remove(teamId);
+    afterCompletion(() -> teamFlags.remove(teamId));
+  }
+
+  /**
+   * 여러 팀의 flag가 listener를 거치지 않고 한 번에 바뀌었을 때 호출한다. (문제 생성 시 bulk insert)
+   */
+  public void invalidateAllTeams() {
+    teamFlags.clear();
+    afterCompletion(teamFlags::clear);
+  }
+
+  private Board getBoard(Long ctfId) {
+    return getOrLoad(boards, ctfId, this::loadBoard);
+  }
+
+  private TeamFlags getTeamFlags(Long teamId) {
+    return getOrLoad(teamFlags, teamId, this::loadTeamFlags);
+  }
+
+  /**
+   * 캐시가 없거나 만료되었으면 한 요청만 DB에서 읽고, 동시에 들어온 요청은 그 결과를 기다린다.
+   *
+   * <p>읽는 도중 flush로 listener가 호출되어 같은 캐시를 버릴 수 있으므로 map의 lock 밖에서 읽는다.
+   */
+  private static <T extends Cached> T getOrLoad(Map<Long, CompletableFuture<T>> cache, Long key,
+      Function<Long, T> loader) {
+    while (true) {
+      CompletableFuture<T> cached = cache.get(key);
+      if (cached != null && !isExpired(cached)) {
+        return join(cached);
+      }
+      CompletableFuture<T> loading = new CompletableFuture<>();
+      boolean isLoader = cached == null ? cache.putIfAbsent(key, loading) == null
+          : cache.replace(key, cached, loading);
+      if (!isLoader) {
+        continue;
+      }
+      try {
+        T value = loader.apply(key);
+        loading.complete(value);
+        return value;
+      } catch (RuntimeException e) {
+        cache.remove(key, loading);
+        loading.completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+
+  private static boolean isExpired(CompletableFuture<? extends Cached> cached) {
+    return cached.isDone() && (cached.isCompletedExceptionally() || cached.join().isExpired());
+  }
+
+  private static <T> T join(CompletableFuture<T> cached) {
+    try {
+      return cached.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private Board loadBoard(Long ctfId) {
+    return newLoadTransaction().execute(status -> readBoard(ctfId));
+  }
+
+  private TeamFlags loadTeamFlags(Long teamId) {
+    return newLoadTransaction().execute(status -> readTeamFlags(teamId));
+  }
+
+  /**
+   * 호출한 쪽의 트랜잭션 스냅샷이 아니라 지금까지 커밋된 문제와 flag를 읽도록 새 READ COMMITTED 트랜잭션에서 읽는다.
+   */
+  private TransactionTemplate newLoadTransaction() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    transactionTemplate.setReadOnly(true);
+    return transactionTemplate;
+  }
+
+  private Board readBoard(Long ctfId) {
+    Map<Long, Long> solvedTeamCounts = new HashMap<>();
+    for (Object[] row : flagRepository.countSolvedTeamsGroupByChallengeId(ctfId)) {
+      solvedTeamCounts.put((Long) row[0], (Long) row[1]);
+    }
+    Map<Long, Challenge> challenges = new LinkedHashMap<>();
+    for (CtfChallengeEntity challenge : challengeRepository
+        .findAllWithDetailByIdIsNotAndCtfContestEntityIdAndIsSolvableTrueOrderByIdAsc(
+            VIRTUAL_PROBLEM_ID, ctfId)) {
+      challenges.put(challenge.getId(),
+          new Challenge(challenge, solvedTeamCounts.getOrDefault(challenge.getId(), 0L)));
+    }
+    log.debug("CTF 문제 목록 캐시 생성 : ctfId={}, challengeCount={}", ctfId, challenges.size());
+    return new Board(challenges);
+  }
+
+  private TeamFlags readTeamFlags(Long teamId) {
+    Map<Long, Flag> flags = new HashMap<>();
+    for (CtfFlagEntity flag : flagRepository.findAllByCtfTeamEntityId(teamId)) {
+      flags.put(flag.getCtfChallengeEntity().getId(), new Flag(flag));
+    }
+    return new TeamFlags(flags);
+  }
+
+  private static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.run();
+      }
+    });
+  }
+
+  private abstract static class Cached {
+
+    private final long loadedAt = System.nanoTime();
+
+    boolean isExpired() {
+      return System.nanoTime() - loadedAt > TIME_TO_LIVE_NANOS;
+    }
+  }
+
+  private static class Board extends Cached {
+
+    private final Map<Long, Challenge> challenges;
+
+    Board(Map<Long, Challenge> challenges) {
+      this.challenges = challenges;
+    }
+  }
+
+  private static class TeamFlags extends Cached {
+
+    private final Map<Long, Flag> flags;
+
+    TeamFlags(Map<Long, Flag> flags) {
+      this.flags = flags;
+    }
+
+    Flag get(Long challengeId) {
+      Flag flag = flags.get(challengeId);
+      if (flag == null) {
+        throw new CustomCtfChallengeNotFoundException();
+      }
+      return flag;
+    }
+  }
+
+  private static class Challenge {
+
+    private final Long challengeId;
+    private final String title;
+    private final Long contestId;
+    private final List<CtfChallengeCategoryDto> categories;
+    private final Long score;
+    private final Long maxSubmitCount;
+    private final String content;
+    private final String creatorName;
+    private final FileDto file;
+    private final Long solvedTeamCount;
+
+    Challenge(CtfChallengeEntity challenge, Long solvedTeamCount) {
+      this.challengeId = challenge.getId();
+      this.title = challenge.getName();
+      this.contestId = challenge.getCtfContestEntity().getId();
+      this.categories = challenge.getCtfChallengeHasCtfChallengeCategoryList().stream()
+          .map(CtfChallengeCategoryDto::toDto)
+          .toList();
+      this.score = challenge.getScore();
+      this.maxSubmitCount = challenge.getMaxSubmitCount();
+      this.content = challenge.getDescription();
+      this.creatorName = challenge.getCreator().getNickName();
+      this.file = FileDto.toDto(challenge.getFileEntity());
+      this.solvedTeamCount = solvedTeamCount;
+    }
+
+    CtfCommonChallengeDto toCommonDto(Flag flag) {
+      return CtfCommonChallengeDto.builder()
+          .challengeId(challengeId)
+          .title(title)
+          .contestId(contestId)
+          .categories(categories)
+          .score(score)
+          .isSolved(flag.isCorrect)
+          .remainedSubmitCount(flag.remainedSubmitCount)
+          .lastTryTime(flag.lastTryTime)
+          .solvedTime(flag.solvedTime)
+          .maxSubmitCount(maxSubmitCount)
+          .build();
+    }
+
+    CtfChallengeDto toDto(Flag flag) {
+      return CtfChallengeDto.builder()
+          .commonChallengeDto(toCommonDto(flag))
+          .content(content)
+          .creatorName(creatorName)
+          .solvedTeamCount(solvedTeamCount)
+          .file(file)
+          .build();
+    }
+  }
+
+  private static class Flag {
+
+    private final Boolean isCorrect;
+    private final Long remainedSubmitCount;
+    private final LocalDateTime lastTryTime;
+    private final LocalDateTime solvedTime;
+
+    Flag(CtfFlagEntity flag) {
+      this.isCorrect = flag.getIsCorrect();
+      this.remainedSubmitCount = flag.getRemainedSubmitCount();
+      this.lastTryTime = flag.getLastTryTime();
+      this.solvedTime = flag.getSolvedTime();
+    }
+  }
+}
@@ -1,35 +1,35 @@
 package keeper.project.homepage.ctf.service;
 
-import static keeper.project.homepage.util.service.CtfUtilService.VIRTUAL_PROBLEM_ID;
-
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import keeper.project.homepage.ctf.dto.CtfChallengeDto;
 import keeper.project.homepage.ctf.dto.CtfCommonChallengeDto;
 import keeper.project.homepage.ctf.dto.CtfFlagDto;
 import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
-import keeper.project.homepage.ctf.entity.CtfContestEntity;
 import keeper.project.homepage.ctf.entity.CtfFlagEntity;
 import keeper.project.homepage.ctf.entity.CtfSubmitLogEntity;
 import keeper.project.homepage.ctf.entity.CtfTeamEntity;
-import keeper.project.homepage.ctf.exception.CustomContestNotFoundException;
 import keeper.project.homepage.ctf.exception.CustomCtfChallengeNotFoundException;
 import keeper.project.homepage.ctf.exception.CustomSubmitCountNotEnoughException;
 import keeper.project.homepage.ctf.exception.CustomTooFastRetryException;
 import keeper.project.homepage.ctf.repository.CtfChallengeRepository;
-import keeper.project.homepage.ctf.repository.CtfContestRepository;
 import keeper.project.homepage.ctf.repository.CtfFlagRepository;
-import keeper.project.homepage.ctf.repository.CtfSubmitLogRepository;
-import keeper.project.homepage.ctf.repository.CtfTeamHasMemberRepository;
-import keeper.project.homepage.ctf.repository.CtfTeamRepository;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.util.service.CtfUtilService;
 import keeper.project.homepage.util.service.auth.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 @Service
@@ -44,14 +44,17 @@ public class CtfChallengeService {
    */
   public static final long RETRY_SECONDS = 5;
 
+  private static final int MAX_SUBMIT_ATTEMPTS = 3;
+
   private final CtfChallengeRepository challengeRepository;
-  private final CtfTeamHasMemberRepository teamHasMemberRepository;
-  private final CtfTeamRepository teamRepository;
   private final CtfFlagRepository flagRepository;
-  private final CtfContestRepository contestRepository;
-  private final CtfSubmitLogRepository submitLogRepository;
+  private final CtfSubmitLogWriter submitLogWriter;
   private final CtfUtilService ctfUtilService;
   private final AuthService authService;
+  private final CtfEventPublisher ctfEventPublisher;
+  private final CtfSubmitRateLimiter submitRateLimiter;
+  private final CtfChallengeBoard ctfChallengeBoard;
+  private final PlatformTransactionManager transactionManager;
 
   public List<CtfCommonChallengeDto> getProblemList(Long ctfId) {
     checkCtfIdIsValid(ctfId);
@@ -64,15 +67,8 @@ public class CtfChallengeService {
   }
 
   private List<CtfCommonChallengeDto> getChallengeListSetMyTeamSolved(Long ctfId) {
-    List<CtfChallengeEntity> solvableChallengeList = getSolvableChallengeList(ctfId);
     CtfTeamEntity myTeam = getMyTeamByCtfId(ctfId);
-    return solvableChallengeList.stream()
-        .map(solvableChallenge -> {
-          CtfFlagEntity ctfFlagEntity = getCtfFlagEntity(solvableChallenge, myTeam);
-          Boolean isMyTeamSolved = isAlreadySolved(ctfFlagEntity);
-          return CtfCommonChallengeDto.toDto(solvableChallenge, isMyTeamSolved,
-              ctfFlagEntity);
-        }).toList();
+    return ctfChallengeBoard.getChallengeList(ctfId, myTeam.getId());
   }
 
   private CtfTeamEntity getMyTeamByCtfId(Long ctfId) {
@@ -81,34 +77,99 @@ public class CtfChallengeService {
     return myTeam;
   }
 
-  @Transactional
+  /**
+   * 제출 횟수 제한은 트랜잭션을 열기 전에 확인해서, 거절된 제출은 flag row를 읽거나 잠그지 않는다.
+   * 제출 횟수 제한을 통과한 뒤 채점 트랜잭션에서 거절되면 채점하지 않은 것이므로 사용한 토큰을 돌려준다.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
   public CtfFlagDto checkFlag(Long probId, CtfFlagDto submitFlag) {
-    checkSubmitChallengeIsValidById(probId);
-    return SetIsCorrectAndGetCtfFlagDto(probId, submitFlag);
+    checkSubmitChallengeIdIsValid(probId);
+    Long submitterId = authService.getMemberIdByJWT();
+    checkSubmitRate(submitterId, probId);
+    // 교착 상태로 다시 시도해도 제출 기록은 한 번만 남도록 마지막 시도의 기록만 저장한다.
+    AtomicReference<CtfSubmitLogEntity> submitLog = new AtomicReference<>();
+    try {
+      return executeSubmitTransaction(() -> {
+        checkSubmitChallengeIsValid(probId);
+        return SetIsCorrectAndGetCtfFlagDto(probId, submitFlag, submitLog);
+      });
+    } catch (RuntimeException e) {
+      submitRateLimiter.release(submitterId, probId);
+      throw e;
+    } finally {
+      if (submitLog.get() != null) {
+        submitLogWriter.submit(submitLog.get());
+      }
+    }
   }
 
-  private CtfFlagDto SetIsCorrectAndGetCtfFlagDto(Long probId, CtfFlagDto submitFlag) {
+  /**
+   * 팀 row는 id 순서로 잠그지만, 다른 경로와의 교착 상태나 잠금 대기 시간 초과까지 막을 수는 없으므로
+   * {@link #MAX_SUBMIT_ATTEMPTS}번까지 다시 시도한다. 바깥 트랜잭션에 참여한 경우에는 롤백만 표시되므로 다시 시도하지 않는다.
+   */
+  private CtfFlagDto executeSubmitTransaction(Supplier<CtfFlagDto> submit) {
+    boolean isRetryable = !TransactionSynchronizationManager.isActualTransactionActive();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return newSubmitTransaction().execute(status -> submit.get());
+      } catch (PessimisticLockingFailureException e) {
+        if (!isRetryable || attempt >= MAX_SUBMIT_ATTEMPTS) {
+          throw e;
+        }
+        log.info("CTF flag 제출 재시도 : attempt={}", attempt, e);
+      }
+    }
+  }
+
+  /**
+   * 다른 팀의 정답과 dynamic 점수 재계산 결과를 문제 row lock을 얻은 뒤 바로 볼 수 있도록 READ COMMITTED로 실행한다.
+   */
+  private TransactionTemplate newSubmitTransaction() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    return transactionTemplate;
+  }
+
+  private void checkSubmitRate(Long submitterId, Long probId) {
+    if (!submitRateLimiter.tryAcquire(submitterId, probId)) {
+      throw new CustomTooFastRetryException(RETRY_SECONDS);
+    }
+  }
+
+  private CtfFlagDto SetIsCorrectAndGetCtfFlagDto(Long probId, CtfFlagDto submitFlag,
+      AtomicReference<CtfSubmitLogEntity> submitLog) {
     CtfChallengeEntity submitChallenge = getChallengeEntity(probId);
-    Long submitterId = authService.getMemberIdByJWT();
-    CtfTeamEntity submitTeam = getTeamEntity(getCtfIdByChallenge(submitChallenge), submitterId);
+    MemberEntity submitter = authService.getMemberEntityWithJWT();
+    CtfTeamEntity submitTeam = getTeamEntity(getCtfIdByChallenge(submitChallenge),
+        submitter.getId());
     CtfFlagEntity flagEntity = getFlagEntity(probId, submitTeam);
+    submitLog.set(
+        buildSubmitLog(submitFlag, submitChallenge, submitTeam, submitter, flagEntity));
     // 이미 맞췄으면 제출한 flag 정답 유무만 체크하고 DB 갱신 안함.
     if (isAlreadySolved(flagEntity)) {
       setSubmitFlagIsCorrect(submitFlag, flagEntity);
       return CtfFlagDto.toDto(flagEntity);
     }
     if (flagEntity.isTooFastRetry(RETRY_SECONDS)) {
+      // 같은 팀의 다른 회원이 먼저 제출한 경우
       throw new CustomTooFastRetryException(RETRY_SECONDS);
     }
     LocalDateTime now = LocalDateTime.now();
     flagEntity.updateLastTryTime(now);
     tryDecreaseSubmitCount(flagEntity);
-    if (isFlagCorrect(submitFlag, flagEntity)) {
-      setCorrect(flagEntity, submitTeam, now);
-      updateTeamScore(submitChallenge, submitTeam);
-      if (ctfUtilService.isTypeDynamic(submitChallenge)) {
-        ctfUtilService.setDynamicScore(submitChallenge);
-      }
+    // 같은 팀의 다른 팀원이 동시에 먼저 맞혔으면 점수를 더하지 않는다.
+    if (isFlagCorrect(submitFlag, flagEntity) && flagRepository.markSolved(flagEntity, now)) {
+      // 같은 문제의 정답 처리와 dynamic 점수 재계산은 문제 row lock으로 한 번에 하나씩 처리한다.
+      challengeRepository.refreshForUpdate(submitChallenge);
+      // 정답 처리는 bulk UPDATE라 listener를 거치지 않으므로 캐시를 직접 버린다.
+      ctfChallengeBoard.invalidate(getCtfIdByChallenge(submitChallenge));
+      ctfChallengeBoard.invalidateTeam(submitTeam.getId());
+      ctfEventPublisher.publishSolve(submitChallenge, submitTeam, now,
+          isFirstBlood(submitChallenge));
+      // 맞힌 팀의 점수와 dynamic 점수 재정산을 한 번에 반영해 팀 row를 id 순서로 잠근다.
+      ctfUtilService.addSolveScore(submitChallenge, submitTeam.getId());
+      // 점수를 반영하기 전에 바꾸면 flush 때 맞힌 팀 row만 먼저 잠그게 된다.
+      submitTeam.changeLastSolveTime(now);
     }
     return CtfFlagDto.toDto(flagEntity);
   }
@@ -151,24 +212,15 @@ public class CtfChallengeService {
   }
 
   private CtfChallengeDto getChallengeDto(Long probId) {
-    CtfChallengeEntity challengeEntity = getSolvableChallenge(probId);
-    Long solvedTeamCount = getSolvedTeamCount(probId);
-    CtfTeamEntity myTeam = getTeamEntity(getCtfIdByChallenge(challengeEntity),
-        authService.getMemberIdByJWT());
-    CtfFlagEntity ctfFlagEntity = getCtfFlagEntity(challengeEntity, myTeam);
-    Boolean isAlreadySolved = isAlreadySolved(ctfFlagEntity);
-    return CtfChallengeDto.toDto(challengeEntity, solvedTeamCount, isAlreadySolved,
-        ctfFlagEntity);
+    Long ctfId = getCtfIdByChallenge(getChallengeEntity(probId));
+    CtfTeamEntity myTeam = getTeamEntity(ctfId, authService.getMemberIdByJWT());
+    return ctfChallengeBoard.getChallenge(ctfId, probId, myTeam.getId());
   }
 
-  @Transactional
-  public CtfSubmitLogEntity setLog(Long probId, CtfFlagDto submitFlag) {
-    MemberEntity submitter = authService.getMemberEntityWithJWT();
-    CtfChallengeEntity submitChallenge = getChallenge(probId);
-    CtfTeamEntity submitTeam = getTeamEntity(getCtfIdByChallenge(submitChallenge),
-        submitter.getId());
-    CtfFlagEntity flagEntity = getFlagEntity(probId, submitTeam);
-    return submitLogRepository.save(CtfSubmitLogEntity.builder()
+  private CtfSubmitLogEntity buildSubmitLog(CtfFlagDto submitFlag,
+      CtfChallengeEntity submitChallenge, CtfTeamEntity submitTeam, MemberEntity submitter,
+      CtfFlagEntity flagEntity) {
+    return CtfSubmitLogEntity.builder()
         .submitTime(LocalDateTime.now())
         .flagSubmitted(submitFlag.getContent())
         .isCorrect(isFlagCorrect(submitFlag, flagEntity))
@@ -178,54 +230,19 @@ public class CtfChallengeService {
         .challengeName(submitChallenge.getName())
         .contestName(submitChallenge.getCtfContestEntity().getName())
         .contest(submitChallenge.getCtfContestEntity())
-        .build());
-  }
-
-  private CtfChallengeEntity getChallenge(Long probId) {
-    return challengeRepository.findById(probId)
-        .orElseThrow(CustomCtfChallengeNotFoundException::new);
-  }
-
-  private CtfChallengeEntity getSolvableChallenge(Long probId) {
-    return challengeRepository.findByIdAndIsSolvableTrue(probId)
-        .orElseThrow(CustomCtfChallengeNotFoundException::new);
+        .build();
   }
 
   private Long getSolvedTeamCount(Long probId) {
     return flagRepository.countByCtfChallengeEntityIdAndIsCorrect(probId, true);
   }
 
-  private CtfFlagEntity getCtfFlagEntity(CtfChallengeEntity solvableChallenge,
-      CtfTeamEntity myTeam) {
-    return flagRepository.findByCtfChallengeEntityIdAndCtfTeamEntityId(
-        solvableChallenge.getId(), myTeam.getId()).get();
-  }
-
-  private List<CtfChallengeEntity> getSolvableChallengeList(Long ctfId) {
-    CtfContestEntity contestEntity = getContestEntity(ctfId);
-    return challengeRepository.findAllByIdIsNotAndCtfContestEntityAndIsSolvable(
-        VIRTUAL_PROBLEM_ID, contestEntity, true);
-  }
-
-  private CtfContestEntity getContestEntity(Long ctfId) {
-    return contestRepository.findById(ctfId)
-        .orElseThrow(CustomContestNotFoundException::new);
-  }
-
   private CtfTeamEntity getTeamEntity(Long ctfId, Long memberId) {
     return ctfUtilService.getTeamHasMemberEntity(ctfId, memberId).getTeam();
   }
 
-  private void updateTeamScore(CtfChallengeEntity submitChallenge, CtfTeamEntity submitTeam) {
-    submitTeam.setScore(submitTeam.getScore() + submitChallenge.getScore());
-    teamRepository.save(submitTeam);
-  }
-
-  private void setCorrect(CtfFlagEntity flagEntity, CtfTeamEntity submitTeam,
-      LocalDateTime solvedTime) {
-    flagEntity.setIsCorrect(true);
-    flagEntity.setSolvedTime(solvedTime);
-    submitTeam.changeLastSolveTime(solvedTime);
+  private boolean isFirstBlood(CtfChallengeEntity submitChallenge) {
+    return getSolvedTeamCount(submitChallenge.getId()) == 1L;
   }
 
   private Boolean isAlreadySolved(CtfFlagEntity flagEntity) {
@@ -0,0 +1,229 @@
+package keeper.project.homepage.ctf.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import keeper.project.homepage.ctf.dto.CtfChallengeEventDto;
+import keeper.project.homepage.ctf.dto.CtfRankingDto;
+import keeper.project.homepage.ctf.dto.CtfScoreboardEventDto;
+import keeper.project.homepage.ctf.dto.CtfSolveEventDto;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.util.service.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * CTF 이벤트를 STOMP topic으로 보낸다.
+ *
+ * <ul>
+ *   <li>{@code /topic/ctf/{ctfId}/scoreboard} : 스코어보드 변경분. 변경이 여러 번 있어도
+ *   {@link #SCOREBOARD_PUSH_INTERVAL_MS}마다 최대 한 번만 보낸다.</li>
+ *   <li>{@code /topic/ctf/{ctfId}/solves} : 문제를 맞힌 팀, first blood 여부</li>
+ *   <li>{@code /topic/ctf/{ctfId}/challenges} : 문제 공개/비공개, dynamic 점수 변경</li>
+ * </ul>
+ *
+ * <p>모든 이벤트는 트랜잭션이 커밋된 뒤에 보낸다. 한 트랜잭션에서는 solves, challenges 이벤트를 먼저 보내고, 스코어보드
+ * 변경분은 커밋된 변경이 {@link CtfScoreboard}에 반영된 뒤에 보낸다. 롤백된 변경은 보내지 않는다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CtfEventPublisher {
+
+  private static final long SCOREBOARD_PUSH_INTERVAL_MS = 1_000;
+  private static final long SCOREBOARD_PUSH_INTERVAL_NANOS =
+      TimeUnit.MILLISECONDS.toNanos(SCOREBOARD_PUSH_INTERVAL_MS);
+
+  // solves, challenges 이벤트는 스코어보드 반영보다 먼저, 스코어보드 변경분은 반영이 끝난 뒤에 보낸다.
+  private static final int EVENT_ORDER = Ordered.HIGHEST_PRECEDENCE;
+  private static final int SCOREBOARD_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+  private final WebSocketService webSocketService;
+  private final CtfScoreboard ctfScoreboard;
+
+  // 대회별로 마지막에 보낸 스코어보드
+  private final Map<Long, PublishedScoreboard> publishedScoreboards = new ConcurrentHashMap<>();
+
+  public static String getScoreboardTopic(Long ctfId) {
+    return "/topic/ctf/" + ctfId + "/scoreboard";
+  }
+
+  public static String getSolvesTopic(Long ctfId) {
+    return "/topic/ctf/" + ctfId + "/solves";
+  }
+
+  public static String getChallengesTopic(Long ctfId) {
+    return "/topic/ctf/" + ctfId + "/challenges";
+  }
+
+  public void publishSolve(CtfChallengeEntity challenge, CtfTeamEntity team,
+      LocalDateTime solvedTime, boolean isFirstBlood) {
+    sendAfterCommit(getSolvesTopic(getCtfId(challenge)),
+        CtfSolveEventDto.toDto(challenge, team, solvedTime, isFirstBlood));
+  }
+
+  public void publishChallenge(CtfChallengeEntity challenge) {
+    sendAfterCommit(getChallengesTopic(getCtfId(challenge)),
+        CtfChallengeEventDto.toDto(challenge));
+  }
+
+  /**
+   * 트랜잭션이 커밋되어 스코어보드에 반영된 뒤 변경분을 보낸다. 마지막으로 보낸 지
+   * {@link #SCOREBOARD_PUSH_INTERVAL_MS}가 지나지 않았으면 {@link #publishScoreboards()}에서 보낸다.
+   */
+  @SuppressWarnings("unchecked")
+  public void publishScoreboardAfterCommit(Long ctfId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      publishScoreboardIfDue(ctfId);
+      return;
+    }
+    // 한 트랜잭션에서 여러 팀이 바뀌어도 대회마다 한 번만 보낸다.
+    Set<Long> ctfIds = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+    if (ctfIds == null) {
+      Set<Long> changedCtfIds = new HashSet<>();
+      TransactionSynchronizationManager.bindResource(this, changedCtfIds);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public int getOrder() {
+          return SCOREBOARD_ORDER;
+        }
+
+        @Override
+        public void afterCommit() {
+          changedCtfIds.forEach(CtfEventPublisher.this::publishScoreboardIfDue);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(CtfEventPublisher.this);
+        }
+      });
+      ctfIds = changedCtfIds;
+    }
+    ctfIds.add(ctfId);
+  }
+
+  /**
+   * 마지막으로 보낸 뒤 바뀐 스코어보드가 있으면 변경분만 보낸다.
+   */
+  @Scheduled(fixedDelay = SCOREBOARD_PUSH_INTERVAL_MS, initialDelay = SCOREBOARD_PUSH_INTERVAL_MS)
+  public synchronized void publishScoreboards() {
+    Set<Long> loadedCtfIds = ctfScoreboard.getLoadedCtfIds();
+    publishedScoreboards.keySet().retainAll(loadedCtfIds);
+    for (Long ctfId : loadedCtfIds) {
+      try {
+        publishScoreboard(ctfId);
+      } catch (RuntimeException e) {
+        log.warn("CTF 스코어보드 전송 실패 : ctfId={}", ctfId, e);
+      }
+    }
+  }
+
+  private synchronized void publishScoreboardIfDue(Long ctfId) {
+    PublishedScoreboard previous = publishedScoreboards.get(ctfId);
+    if (previous != null
+        && System.nanoTime() - previous.publishedAt < SCOREBOARD_PUSH_INTERVAL_NANOS) {
+      return;
+    }
+    try {
+      publishScoreboard(ctfId);
+    } catch (RuntimeException e) {
+      log.warn("CTF 스코어보드 전송 실패 : ctfId={}", ctfId, e);
+    }
+  }
+
+  private void publishScoreboard(Long ctfId) {
+    // 버전을 먼저 읽어야 순위를 읽는 도중 바뀐 내용을 다음 전송에서 놓치지 않는다.
+    long version = ctfScoreboard.getVersion(ctfId);
+    PublishedScoreboard previous = publishedScoreboards.get(ctfId);
+    if (version < 0 || (previous != null && previous.version == version)) {
+      return;
+    }
+
+    Map<Long, CtfRankingDto> ranking = new HashMap<>();
+    List<CtfRankingDto> changed = new ArrayList<>();
+    for (CtfRankingDto team : ctfScoreboard.getLoadedRanking(ctfId)) {
+      ranking.put(team.getId(), team);
+      if (previous == null || isChanged(previous.ranking.get(team.getId()), team)) {
+        changed.add(team);
+      }
+    }
+    List<Long> removedTeamIds = previous == null ? List.of() : previous.ranking.keySet().stream()
+        .filter(teamId -> !ranking.containsKey(teamId))
+        .toList();
+    publishedScoreboards.put(ctfId, new PublishedScoreboard(version, ranking));
+
+    if (changed.isEmpty() && removedTeamIds.isEmpty()) {
+      return;
+    }
+    webSocketService.sendMessage(getScoreboardTopic(ctfId), CtfScoreboardEventDto.builder()
+        .ctfId(ctfId)
+        .changed(changed)
+        .removedTeamIds(removedTeamIds)
+        .build());
+  }
+
+  private static boolean isChanged(CtfRankingDto previous, CtfRankingDto current) {
+    return previous == null
+        || !Objects.equals(previous.getRank(), current.getRank())
+        || !Objects.equals(previous.getScore(), current.getScore())
+        || !Objects.equals(previous.getLastSolvedTime(), current.getLastSolvedTime())
+        || !Objects.equals(previous.getName(), current.getName())
+        || !Objects.equals(previous.getDescription(), current.getDescription());
+  }
+
+  private void sendAfterCommit(String destination, Object message) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      send(destination, message);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public int getOrder() {
+        return EVENT_ORDER;
+      }
+
+      @Override
+      public void afterCommit() {
+        send(destination, message);
+      }
+    });
+  }
+
+  private void send(String destination, Object message) {
+    try {
+      webSocketService.sendMessage(destination, message);
+    } catch (RuntimeException e) {
+      log.warn("CTF 이벤트 전송 실패 : destination={}", destination, e);
+    }
+  }
+
+  private static Long getCtfId(CtfChallengeEntity challenge) {
+    return challenge.getCtfContestEntity().getId();
+  }
+
+  private static class PublishedScoreboard {
+
+    private final long version;
+    private final Map<Long, CtfRankingDto> ranking;
+    private final long publishedAt = System.nanoTime();
+
+    PublishedScoreboard(long version, Map<Long, CtfRankingDto> ranking) {
+      this.version = version;
+      this.ranking = ranking;
+    }
+  }
+}
@@ -1,10 +1,6 @@
 package keeper.project.homepage.ctf.service;
 
-import static keeper.project.homepage.util.service.CtfUtilService.VIRTUAL_TEAM_ID;
-
 import keeper.project.homepage.ctf.dto.CtfRankingDto;
-import keeper.project.homepage.ctf.entity.CtfTeamEntity;
-import keeper.project.homepage.ctf.repository.CtfTeamRepository;
 import keeper.project.homepage.util.service.CtfUtilService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -19,39 +15,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CtfRankingService {
 
-  private final CtfTeamRepository teamRepository;
+  private final CtfScoreboard ctfScoreboard;
   private final CtfUtilService ctfUtilService;
 
+  /**
+   * 스코어보드 순위는 (점수 내림차순, 마지막으로 문제를 푼 시간 오름차순, 팀 id 오름차순)으로 고정되며,
+   * pageable의 정렬 조건은 사용하지 않는다.
+   */
   public Page<CtfRankingDto> getRankingList(Long ctfId, Pageable pageable) {
     ctfUtilService.checkVirtualContest(ctfId);
-    Page<CtfTeamEntity> teamEntityPage = getAllTeamEntityInRange(ctfId, pageable);
-    return getCtfRankingDtoPageAndSetRank(teamEntityPage);
-  }
-
-  private long getRank(Page<CtfTeamEntity> teamEntityPage) {
-    return (long) teamEntityPage.getNumber() * teamEntityPage.getSize() + 1;
-  }
-
-  private Page<CtfTeamEntity> getAllTeamEntityInRange(Long ctfId, Pageable pageable) {
-    return teamRepository.findAllByIdIsNotAndCtfContestEntity_Id(VIRTUAL_TEAM_ID, ctfId, pageable);
-  }
-
-  private Page<CtfRankingDto> getCtfRankingDtoPageAndSetRank(Page<CtfTeamEntity> teamEntityPage) {
-    Page<CtfRankingDto> ctfRankingDtoPage = getCtfRankingDtoPage(teamEntityPage);
-    setRank(teamEntityPage, ctfRankingDtoPage);
-    return ctfRankingDtoPage;
-  }
-
-  private void setRank(Page<CtfTeamEntity> teamEntityPage, Page<CtfRankingDto> ctfRankingDtoPage) {
-    long rank = getRank(teamEntityPage);
-    for (var ctfRankingDto : ctfRankingDtoPage) {
-      ctfRankingDto.setRank(rank++);
-    }
-  }
-
-  private Page<CtfRankingDto> getCtfRankingDtoPage(Page<CtfTeamEntity> teamEntityPage) {
-    Page<CtfRankingDto> result = teamEntityPage
-        .map(team -> CtfRankingDto.toDto(team, null));
-    return result;
+    return ctfScoreboard.getRankingPage(ctfId, pageable);
   }
 }
@@ -0,0 +1,433 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.util.service.CtfUtilService.VIRTUAL_TEAM_ID;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import keeper.project.homepage.ctf.dto.CtfRankingDto;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.ctf.exception.CustomContestNotFoundException;
+import keeper.project.homepage.ctf.repository.CtfContestRepository;
+import keeper.project.homepage.ctf.repository.CtfTeamRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대회별 스코어보드.
+ *
+ * <p>팀을 (점수 내림차순, 마지막으로 문제를 푼 시간 오름차순, 팀 id 오름차순)으로 정렬해 메모리에 유지한다.
+ * 조회는 정렬된 스냅샷 배열을 사용하므로 페이지 조회는 O(k)이다.
+ * 스냅샷은 점수가 바뀐 뒤 처음 조회할 때 한 번만 다시 만든다.
+ *
+ * <p>팀 점수와 정보는 {@link keeper.project.homepage.ctf.entity.CtfScoreboardListener}를 통해 트랜잭션이 커밋된 뒤에
+ * 반영되므로, 롤백되거나 아직 커밋되지 않은 점수는 보이지 않는다. 변경은 모두 절대값(팀 정보, 점수)으로 반영한다.
+ * 반영한 뒤에는 {@link CtfEventPublisher}가 변경분을 보낸다.
+ *
+ * <p>아직 만들어지지 않은 대회(서버 재시작 등)의 스코어보드는 처음 조회할 때 별도의 READ COMMITTED 트랜잭션에서 만든다.
+ * DB에서 읽는 동안 커밋된 변경은 모아두었다가 읽은 결과 위에 다시 반영한다. 여러 트랜잭션의 커밋 순서와 반영 순서가
+ * 다를 수 있으므로 {@link #RELOAD_INTERVAL_MS}마다 같은 방법으로 다시 만든다. 이때 참가할 수 없는 대회의 스코어보드는
+ * 다시 만들지 않고 버린다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CtfScoreboard {
+
+  /**
+   * 커밋된 변경을 반영하는 순서. {@link CtfEventPublisher}는 solves 이벤트를 이보다 먼저 보내고, 스코어보드 변경분은
+   * 반영이 끝난 뒤에 보낸다.
+   */
+  static final int APPLY_ORDER = 0;
+
+  private static final long RELOAD_INTERVAL_MS = 60_000;
+
+  private static final Comparator<Entry> RANKING_ORDER = Comparator
+      .comparing(Entry::getScore, Comparator.reverseOrder())
+      .thenComparing(Entry::getLastSolveTime, Comparator.nullsLast(Comparator.naturalOrder()))
+      .thenComparing(Entry::getTeamId);
+
+  // 스코어보드가 다시 만들어져도 같은 버전이 나오지 않도록 모든 대회가 하나의 순번을 공유한다.
+  private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+
+  private final CtfTeamRepository teamRepository;
+  private final CtfContestRepository contestRepository;
+  private final PlatformTransactionManager transactionManager;
+  // CtfEventPublisher가 스코어보드를 읽으므로 순환 참조를 피하려고 필요할 때 가져온다.
+  private final ObjectProvider<CtfEventPublisher> eventPublisher;
+
+  private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+  public Page<CtfRankingDto> getRankingPage(Long ctfId, Pageable pageable) {
+    Entry[] ranking = getBoard(ctfId).getSnapshot();
+    int from = (int) Math.min(pageable.getOffset(), ranking.length);
+    int to = Math.min(from + pageable.getPageSize(), ranking.length);
+
+    List<CtfRankingDto> content = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      content.add(ranking[i].toDto(i + 1L));
+    }
+    return new PageImpl<>(content, pageable, ranking.length);
+  }
+
+  /**
+   * 이미 만들어진 스코어보드의 전체 순위. 만들어지지 않은 대회는 빈 리스트를 반환한다.
+   */
+  public List<CtfRankingDto> getLoadedRanking(Long ctfId) {
+    Board board = boards.get(ctfId);
+    if (board == null || !board.isLoaded()) {
+      return List.of();
+    }
+    Entry[] ranking = board.getSnapshot();
+    List<CtfRankingDto> result = new ArrayList<>(ranking.length);
+    for (int i = 0; i < ranking.length; i++) {
+      result.add(ranking[i].toDto(i + 1L));
+    }
+    return result;
+  }
+
+  /**
+   * 스코어보드가 바뀔 때마다 증가하는 값. 만들어지지 않은 대회는 -1을 반환한다.
+   */
+  public long getVersion(Long ctfId) {
+    Board board = boards.get(ctfId);
+    return board == null || !board.isLoaded() ? -1 : board.version;
+  }
+
+  public Set<Long> getLoadedCtfIds() {
+    Set<Long> loadedCtfIds = new HashSet<>();
+    boards.forEach((ctfId, board) -> {
+      if (board.isLoaded()) {
+        loadedCtfIds.add(ctfId);
+      }
+    });
+    return loadedCtfIds;
+  }
+
+  /**
+   * 팀이 생성되거나 점수, 정보가 바뀌었을 때 호출된다. 트랜잭션이 커밋된 뒤에 반영한다.
+   */
+  public void update(CtfTeamEntity team) {
+    if (VIRTUAL_TEAM_ID.equals(team.getId())) {
+      return;
+    }
+    // flush 시점의 값을 저장해 두어야 커밋 뒤에 엔티티가 바뀌어도 영향을 받지 않는다.
+    Entry entry = new Entry(team);
+    applyAfterCommit(getCtfId(team), board -> board.put(entry));
+  }
+
+  /**
+   * 여러 팀의 점수를 변경된 값으로 바꾼다. bulk UPDATE처럼 entity listener를 거치지 않는 변경에 사용한다.
+   *
+   * @param scoreByTeamId 팀 id -> 변경된 점수
+   */
+  public void setScores(Long ctfId, Map<Long, Long> scoreByTeamId) {
+    if (scoreByTeamId.isEmpty()) {
+      return;
+    }
+    Map<Long, Long> scores = Map.copyOf(scoreByTeamId);
+    applyAfterCommit(ctfId, board -> board.setScores(scores));
+  }
+
+  public void remove(CtfTeamEntity team) {
+    Long teamId = team.getId();
+    applyAfterCommit(getCtfId(team), board -> board.remove(teamId));
+  }
+
+  /**
+   * 다음 조회 때 DB에서 다시 만들도록 스코어보드를 버린다.
+   */
+  public void invalidate(Long ctfId) {
+    boards.remove(ctfId);
+  }
+
+  /**
+   * 반영 순서가 뒤바뀌어 남은 오차를 없애기 위해 만들어진 스코어보드를 DB에서 다시 만든다. 참가할 수 없는 대회는 점수가
+   * 더 바뀌지 않으므로 버리고, 다시 조회하면 그때 만든다.
+   */
+  @Scheduled(fixedDelay = RELOAD_INTERVAL_MS, initialDelay = RELOAD_INTERVAL_MS)
+  public void reloadBoards() {
+    boards.forEach((ctfId, board) -> {
+      if (!board.beginReload()) {
+        return;
+      }
+      try {
+        if (!contestRepository.existsByIdAndIsJoinableTrue(ctfId)) {
+          boards.remove(ctfId, board);
+          board.cancelReload();
+          return;
+        }
+        board.finishLoad(loadEntries(ctfId));
+      } catch (CustomContestNotFoundException e) {
+        boards.remove(ctfId, board);
+        board.cancelReload();
+      } catch (RuntimeException e) {
+        board.cancelReload();
+        log.warn("CTF 스코어보드 갱신 실패 : ctfId={}", ctfId, e);
+      }
+    });
+  }
+
+  private Board getBoard(Long ctfId) {
+    while (true) {
+      Board board = boards.get(ctfId);
+      if (board == null) {
+        Board newBoard = new Board();
+        board = boards.putIfAbsent(ctfId, newBoard);
+        if (board == null) {
+          load(ctfId, newBoard);
+          return newBoard;
+        }
+      }
+      if (board.awaitLoaded()) {
+        return board;
+      }
+      // 다른 스레드가 만들다 실패했으면 다시 만든다.
+    }
+  }
+
+  /**
+   * map의 lock을 잡지 않고 읽는다. 그 사이에 커밋된 변경은 {@link Board}에 모아두었다가 다시 반영한다.
+   */
+  private void load(Long ctfId, Board board) {
+    try {
+      List<Entry> entries = loadEntries(ctfId);
+      board.finishLoad(entries);
+      log.info("CTF 스코어보드 생성 : ctfId={}, teamCount={}", ctfId, entries.size());
+    } catch (RuntimeException e) {
+      boards.remove(ctfId, board);
+      board.failLoad();
+      throw e;
+    }
+  }
+
+  /**
+   * 호출한 쪽의 트랜잭션 스냅샷이 아니라 지금까지 커밋된 팀을 읽도록 새 READ COMMITTED 트랜잭션에서 읽는다.
+   */
+  private List<Entry> loadEntries(Long ctfId) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    transactionTemplate.setReadOnly(true);
+    return transactionTemplate.execute(status -> {
+      if (!contestRepository.existsById(ctfId)) {
+        throw new CustomContestNotFoundException();
+      }
+      return teamRepository.findAllByIdIsNotAndCtfContestEntity_Id(VIRTUAL_TEAM_ID, ctfId)
+          .stream()
+          .map(Entry::new)
+          .toList();
+    });
+  }
+
+  private static Long getCtfId(CtfTeamEntity team) {
+    return team.getCtfContestEntity().getId();
+  }
+
+  private void applyAfterCommit(Long ctfId, Change change) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public int getOrder() {
+          return APPLY_ORDER;
+        }
+
+        @Override
+        public void afterCommit() {
+          apply(ctfId, change);
+        }
+      });
+    } else {
+      apply(ctfId, change);
+    }
+    eventPublisher.ifAvailable(publisher -> publisher.publishScoreboardAfterCommit(ctfId));
+  }
+
+  private void apply(Long ctfId, Change change) {
+    // 만들어지지 않은 스코어보드는 나중에 만들 때 커밋된 내용을 읽으므로 무시한다.
+    Board board = boards.get(ctfId);
+    if (board != null) {
+      board.apply(change);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Change {
+
+    void applyTo(Board board);
+  }
+
+  /**
+   * 한 대회의 순위. 변경은 lock 안에서 정렬된 집합에 반영하고, 조회는 lock 없이 마지막 스냅샷을 읽는다.
+   */
+  private static class Board {
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> ranking = new TreeSet<>(RANKING_ORDER);
+    private final CountDownLatch loadLatch = new CountDownLatch(1);
+    // DB에서 읽는 동안 반영된 변경. 읽기가 끝나면 읽은 결과 위에 다시 반영한다. 읽는 중이 아니면 null
+    private List<Change> changesDuringLoad = new ArrayList<>();
+    private volatile boolean isLoadFailed;
+    private volatile Entry[] snapshot;
+    private volatile long version = VERSION_SEQUENCE.incrementAndGet();
+
+    synchronized void apply(Change change) {
+      change.applyTo(this);
+      if (changesDuringLoad != null) {
+        changesDuringLoad.add(change);
+      }
+      changed();
+    }
+
+    /**
+     * @return 이미 읽는 중이면 false
+     */
+    synchronized boolean beginReload() {
+      if (changesDuringLoad != null) {
+        return false;
+      }
+      changesDuringLoad = new ArrayList<>();
+      return true;
+    }
+
+    synchronized void cancelReload() {
+      changesDuringLoad = null;
+    }
+
+    synchronized void finishLoad(List<Entry> loadedEntries) {
+      entries.clear();
+      ranking.clear();
+      loadedEntries.forEach(this::put);
+      changesDuringLoad.forEach(change -> change.applyTo(this));
+      changesDuringLoad = null;
+      changed();
+      loadLatch.countDown();
+    }
+
+    void failLoad() {
+      isLoadFailed = true;
+      loadLatch.countDown();
+    }
+
+    boolean isLoaded() {
+      return loadLatch.getCount() == 0 && !isLoadFailed;
+    }
+
+    /**
+     * @return 다른 스레드가 만들다 실패했으면 false
+     */
+    boolean awaitLoaded() {
+      try {
+        loadLatch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("스코어보드를 기다리는 중 중단되었습니다.", e);
+      }
+      return !isLoadFailed;
+    }
+
+    // 아래 변경 메서드는 lock 안에서만 호출한다.
+    private void put(Entry entry) {
+      Entry previous = entries.put(entry.getTeamId(), entry);
+      if (previous != null) {
+        ranking.remove(previous);
+      }
+      ranking.add(entry);
+    }
+
+    private void setScores(Map<Long, Long> scoreByTeamId) {
+      scoreByTeamId.forEach((teamId, score) -> {
+        Entry previous = entries.get(teamId);
+        if (previous != null) {
+          put(previous.withScore(score));
+        }
+      });
+    }
+
+    private void remove(Long teamId) {
+      Entry previous = entries.remove(teamId);
+      if (previous != null) {
+        ranking.remove(previous);
+      }
+    }
+
+    private void changed() {
+      snapshot = null;
+      version = VERSION_SEQUENCE.incrementAndGet();
+    }
+
+    Entry[] getSnapshot() {
+      Entry[] current = snapshot;
+      if (current != null) {
+        return current;
+      }
+      synchronized (this) {
+        if (snapshot == null) {
+          snapshot = ranking.toArray(new Entry[0]);
+        }
+        return snapshot;
+      }
+    }
+  }
+
+  @Getter
+  private static class Entry {
+
+    private final Long teamId;
+    private final String name;
+    private final String description;
+    private final Long score;
+    private final LocalDateTime lastSolveTime;
+
+    Entry(CtfTeamEntity team) {
+      this(team.getId(), team.getName(), team.getDescription(),
+          team.getScore() == null ? 0L : team.getScore(), team.getLastSolveTime());
+    }
+
+    Entry(Long teamId, String name, String description, Long score,
+        LocalDateTime lastSolveTime) {
+      this.teamId = teamId;
+      this.name = name;
+      this.description = description;
+      this.score = score;
+      this.lastSolveTime = lastSolveTime;
+    }
+
+    Entry withScore(Long score) {
+      return new Entry(teamId, name, description, score, lastSolveTime);
+    }
+
+    CtfRankingDto toDto(Long rank) {
+      return CtfRankingDto.builder()
+          .id(teamId)
+          .name(name)
+          .description(description)
+          .score(score)
+          .lastSolvedTime(lastSolveTime)
+          .rank(rank)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package keeper.project.homepage.ctf.service;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import keeper.project.homepage.ctf.entity.CtfSubmitLogEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * flag 제출 로그를 큐에 모아두었다가 백그라운드에서 JDBC batch insert로 저장한다.
+ *
+ * <p>제출 요청의 트랜잭션이 끝난 뒤에 큐에 넣으므로, 채점 트랜잭션과 커넥션을 나눠 쓰지 않는다.
+ * 큐가 가득 차면 {@link #OFFER_TIMEOUT_MS}만큼 기다리고, 그래도 자리가 없으면 요청 스레드에서 직접 저장한다.
+ * 종료 시점에 남은 로그도 저장한다. batch 저장이 실패하면 저장되지 않은 로그만 한 건씩 다시 저장한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CtfSubmitLogWriter {
+
+  private static final int QUEUE_CAPACITY = 10_000;
+  private static final int BATCH_SIZE = 500;
+  private static final long OFFER_TIMEOUT_MS = 100;
+  private static final long FLUSH_INTERVAL_MS = 200;
+
+  // 대회가 삭제된 경우(롤백된 테스트 포함)에는 FK 오류 대신 로그를 남기지 않는다.
+  private static final String INSERT_SQL = "INSERT INTO ctf_submit_log "
+      + "(submit_time, flag_submitted, is_correct, team_name, submitter_login_id, "
+      + "submitter_realname, challenge_name, contest_name, ctf_contest_id) "
+      + "SELECT ?, ?, ?, ?, ?, ?, ?, ?, id FROM ctf_contest WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final BlockingQueue<CtfSubmitLogEntity> queue = new ArrayBlockingQueue<>(
+      QUEUE_CAPACITY);
+
+  public void submit(CtfSubmitLogEntity submitLog) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      enqueue(submitLog);
+      return;
+    }
+    // 채점 중 예외가 발생해 롤백되더라도 제출 기록은 남긴다.
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        enqueue(submitLog);
+      }
+    });
+  }
+
+  public int getPendingCount() {
+    return queue.size();
+  }
+
+  @Scheduled(fixedDelay = FLUSH_INTERVAL_MS, initialDelay = FLUSH_INTERVAL_MS)
+  public void flush() {
+    List<CtfSubmitLogEntity> batch = new ArrayList<>(BATCH_SIZE);
+    while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+      write(batch);
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  void write(List<CtfSubmitLogEntity> submitLogs) {
+    try {
+      jdbcTemplate.batchUpdate(INSERT_SQL, submitLogs, submitLogs.size(), (ps, submitLog) -> {
+        ps.setTimestamp(1, Timestamp.valueOf(submitLog.getSubmitTime()));
+        ps.setString(2, submitLog.getFlagSubmitted());
+        ps.setBoolean(3, submitLog.getIsCorrect());
+        ps.setString(4, submitLog.getTeamName());
+        ps.setString(5, submitLog.getSubmitterLoginId());
+        ps.setString(6, submitLog.getSubmitterRealname());
+        ps.setString(7, submitLog.getChallengeName());
+        ps.setString(8, submitLog.getContestName());
+        ps.setLong(9, submitLog.getContest().getId());
+      });
+    } catch (DataAccessException e) {
+      if (submitLogs.size() == 1) {
+        CtfSubmitLogEntity submitLog = submitLogs.get(0);
+        log.warn("CTF 제출 로그 저장 실패 : contestId={}, team={}, challenge={}",
+            submitLog.getContest().getId(), submitLog.getTeamName(),
+            submitLog.getChallengeName(), e);
+        return;
+      }
+      // 로그 하나 때문에 batch 전체를 버리지 않도록 저장되지 않은 로그만 한 건씩 다시 저장한다.
+      List<CtfSubmitLogEntity> failedSubmitLogs = getFailedSubmitLogs(submitLogs, e);
+      log.warn("CTF 제출 로그 batch 저장 실패, 한 건씩 다시 저장 : count={}, failed={}",
+          submitLogs.size(), failedSubmitLogs.size(), e);
+      for (CtfSubmitLogEntity submitLog : failedSubmitLogs) {
+        write(List.of(submitLog));
+      }
+    }
+  }
+
+  /**
+   * batch 중 저장되지 않은 로그. 드라이버가 문장별 결과를 주지 않으면 모두 실패한 것으로 본다.
+   */
+  private static List<CtfSubmitLogEntity> getFailedSubmitLogs(List<CtfSubmitLogEntity> submitLogs,
+      DataAccessException e) {
+    BatchUpdateException batchUpdateException = findBatchUpdateException(e);
+    if (batchUpdateException == null || batchUpdateException.getUpdateCounts() == null) {
+      return submitLogs;
+    }
+    int[] updateCounts = batchUpdateException.getUpdateCounts();
+    List<CtfSubmitLogEntity> failedSubmitLogs = new ArrayList<>();
+    for (int i = 0; i < submitLogs.size(); i++) {
+      // 첫 실패에서 멈추는 드라이버는 그 뒤의 결과를 주지 않는다.
+      if (i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED) {
+        failedSubmitLogs.add(submitLogs.get(i));
+      }
+    }
+    return failedSubmitLogs;
+  }
+
+  private static BatchUpdateException findBatchUpdateException(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof BatchUpdateException) {
+        return (BatchUpdateException) cause;
+      }
+    }
+    return null;
+  }
+
+  private void enqueue(CtfSubmitLogEntity submitLog) {
+    try {
+      if (queue.offer(submitLog, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // 큐가 가득 찼으면 writer를 기다리지 않고 직접 저장한다.
+    write(List.of(submitLog));
+  }
+}
@@ -0,0 +1,127 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.ctf.service.CtfChallengeService.RETRY_SECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * (회원, 문제)별 flag 제출 횟수 제한.
+ *
+ * <p>토큰 버킷을 다음 토큰이 생기는 시각 하나로 표현(GCRA)하고, {@link AtomicLong}의 compare-and-set으로 갱신한다.
+ * 같은 회원이 동시에 제출해도 한 요청만 통과한다. 회원 id는 JWT에서 바로 얻으므로 거절할 때는 DB를 조회하지 않는다.
+ * 같은 팀의 다른 회원이 제출한 경우는 채점 트랜잭션에서 flag의 마지막 제출 시각으로 한 번 더 확인한다.
+ * 기본값은 {@link CtfChallengeService#RETRY_SECONDS}마다 한 번 제출할 수 있고, 모아둘 수 있는 토큰은 1개다.
+ *
+ * <p>토큰이 가득 찬 버킷은 없는 버킷과 같으므로 {@link #EVICT_INTERVAL_MS}마다 정리한다.
+ */
+@Component
+public class CtfSubmitRateLimiter {
+
+  private static final long EVICT_INTERVAL_MS = 60_000;
+  private static final long EVICTED = Long.MIN_VALUE;
+  private static final String REJECTED_METRIC = "keeper.ctf.submit.rejected";
+  private static final String BUCKETS_METRIC = "keeper.ctf.submit.buckets";
+
+  private final LongSupplier nanoClock;
+  private final long intervalNanos;
+  // 다음 토큰 시각이 현재보다 이만큼 미래여도 남은 토큰이 있는 것으로 본다. (용량 - 1) * interval
+  private final long burstToleranceNanos;
+  private final Counter rejectedCounter;
+
+  private final Map<SubmitKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+  @Autowired
+  public CtfSubmitRateLimiter(MeterRegistry meterRegistry) {
+    this(meterRegistry, System::nanoTime, TimeUnit.SECONDS.toNanos(RETRY_SECONDS), 1);
+  }
+
+  CtfSubmitRateLimiter(MeterRegistry meterRegistry, LongSupplier nanoClock, long intervalNanos,
+      int capacity) {
+    this.nanoClock = nanoClock;
+    this.intervalNanos = intervalNanos;
+    this.burstToleranceNanos = intervalNanos * (capacity - 1);
+    this.rejectedCounter = meterRegistry.counter(REJECTED_METRIC);
+    meterRegistry.gaugeMapSize(BUCKETS_METRIC, Tags.empty(), buckets);
+  }
+
+  /**
+   * 토큰이 있으면 하나 사용하고 true를 반환한다.
+   */
+  public boolean tryAcquire(Long memberId, Long challengeId) {
+    SubmitKey key = new SubmitKey(memberId, challengeId);
+    long now = nanoClock.getAsLong();
+    while (true) {
+      AtomicLong bucket = buckets.get(key);
+      if (bucket == null) {
+        bucket = buckets.putIfAbsent(key, new AtomicLong(now + intervalNanos));
+        if (bucket == null) {
+          return true;
+        }
+      }
+      long nextTokenTime = bucket.get();
+      if (nextTokenTime == EVICTED) {
+        // 정리 중인 버킷이면 지워질 때까지 기다리지 않고 직접 지운 뒤 다시 시도한다.
+        buckets.remove(key, bucket);
+        continue;
+      }
+      if (nextTokenTime - now > burstToleranceNanos) {
+        rejectedCounter.increment();
+        return false;
+      }
+      long base = nextTokenTime - now > 0 ? nextTokenTime : now;
+      if (bucket.compareAndSet(nextTokenTime, base + intervalNanos)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * {@link #tryAcquire(Long, Long)}로 사용한 토큰을 돌려준다. 제출 횟수 제한이 아닌 다른 이유로 제출을 거절했을 때
+   * 호출한다.
+   */
+  public void release(Long memberId, Long challengeId) {
+    AtomicLong bucket = buckets.get(new SubmitKey(memberId, challengeId));
+    if (bucket == null) {
+      return;
+    }
+    while (true) {
+      long nextTokenTime = bucket.get();
+      if (nextTokenTime == EVICTED
+          || bucket.compareAndSet(nextTokenTime, nextTokenTime - intervalNanos)) {
+        return;
+      }
+    }
+  }
+
+  public int getBucketCount() {
+    return buckets.size();
+  }
+
+  @Scheduled(fixedDelay = EVICT_INTERVAL_MS, initialDelay = EVICT_INTERVAL_MS)
+  public void evictFullBuckets() {
+    long now = nanoClock.getAsLong();
+    for (Map.Entry<SubmitKey, AtomicLong> entry : buckets.entrySet()) {
+      AtomicLong bucket = entry.getValue();
+      long nextTokenTime = bucket.get();
+      // 지우기 전에 표시해 두어야 그 사이에 사용된 토큰이 사라지지 않는다.
+      if (nextTokenTime != EVICTED && nextTokenTime - now <= 0
+          && bucket.compareAndSet(nextTokenTime, EVICTED)) {
+        buckets.remove(entry.getKey(), bucket);
+      }
+    }
+  }
+
+  private record SubmitKey(Long memberId, Long challengeId) {
+
+  }
+}
@@ -0,0 +1,72 @@
+package keeper.project.homepage.ctf.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (대회, 회원) -> 가입한 팀 id 인덱스.
+ *
+ * <p>팀 가입은 트랜잭션이 커밋된 뒤에 반영하고, 탈퇴와 팀 삭제는 바로 반영한 뒤 트랜잭션이 끝나면 한 번 더 반영한다.
+ * 동시에 실행된 요청 때문에 이미 탈퇴한 팀이 남아있을 수 있으므로, 조회한 팀 id는 DB에서 (팀, 회원)으로 확인한 뒤 사용한다.
+ */
+@Component
+public class CtfTeamMemberIndex {
+
+  private final Map<MembershipKey, Long> teamIds = new ConcurrentHashMap<>();
+
+  public Optional<Long> getTeamId(Long ctfId, Long memberId) {
+    return Optional.ofNullable(teamIds.get(new MembershipKey(ctfId, memberId)));
+  }
+
+  public void put(Long ctfId, Long memberId, Long teamId) {
+    MembershipKey key = new MembershipKey(ctfId, memberId);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      teamIds.put(key, teamId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        teamIds.put(key, teamId);
+      }
+    });
+  }
+
+  public void remove(Long ctfId, Long memberId) {
+    MembershipKey key = new MembershipKey(ctfId, memberId);
+    teamIds.remove(key);
+    afterCompletion(() -> teamIds.remove(key));
+  }
+
+  /**
+   * 팀이 삭제되었을 때 호출한다. 팀 삭제는 드물기 때문에 전체를 훑는다.
+   */
+  public void removeTeam(Long teamId) {
+    teamIds.values().removeIf(teamId::equals);
+    afterCompletion(() -> teamIds.values().removeIf(teamId::equals));
+  }
+
+  public int size() {
+    return teamIds.size();
+  }
+
+  private static void afterCompletion(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        action.run();
+      }
+    });
+  }
+
+  private record MembershipKey(Long ctfId, Long memberId) {
+
+  }
+}
@@ -16,7 +16,6 @@ import keeper.project.homepage.ctf.entity.CtfTeamEntity;
 import keeper.project.homepage.ctf.entity.CtfTeamHasMemberEntity;
 import keeper.project.homepage.ctf.exception.CustomContestNotFoundException;
 import keeper.project.homepage.ctf.exception.CustomCtfTeamNotFoundException;
-import keeper.project.homepage.ctf.repository.CtfChallengeRepository;
 import keeper.project.homepage.ctf.repository.CtfContestRepository;
 import keeper.project.homepage.ctf.repository.CtfFlagRepository;
 import keeper.project.homepage.ctf.repository.CtfTeamHasMemberRepository;
@@ -46,9 +45,10 @@ public class CtfTeamService {
   private final CtfTeamHasMemberRepository teamHasMemberRepository;
   private final CtfFlagRepository flagRepository;
   private final CtfContestRepository contestRepository;
-  private final CtfChallengeRepository challengeRepository;
   private final AuthService authService;
   private final CtfUtilService ctfUtilService;
+  private final CtfTeamMemberIndex ctfTeamMemberIndex;
+  private final CtfChallengeBoard ctfChallengeBoard;
 
   @Transactional
   public CtfTeamDetailDto createTeam(CtfTeamDetailDto ctfTeamDetailDto) {
@@ -57,7 +57,7 @@ public class CtfTeamService {
     CtfTeamEntity newTeamEntity = createNewTeamEntity(ctfTeamDetailDto);
     registerCreatorToTeam(newTeamEntity);
     ctfUtilService.setAllDynamicScore(); // 팀이 생성될 때 마다 Dynamic score 변경해 줘야 함.
-    createTeamFlag(ctfTeamDetailDto, newTeamEntity); // 팀이 생성될 때 마다 모든 문제에 해당하는 flag를 매핑해 줘야 함.
+    createTeamFlag(newTeamEntity); // 팀이 생성될 때 마다 모든 문제에 해당하는 flag를 매핑해 줘야 함.
     return getCtfTeamDetailDto(newTeamEntity, Collections.emptyList());
   }
 
@@ -154,6 +154,7 @@ public class CtfTeamService {
             .team(joinTeam)
             .member(joinMember)
             .build());
+    ctfTeamMemberIndex.put(getCtfId(joinTeam), joinMember.getId(), joinTeam.getId());
     return teamHasMember;
   }
 
@@ -198,6 +199,7 @@ public class CtfTeamService {
         .getTeamHasMemberEntity(ctfId, leaveMember.getId());
     CtfTeamEntity leftTeam = leaveTeamHasMemberEntity.getTeam();
     teamHasMemberRepository.delete(leaveTeamHasMemberEntity);
+    ctfTeamMemberIndex.remove(ctfId, leaveMember.getId());
     return leftTeam;
   }
 
@@ -240,31 +242,16 @@ public class CtfTeamService {
         .orElseThrow(CustomContestNotFoundException::new);
   }
 
-  private void createTeamFlag(CtfTeamDetailDto ctfTeamDetailDto, CtfTeamEntity newTeamEntity) {
-    Long contestId = ctfTeamDetailDto.getContestId();
-    CtfContestEntity contest = getContestEntity(contestId);
-    List<CtfChallengeEntity> challengeEntityList = getAllChallengeEntity(contest);
-    challengeEntityList.forEach(challenge -> {
-      CtfFlagEntity flagEntity = CtfFlagEntity.builder()
-          .content(challenge.getCtfFlagEntity().get(0).getContent())
-          .ctfTeamEntity(newTeamEntity)
-          .ctfChallengeEntity(challenge)
-          .isCorrect(false)
-          .remainedSubmitCount(challenge.getMaxSubmitCount())
-          .build();
-      flagRepository.save(flagEntity);
-    });
-  }
-
-  private List<CtfChallengeEntity> getAllChallengeEntity(CtfContestEntity contest) {
-    return challengeRepository.findAllByIdIsNotAndCtfContestEntity(
-        VIRTUAL_CONTEST_ID, contest);
+  private void createTeamFlag(CtfTeamEntity newTeamEntity) {
+    flagRepository.insertFlagForAllChallenges(newTeamEntity);
+    ctfChallengeBoard.invalidateTeam(newTeamEntity.getId());
   }
 
   private void registerCreatorToTeam(CtfTeamEntity team) {
     MemberEntity creator = getMemberEntityByJWT();
     CtfTeamHasMemberEntity teamHasMemberEntity = new CtfTeamHasMemberEntity(team, creator);
     teamHasMemberRepository.save(teamHasMemberEntity);
+    ctfTeamMemberIndex.put(getCtfId(team), creator.getId(), team.getId());
   }
 
   private CtfTeamEntity saveTeam(CtfTeamEntity ctfTeamEntity) {
@@ -281,9 +268,8 @@ public class CtfTeamService {
   }
 
   private boolean isAlreadyHasTeam(Long ctfId, MemberEntity creator) {
-    return teamHasMemberRepository.findAllByMember(creator).stream().anyMatch(teamHasMemberEntity ->
-        ctfId.equals(getCtfId(teamHasMemberEntity.getTeam()))
-    );
+    return teamHasMemberRepository.existsByTeam_CtfContestEntity_IdAndMember_Id(ctfId,
+        creator.getId());
   }
 
   private List<TeamSolvedChallengeInfo> getSolvedChallengeListByTeamId(Long teamId) {
@@ -302,6 +288,7 @@ public class CtfTeamService {
 
   private void removeTeam(CtfTeamEntity leftTeam) {
     teamHasMemberRepository.deleteAllByTeamId(leftTeam.getId());
+    ctfTeamMemberIndex.removeTeam(leftTeam.getId());
     flagRepository.deleteAllByCtfTeamEntityId(leftTeam.getId());
     teamRepository.delete(leftTeam);
   }
@@ -16,14 +16,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -82,9 +87,8 @@ public class ElectionController {
   public SingleResult<Boolean> voteElection(
       @RequestBody @Valid ElectionVoteRequestDto electionVoteRequestDto
   ) {
-    Boolean result = electionService.voteElection(electionVoteRequestDto);
-    electionService.sendVoteStatus(electionVoteRequestDto.getElectionId());
-    return responseService.getSuccessSingleResult(result);
+    return responseService.getSuccessSingleResult(
+        electionService.voteElection(electionVoteRequestDto));
   }
 
   @GetMapping("/votes")
@@ -103,4 +107,20 @@ public class ElectionController {
     return responseService.getSuccessListResult(electionService.countVotes(electionId, jobId));
   }
 
+  /**
+   * {@code Accept: text/event-stream}이면 Server-Sent Events로, 아니면 NDJSON으로 보낸다.
+   */
+  @GetMapping("/results/replay")
+  public ResponseEntity<StreamingResponseBody> replayVotes(
+      @RequestParam Long electionId,
+      @RequestParam Long jobId,
+      @RequestParam(defaultValue = "0") Integer tallyEvery,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+  ) {
+    boolean isEventStream = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    return ResponseEntity.ok()
+        .contentType(isEventStream ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+        .body(electionService.replayVotes(electionId, jobId, tallyEvery, isEventStream));
+  }
+
 }
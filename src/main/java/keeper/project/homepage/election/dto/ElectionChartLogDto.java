@@ -0,0 +1,16 @@
+package keeper.project.homepage.election.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결과 재생에 필요한 투표 기록의 id와 후보자 정보만 조회한다. 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ElectionChartLogDto {
+
+  private Long id;
+  private Long memberId;
+  private String name;
+}
@@ -0,0 +1,64 @@
+package keeper.project.homepage.election.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.Collection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 선거 결과 replay의 한 줄.
+ *
+ * <ul>
+ *   <li>{@code vote} : {@code votes}번째 표와 득표한 후보자</li>
+ *   <li>{@code tally} : {@code votes}번째 표까지 후보자별 누적 득표 수</li>
+ *   <li>{@code end} : 마지막 줄. {@code votes}는 전체 표 수</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class ElectionResultReplayResponseDto {
+
+  public static final String VOTE = "vote";
+  public static final String TALLY = "tally";
+  public static final String END = "end";
+
+  private String type;
+  private Long votes;
+  private Long memberId;
+  private String name;
+  private Collection<ElectionResultTallyDto> tallies;
+
+  public static ElectionResultReplayResponseDto vote(long votes, ElectionResultResponseDto vote) {
+    return ElectionResultReplayResponseDto.builder()
+        .type(VOTE)
+        .votes(votes)
+        .memberId(vote.getMemberId())
+        .name(vote.getName())
+        .build();
+  }
+
+  public static ElectionResultReplayResponseDto tally(long votes,
+      Collection<ElectionResultTallyDto> tallies) {
+    return ElectionResultReplayResponseDto.builder()
+        .type(TALLY)
+        .votes(votes)
+        .tallies(tallies)
+        .build();
+  }
+
+  public static ElectionResultReplayResponseDto end(long votes) {
+    return ElectionResultReplayResponseDto.builder()
+        .type(END)
+        .votes(votes)
+        .build();
+  }
+
+}
@@ -1,5 +1,6 @@
 package keeper.project.homepage.election.dto.response;
 
+import keeper.project.homepage.election.dto.ElectionChartLogDto;
 import keeper.project.homepage.election.entity.ElectionChartLogEntity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,4 +25,11 @@ public class ElectionResultResponseDto {
         .build();
   }
 
+  public static ElectionResultResponseDto from(ElectionChartLogDto chartLog) {
+    return ElectionResultResponseDto.builder()
+        .memberId(chartLog.getMemberId())
+        .name(chartLog.getName())
+        .build();
+  }
+
 }
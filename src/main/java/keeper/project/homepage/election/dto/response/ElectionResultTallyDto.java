@@ -0,0 +1,32 @@
+package keeper.project.homepage.election.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElectionResultTallyDto {
+
+  private Long memberId;
+  private String name;
+  private Long count;
+
+  public static ElectionResultTallyDto from(ElectionResultResponseDto vote) {
+    return ElectionResultTallyDto.builder()
+        .memberId(vote.getMemberId())
+        .name(vote.getName())
+        .count(0L)
+        .build();
+  }
+
+  public void increase() {
+    count += 1;
+  }
+
+}
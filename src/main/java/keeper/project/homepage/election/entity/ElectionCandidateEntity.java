@@ -57,8 +57,4 @@ public class ElectionCandidateEntity {
   @Builder.Default
   @OneToMany(mappedBy = "electionCandidate", cascade = CascadeType.REMOVE)
   List<ElectionChartLogEntity> chartLogs = new ArrayList<>();
-
-  public void gainVote() {
-    voteCount += 1;
-  }
 }
@@ -29,8 +29,4 @@ public class ElectionVoterEntity {
         .isVoted(false)
         .build();
   }
-
-  public void vote() {
-    isVoted = true;
-  }
 }
@@ -1,11 +1,13 @@
 package keeper.project.homepage.election.repository;
 
+import java.util.Collection;
 import java.util.List;
 import keeper.project.homepage.election.entity.ElectionCandidateEntity;
 import keeper.project.homepage.election.entity.ElectionEntity;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberJobEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,4 +20,8 @@ public interface ElectionCandidateRepository extends JpaRepository<ElectionCandi
 
   @Query("select count(distinct e.memberJob) from ElectionCandidateEntity e where e.election = :election")
   Long getDistinctCountMemberJobByElection(@Param("election") ElectionEntity election);
+
+  @Modifying
+  @Query("update ElectionCandidateEntity e set e.voteCount = e.voteCount + 1 where e.id in :ids")
+  int increaseVoteCount(@Param("ids") Collection<Long> candidateIds);
 }
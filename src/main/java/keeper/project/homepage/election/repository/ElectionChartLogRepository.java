@@ -1,13 +1,25 @@
 package keeper.project.homepage.election.repository;
 
 import java.util.List;
+import keeper.project.homepage.election.dto.ElectionChartLogDto;
 import keeper.project.homepage.election.entity.ElectionChartLogEntity;
 import keeper.project.homepage.election.entity.ElectionEntity;
 import keeper.project.homepage.member.entity.MemberJobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ElectionChartLogRepository extends JpaRepository<ElectionChartLogEntity, Long> {
 
+  @EntityGraph(attributePaths = "electionCandidate.candidate")
   List<ElectionChartLogEntity> findAllByElectionCandidate_ElectionAndElectionCandidate_MemberJobOrderById(
       ElectionEntity election, MemberJobEntity memberJob);
+
+  @Query("SELECT new keeper.project.homepage.election.dto.ElectionChartLogDto(l.id, m.id, m.realName) "
+      + "FROM ElectionChartLogEntity l JOIN l.electionCandidate c JOIN c.candidate m "
+      + "WHERE c.election = :election AND c.memberJob = :memberJob AND l.id > :id ORDER BY l.id")
+  List<ElectionChartLogDto> findChartLogsAfter(@Param("election") ElectionEntity election,
+      @Param("memberJob") MemberJobEntity memberJob, @Param("id") Long id, Pageable pageable);
 }
@@ -1,15 +1,39 @@
 package keeper.project.homepage.election.repository;
 
 import java.util.List;
+import java.util.Optional;
 import keeper.project.homepage.election.entity.ElectionEntity;
 import keeper.project.homepage.election.entity.ElectionVoterEntity;
 import keeper.project.homepage.election.entity.ElectionVoterPK;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ElectionVoterRepository extends JpaRepository<ElectionVoterEntity, ElectionVoterPK> {
 
   List<ElectionVoterEntity> findAllByElectionVoterPK_Election(ElectionEntity election);
 
+  Integer countAllByElectionVoterPK_Election(ElectionEntity election);
+
   Integer countAllByElectionVoterPK_ElectionAndIsVotedIsTrue(ElectionEntity election);
 
+  @Query("select v.electionVoterPK.voter.id from ElectionVoterEntity v "
+      + "where v.electionVoterPK.election.id = :electionId and v.isVoted = true")
+  List<Long> findVotedVoterIds(@Param("electionId") Long electionId);
+
+  @Query("select v.isVoted from ElectionVoterEntity v "
+      + "where v.electionVoterPK.election.id = :electionId and v.electionVoterPK.voter.id = :voterId")
+  Optional<Boolean> findIsVoted(@Param("electionId") Long electionId,
+      @Param("voterId") Long voterId);
+
+  /**
+   * 아직 투표하지 않은 투표자만 투표 완료로 바꾼다. 동시에 같은 투표자로 투표하면 한 요청만 1을 반환한다.
+   */
+  @Modifying
+  @Query("update ElectionVoterEntity v set v.isVoted = true "
+      + "where v.electionVoterPK.election.id = :electionId and v.electionVoterPK.voter.id = :voterId "
+      + "and v.isVoted = false")
+  int markVoted(@Param("electionId") Long electionId, @Param("voterId") Long voterId);
+
 }
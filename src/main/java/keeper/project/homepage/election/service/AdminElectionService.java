@@ -8,7 +8,6 @@ import keeper.project.homepage.election.dto.request.ElectionCreateRequestDto;
 import keeper.project.homepage.election.dto.response.ElectionCandidateDeleteResponseDto;
 import keeper.project.homepage.election.dto.response.ElectionDeleteResponseDto;
 import keeper.project.homepage.election.dto.response.ElectionUpdateResponseDto;
-import keeper.project.homepage.election.dto.response.ElectionVoteStatus;
 import keeper.project.homepage.election.dto.response.ElectionVoterCreateResponseDto;
 import keeper.project.homepage.election.dto.response.ElectionVoterResponseDto;
 import keeper.project.homepage.election.entity.ElectionCandidateEntity;
@@ -27,7 +26,6 @@ import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberJobEntity;
 import keeper.project.homepage.member.service.AdminMemberUtilService;
 import keeper.project.homepage.util.service.ElectionUtilService;
-import keeper.project.homepage.util.service.WebSocketService;
 import keeper.project.homepage.util.service.auth.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,9 +39,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminElectionService {
 
   private final AuthService authService;
-  private final WebSocketService webSocketService;
   private final AdminMemberUtilService adminMemberUtilService;
   private final ElectionUtilService electionUtilService;
+  private final ElectionTurnoutService electionTurnoutService;
   private final ElectionRepository electionRepository;
   private final ElectionCandidateRepository electionCandidateRepository;
   private final ElectionVoterRepository electionVoterRepository;
@@ -69,6 +67,7 @@ public class AdminElectionService {
     }
     electionVoterRepository.deleteAllInBatch(election.getVoters());
     electionRepository.delete(election);
+    electionTurnoutService.invalidate(electionId);
     return ElectionDeleteResponseDto.from(election);
   }
 
@@ -76,6 +75,7 @@ public class AdminElectionService {
   public ElectionUpdateResponseDto openElection(Long electionId) {
     ElectionEntity election = electionUtilService.getElectionById(electionId);
     election.openElection();
+    electionTurnoutService.invalidate(electionId);
     return ElectionUpdateResponseDto.from(election);
   }
 
@@ -83,16 +83,12 @@ public class AdminElectionService {
   public ElectionUpdateResponseDto closeElection(Long electionId) {
     ElectionEntity election = electionUtilService.getElectionById(electionId);
     election.closeElection();
+    electionTurnoutService.invalidate(electionId);
     return ElectionUpdateResponseDto.from(election);
   }
 
   public void sendVoteEnd(Long electionId) {
-    ElectionEntity election = electionUtilService.getElectionById(electionId);
-    Integer total = election.getVoters().size();
-    Integer voted = electionVoterRepository.countAllByElectionVoterPK_ElectionAndIsVotedIsTrue(
-        election);
-    ElectionVoteStatus status = ElectionVoteStatus.createStatus(total, voted, false);
-    webSocketService.sendVoteStatusMessage("/topics/votes/end", status);
+    electionTurnoutService.publish(electionId);
   }
 
   @Transactional
@@ -131,6 +127,7 @@ public class AdminElectionService {
       throw new CustomElectionVoterExistException();
     }
     ElectionVoterEntity voter = electionVoterRepository.save(ElectionVoterEntity.createVoter(pk));
+    electionTurnoutService.invalidate(electionId);
     return ElectionVoterCreateResponseDto.from(voter);
   }
 
@@ -142,6 +139,7 @@ public class AdminElectionService {
     ElectionVoterEntity voter = electionVoterRepository.findById(pk).orElseThrow(
         CustomElectionVoterNotFoundException::new);
     electionVoterRepository.delete(voter);
+    electionTurnoutService.invalidate(electionId);
     return member.getId();
   }
 
@@ -0,0 +1,100 @@
+package keeper.project.homepage.election.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import keeper.project.homepage.election.dto.ElectionChartLogDto;
+import keeper.project.homepage.election.dto.response.ElectionResultReplayResponseDto;
+import keeper.project.homepage.election.dto.response.ElectionResultResponseDto;
+import keeper.project.homepage.election.dto.response.ElectionResultTallyDto;
+import keeper.project.homepage.election.entity.ElectionEntity;
+import keeper.project.homepage.election.repository.ElectionChartLogRepository;
+import keeper.project.homepage.member.entity.MemberJobEntity;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 선거 결과 투표 기록을 id 순서대로 {@link #CHUNK_SIZE}개씩 읽어 NDJSON 또는 Server-Sent Events로 보낸다.
+ *
+ * <p>{@code tallyEvery}가 0이면 표마다 한 줄을 보내고, 0보다 크면 {@code tallyEvery}표마다 후보자별 누적 득표 수만
+ * 보낸다. 마지막에는 {@code end} 한 줄을 보낸다.
+ *
+ * <p>요청 스레드가 아닌 곳에서 실행되므로 청크마다 따로 조회하고, 트랜잭션이나 DB 커서를 스트림이 끝날 때까지 잡고 있지 않는다.
+ * open-in-view로 요청의 EntityManager가 묶여 있어도 엔티티 대신 {@link ElectionChartLogDto}로 조회하므로, 읽은
+ * 기록이 영속성 컨텍스트에 쌓이지 않는다.
+ */
+class ElectionResultReplay implements StreamingResponseBody {
+
+  static final int CHUNK_SIZE = 500;
+
+  private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+  private final ElectionChartLogRepository electionChartLogRepository;
+  private final ObjectMapper objectMapper;
+  private final ElectionEntity election;
+  private final MemberJobEntity memberJob;
+  private final int tallyEvery;
+  private final boolean isEventStream;
+
+  ElectionResultReplay(ElectionChartLogRepository electionChartLogRepository,
+      ObjectMapper objectMapper, ElectionEntity election, MemberJobEntity memberJob,
+      int tallyEvery, boolean isEventStream) {
+    this.electionChartLogRepository = electionChartLogRepository;
+    this.objectMapper = objectMapper;
+    this.election = election;
+    this.memberJob = memberJob;
+    this.tallyEvery = Math.max(tallyEvery, 0);
+    this.isEventStream = isEventStream;
+  }
+
+  @Override
+  public void writeTo(OutputStream outputStream) throws IOException {
+    Map<Long, ElectionResultTallyDto> tallies = new LinkedHashMap<>();
+    long votes = 0;
+    long lastId = 0;
+    List<ElectionChartLogDto> chunk;
+    do {
+      chunk = electionChartLogRepository.findChartLogsAfter(election, memberJob, lastId,
+          PageRequest.of(0, CHUNK_SIZE));
+      for (ElectionChartLogDto chartLog : chunk) {
+        ElectionResultResponseDto vote = ElectionResultResponseDto.from(chartLog);
+        votes += 1;
+        lastId = chartLog.getId();
+        if (tallyEvery == 0) {
+          write(outputStream, ElectionResultReplayResponseDto.vote(votes, vote));
+          continue;
+        }
+        tallies.computeIfAbsent(vote.getMemberId(), memberId -> ElectionResultTallyDto.from(vote))
+            .increase();
+        if (votes % tallyEvery == 0) {
+          write(outputStream, ElectionResultReplayResponseDto.tally(votes, tallies.values()));
+        }
+      }
+      outputStream.flush();
+    } while (chunk.size() == CHUNK_SIZE);
+
+    if (tallyEvery > 0 && votes % tallyEvery != 0) {
+      write(outputStream, ElectionResultReplayResponseDto.tally(votes, tallies.values()));
+    }
+    write(outputStream, ElectionResultReplayResponseDto.end(votes));
+    outputStream.flush();
+  }
+
+  // 누적 득표 수는 계속 바뀌므로 쓰는 시점에 바로 직렬화한다.
+  private void write(OutputStream outputStream, ElectionResultReplayResponseDto line)
+      throws IOException {
+    if (isEventStream) {
+      outputStream.write(("event: " + line.getType() + "\ndata: ")
+          .getBytes(StandardCharsets.UTF_8));
+      outputStream.write(objectMapper.writeValueAsBytes(line));
+      outputStream.write(NEW_LINE);
+    } else {
+      outputStream.write(objectMapper.writeValueAsBytes(line));
+    }
+    outputStream.write(NEW_LINE);
+  }
+}
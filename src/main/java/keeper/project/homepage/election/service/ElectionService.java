@@ -1,8 +1,13 @@
 package keeper.project.homepage.election.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import keeper.project.homepage.election.dto.request.ElectionVoteRequestDto;
 import keeper.project.homepage.election.dto.response.ElectionCandidatesResponseDto;
 import keeper.project.homepage.election.dto.response.ElectionResponseDto;
@@ -29,7 +34,6 @@ import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberJobEntity;
 import keeper.project.homepage.member.service.MemberUtilService;
 import keeper.project.homepage.util.service.ElectionUtilService;
-import keeper.project.homepage.util.service.WebSocketService;
 import keeper.project.homepage.util.service.auth.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +41,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -45,13 +50,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class ElectionService {
 
   private final AuthService authService;
-  private final WebSocketService webSocketService;
   private final ElectionUtilService electionUtilService;
+  private final ElectionTurnoutService electionTurnoutService;
   private final MemberUtilService memberUtilService;
   private final ElectionRepository electionRepository;
   private final ElectionCandidateRepository electionCandidateRepository;
   private final ElectionVoterRepository electionVoterRepository;
   private final ElectionChartLogRepository electionChartLogRepository;
+  private final ObjectMapper objectMapper;
 
   public Page<ElectionResponseDto> getElections(Pageable pageable) {
     return electionRepository.findAllByIdIsNot(ElectionUtilService.VIRTUAL_ELECTION_ID, pageable)
@@ -86,26 +92,39 @@ public class ElectionService {
   }
 
   public ElectionVoteStatus getVoteStatus(Long electionId) {
-    return electionUtilService.getVoteStatus(electionId);
+    return electionTurnoutService.getVoteStatus(electionId);
   }
 
+  /**
+   * 투표 여부와 득표 수는 조건부 UPDATE와 {@code vote_count + 1}로 DB에서 바로 바꾸므로, 같은 투표자가 동시에 여러 번
+   * 요청해도 한 번만 반영되고 여러 투표자가 동시에 투표해도 득표 수가 빠지지 않는다.
+   */
   @Transactional
   public Boolean voteElection(ElectionVoteRequestDto requestDto) {
     ElectionEntity election = electionUtilService.getElectionById(requestDto.getElectionId());
     validateOpenElection(election);
     MemberEntity member = memberUtilService.getById(requestDto.getVoterId());
-    ElectionVoterPK pk = new ElectionVoterPK(member, election);
-    ElectionVoterEntity voter = electionVoterRepository.findById(pk)
+    Boolean isVoted = electionVoterRepository.findIsVoted(election.getId(), member.getId())
         .orElseThrow(CustomElectionVoterNotFoundException::new);
-    validateVoted(voter);
+    validateVoted(isVoted);
     validateCandidatesCount(election, requestDto.getCandidateIds());
-    voteCandidates(election, requestDto.getCandidateIds());
-    voter.vote();
-    return voter.getIsVoted();
+    List<ElectionCandidateEntity> candidates = getVoteCandidates(election,
+        requestDto.getCandidateIds());
+    if (electionVoterRepository.markVoted(election.getId(), member.getId()) == 0) {
+      throw new CustomElectionAlreadyVotedException();
+    }
+    // 차트 로그를 먼저 넣으면 FK 검사로 후보자 row에 공유 잠금이 걸리고, 같은 후보자를 고른 투표자끼리 배타 잠금으로
+    // 올리려다 교착 상태에 빠진다. 후보자 row의 배타 잠금을 먼저 잡은 뒤 로그를 넣는다.
+    electionCandidateRepository.increaseVoteCount(
+        candidates.stream().map(ElectionCandidateEntity::getId).toList());
+    electionChartLogRepository.saveAll(
+        candidates.stream().map(ElectionChartLogEntity::createChartLog).toList());
+    electionTurnoutService.vote(election.getId(), member.getId());
+    return true;
   }
 
-  private void validateVoted(ElectionVoterEntity voter) {
-    if (voter.getIsVoted()) {
+  private void validateVoted(Boolean isVoted) {
+    if (isVoted) {
       throw new CustomElectionAlreadyVotedException();
     }
   }
@@ -124,26 +143,28 @@ public class ElectionService {
     }
   }
 
-  private void voteCandidates(ElectionEntity election, List<Long> candidateIds) {
-    Set<MemberJobEntity> candidateJobs = new HashSet<>();
+  private List<ElectionCandidateEntity> getVoteCandidates(ElectionEntity election,
+      List<Long> candidateIds) {
+    Map<Long, ElectionCandidateEntity> candidates = electionCandidateRepository.findAllById(
+            candidateIds)
+        .stream()
+        .collect(Collectors.toMap(ElectionCandidateEntity::getId, Function.identity()));
+    Set<Long> candidateJobIds = new HashSet<>();
+    List<ElectionCandidateEntity> voteCandidates = new ArrayList<>();
     for (Long candidateId : candidateIds) {
-      ElectionCandidateEntity candidate = electionCandidateRepository.findById(candidateId)
-          .orElseThrow(CustomElectionCandidateNotFoundException::new);
-      if (election != candidate.getElection()) {
+      ElectionCandidateEntity candidate = candidates.get(candidateId);
+      if (candidate == null) {
+        throw new CustomElectionCandidateNotFoundException();
+      }
+      if (!election.getId().equals(candidate.getElection().getId())) {
         throw new CustomElectionNotMatchCandidateException();
       }
-      if (candidateJobs.contains(candidate.getMemberJob())) {
+      if (!candidateJobIds.add(candidate.getMemberJob().getId())) {
         throw new CustomElectionVoteDuplicationJobException();
       }
-      electionChartLogRepository.save(ElectionChartLogEntity.createChartLog(candidate));
-      candidate.gainVote();
-      candidateJobs.add(candidate.getMemberJob());
+      voteCandidates.add(candidate);
     }
-  }
-
-  public void sendVoteStatus(Long electionId) {
-    ElectionVoteStatus status = electionUtilService.getVoteStatus(electionId);
-    webSocketService.sendVoteStatusMessage("/topics/votes/result", status);
+    return voteCandidates;
   }
 
   public Boolean isVoted(Long electionId, Long voterId) {
@@ -164,6 +185,18 @@ public class ElectionService {
     return electionChartLog.stream().map(ElectionResultResponseDto::from).toList();
   }
 
+  /**
+   * 선거와 직위를 확인한 뒤 투표 기록을 청크 단위로 보내는 응답 본문을 만든다. 본문은 요청 스레드가 아닌 곳에서 쓰여진다.
+   */
+  public StreamingResponseBody replayVotes(Long electionId, Long jobId, Integer tallyEvery,
+      boolean isEventStream) {
+    ElectionEntity election = electionUtilService.getElectionById(electionId);
+    MemberJobEntity memberJob = memberUtilService.getJobById(jobId);
+    validateCloseElection(election);
+    return new ElectionResultReplay(electionChartLogRepository, objectMapper, election, memberJob,
+        tallyEvery, isEventStream);
+  }
+
   private void validateCloseElection(ElectionEntity election) {
     if (election.getIsAvailable()) {
       throw new CustomElectionIsNotClosedException();
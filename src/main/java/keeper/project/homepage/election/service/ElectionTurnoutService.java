@@ -0,0 +1,251 @@
+package keeper.project.homepage.election.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import keeper.project.homepage.election.dto.response.ElectionVoteStatus;
+import keeper.project.homepage.election.entity.ElectionEntity;
+import keeper.project.homepage.election.exception.CustomElectionNotFoundException;
+import keeper.project.homepage.election.repository.ElectionVoterRepository;
+import keeper.project.homepage.util.service.ElectionUtilService;
+import keeper.project.homepage.util.service.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 선거별 투표율(전체 투표자 수, 투표한 수)을 메모리에 유지하고 {@code /topic/elections/{electionId}}로 보낸다.
+ *
+ * <p>처음 조회하거나 투표가 커밋될 때 DB에서 한 번 세고, 이후에는 커밋된 투표의 투표자만 더한다. 투표자
+ * id로 세므로 DB에서 세는 도중 커밋된 투표가 두 번 세어지거나 빠지지 않는다. 투표가 많이 몰려도
+ * {@link #STATUS_PUSH_INTERVAL_MS}마다 바뀐 선거의 투표율만 한 번씩 보낸다.
+ *
+ * <p>투표자 등록/삭제, 선거 시작/종료처럼 드문 변경은 {@link #invalidate(Long)}로 버리고 다음 조회 때 다시 센다.
+ * 트랜잭션이 롤백되면 그 트랜잭션에서 바꾼 선거도 버린다. 다른 서버에서 받은 투표처럼 이 서버를 거치지 않은 변경은
+ * {@link #RECONCILE_INTERVAL_MS}마다 DB에서 다시 세어 맞춘다. 종료된 선거는 더 바뀌지 않으므로 마지막 투표율을 보낸 뒤
+ * 버린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ElectionTurnoutService {
+
+  private static final long STATUS_PUSH_INTERVAL_MS = 1_000;
+  private static final long RECONCILE_INTERVAL_MS = 60_000;
+
+  // 투표율이 다시 만들어져도 같은 버전이 나오지 않도록 모든 선거가 하나의 순번을 공유한다.
+  private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+
+  private final ElectionUtilService electionUtilService;
+  private final ElectionVoterRepository electionVoterRepository;
+  private final WebSocketService webSocketService;
+
+  private final Map<Long, Turnout> turnouts = new ConcurrentHashMap<>();
+  // 선거별로 마지막에 보낸 버전
+  private final Map<Long, Long> publishedVersions = new ConcurrentHashMap<>();
+
+  public static String getStatusTopic(Long electionId) {
+    return "/topic/elections/" + electionId;
+  }
+
+  public ElectionVoteStatus getVoteStatus(Long electionId) {
+    return getTurnout(electionId).toStatus();
+  }
+
+  /**
+   * 투표가 기록되었을 때 호출한다. 커밋된 뒤에 반영하며, 아직 세지 않은 선거는 그때 DB에서 센다.
+   */
+  public void vote(Long electionId, Long voterId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      applyVote(electionId, voterId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        applyVote(electionId, voterId);
+      }
+    });
+  }
+
+  private void applyVote(Long electionId, Long voterId) {
+    try {
+      // 커밋된 뒤에 세므로 새로 센 경우에는 이 투표가 이미 포함되어 있고, 다시 더해도 한 번만 센다.
+      turnouts.computeIfAbsent(electionId, this::load).vote(voterId);
+    } catch (RuntimeException e) {
+      log.warn("선거 투표율 반영 실패 : electionId={}", electionId, e);
+      turnouts.remove(electionId);
+    }
+  }
+
+  /**
+   * 다음 조회 때 DB에서 다시 세도록 버린다. 트랜잭션 안에서 호출하면 트랜잭션이 끝난 뒤 한 번 더 버린다.
+   */
+  public void invalidate(Long electionId) {
+    turnouts.remove(electionId);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        turnouts.remove(electionId);
+      }
+    });
+  }
+
+  /**
+   * 선거가 끝났을 때처럼 바로 알려야 하는 경우 DB에서 다시 세어 보낸다.
+   */
+  public void publish(Long electionId) {
+    turnouts.remove(electionId);
+    Turnout turnout = getTurnout(electionId);
+    publishedVersions.put(electionId, turnout.version);
+    send(electionId, turnout.toStatus());
+    dropIfClosed(electionId, turnout);
+  }
+
+  /**
+   * 세어 둔 선거의 투표율을 DB에서 다시 세어, 이 서버를 거치지 않은 변경을 반영한다.
+   */
+  @Scheduled(fixedDelay = RECONCILE_INTERVAL_MS, initialDelay = RECONCILE_INTERVAL_MS)
+  public void reconcile() {
+    for (Map.Entry<Long, Turnout> entry : turnouts.entrySet()) {
+      Long electionId = entry.getKey();
+      if (entry.getValue().isClosed()) {
+        continue;
+      }
+      try {
+        Turnout loaded = load(electionId);
+        turnouts.computeIfPresent(electionId, (id, turnout) -> turnout.reconcile(loaded));
+      } catch (CustomElectionNotFoundException e) {
+        turnouts.remove(electionId);
+      } catch (RuntimeException e) {
+        log.warn("선거 투표율 재계산 실패 : electionId={}", electionId, e);
+      }
+    }
+  }
+
+  /**
+   * 마지막으로 보낸 뒤 투표율이 바뀐 선거만 보낸다.
+   */
+  @Scheduled(fixedDelay = STATUS_PUSH_INTERVAL_MS, initialDelay = STATUS_PUSH_INTERVAL_MS)
+  public synchronized void publishVoteStatuses() {
+    publishedVersions.keySet().retainAll(turnouts.keySet());
+    turnouts.forEach((electionId, turnout) -> {
+      // 버전을 먼저 읽어야 보내는 도중 바뀐 투표율을 다음 전송에서 놓치지 않는다.
+      long version = turnout.version;
+      Long publishedVersion = publishedVersions.get(electionId);
+      if (publishedVersion != null && publishedVersion == version) {
+        dropIfClosed(electionId, turnout);
+        return;
+      }
+      publishedVersions.put(electionId, version);
+      send(electionId, turnout.toStatus());
+      dropIfClosed(electionId, turnout);
+    });
+  }
+
+  private void dropIfClosed(Long electionId, Turnout turnout) {
+    if (turnout.isClosed() && turnouts.remove(electionId, turnout)) {
+      publishedVersions.remove(electionId);
+    }
+  }
+
+  private void send(Long electionId, ElectionVoteStatus status) {
+    try {
+      webSocketService.sendMessage(getStatusTopic(electionId), status);
+    } catch (RuntimeException e) {
+      log.warn("선거 투표율 전송 실패 : electionId={}", electionId, e);
+    }
+  }
+
+  private Turnout getTurnout(Long electionId) {
+    Turnout turnout = turnouts.get(electionId);
+    if (turnout != null) {
+      return turnout;
+    }
+    turnout = turnouts.computeIfAbsent(electionId, this::load);
+    invalidateOnRollback(electionId);
+    return turnout;
+  }
+
+  private Turnout load(Long electionId) {
+    ElectionEntity election = electionUtilService.getElectionById(electionId);
+    return new Turnout(
+        electionVoterRepository.countAllByElectionVoterPK_Election(election),
+        electionVoterRepository.findVotedVoterIds(electionId),
+        election.getIsAvailable());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void invalidateOnRollback(Long electionId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    Set<Long> touchedElectionIds = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+    if (touchedElectionIds == null) {
+      Set<Long> newTouchedElectionIds = new HashSet<>();
+      TransactionSynchronizationManager.bindResource(this, newTouchedElectionIds);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(ElectionTurnoutService.this);
+          if (status == STATUS_ROLLED_BACK) {
+            newTouchedElectionIds.forEach(turnouts::remove);
+          }
+        }
+      });
+      touchedElectionIds = newTouchedElectionIds;
+    }
+    touchedElectionIds.add(electionId);
+  }
+
+  private static class Turnout {
+
+    private final int total;
+    private final Boolean isOpen;
+    private final Set<Long> votedVoterIds;
+    private volatile long version = VERSION_SEQUENCE.incrementAndGet();
+
+    Turnout(int total, Collection<Long> votedVoterIds, Boolean isOpen) {
+      this.total = total;
+      this.votedVoterIds = new HashSet<>(votedVoterIds);
+      this.isOpen = isOpen;
+    }
+
+    synchronized void vote(Long voterId) {
+      if (votedVoterIds.add(voterId)) {
+        version = VERSION_SEQUENCE.incrementAndGet();
+      }
+    }
+
+    /**
+     * 다시 센 값과 같으면 그대로 두고, 다르면 다시 센 값을 쓴다. 다시 세는 도중 커밋된 투표는 다시 센 값에 없을 수
+     * 있으므로 이미 센 투표자는 유지한다.
+     */
+    synchronized Turnout reconcile(Turnout loaded) {
+      loaded.votedVoterIds.addAll(votedVoterIds);
+      if (loaded.total == total && Objects.equals(loaded.isOpen, isOpen)
+          && loaded.votedVoterIds.size() == votedVoterIds.size()) {
+        return this;
+      }
+      return loaded;
+    }
+
+    boolean isClosed() {
+      return Boolean.FALSE.equals(isOpen);
+    }
+
+    synchronized ElectionVoteStatus toStatus() {
+      return ElectionVoteStatus.createStatus(total, votedVoterIds.size(), isOpen);
+    }
+  }
+}
@@ -16,6 +16,7 @@ import keeper.project.homepage.member.service.MemberService;
 import keeper.project.homepage.posting.dto.PostingResponseDto;
 import keeper.project.homepage.posting.service.PostingService;
 import keeper.project.homepage.sign.dto.EmailAuthDto;
+import keeper.project.homepage.util.dto.Cursor;
 import keeper.project.homepage.util.dto.result.CommonResult;
 import keeper.project.homepage.util.dto.result.ListResult;
 import keeper.project.homepage.util.dto.result.SingleResult;
@@ -28,6 +29,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.data.web.SortDefault.SortDefaults;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -132,10 +134,15 @@ public class MemberController {
   @Secured("ROLE_회원")
   @GetMapping(value = "/posts")
   public SingleResult<Map<String, Object>> findAllPosting(
+      @RequestParam(value = "after", required = false) Cursor after,
       @SortDefault(sort = "registerTime", direction = Direction.DESC)
       @PageableDefault(page = 0, size = 10) Pageable pageable) {
     Long id = authService.getMemberIdByJWT();
 
+    if (after != null) {
+      return responseService.getSuccessSingleResult(postingService.findAllByWriterAfter(id,
+          PostingService.isNotTempPosting, after, pageable.getPageSize()));
+    }
     Map<String, Object> result = new HashMap<>();
     Page<PostingResponseDto> page = memberService.findAllPostingByIsTemp(id, pageable,
         PostingService.isNotTempPosting);
@@ -148,10 +155,15 @@ public class MemberController {
   @Secured("ROLE_회원")
   @GetMapping(value = "/temp_posts")
   public SingleResult<Map<String, Object>> findAllTempPosting(
+      @RequestParam(value = "after", required = false) Cursor after,
       @SortDefault(sort = "registerTime", direction = Direction.DESC)
       @PageableDefault(page = 0, size = 10) Pageable pageable) {
     Long id = authService.getMemberIdByJWT();
 
+    if (after != null) {
+      return responseService.getSuccessSingleResult(postingService.findAllByWriterAfter(id,
+          PostingService.isTempPosting, after, pageable.getPageSize()));
+    }
     Map<String, Object> result = new HashMap<>();
     Page<PostingResponseDto> page = memberService.findAllPostingByIsTemp(id, pageable,
         PostingService.isTempPosting);
@@ -238,8 +250,15 @@ public class MemberController {
   @GetMapping("/{memberId}/posts")
   public SingleResult<Map<String, Object>> findPostingListOfOther(
       @PathVariable("memberId") Long memberId,
-      @PageableDefault(size = 10, page = 0, sort = "registerTime", direction = Direction.DESC) Pageable pageable
+      @RequestParam(value = "after", required = false) Cursor after,
+      @SortDefaults({@SortDefault(sort = "registerTime", direction = Direction.DESC),
+          @SortDefault(sort = "id", direction = Direction.DESC)})
+      @PageableDefault(size = 10, page = 0) Pageable pageable
   ) {
+    if (after != null) {
+      return responseService.getSuccessSingleResult(
+          postingService.findAllByMemberIdAfter(memberId, after, pageable.getPageSize()));
+    }
     return responseService.getSuccessSingleResult(
         postingService.findAllByMemberId(memberId, pageable));
   }
@@ -1,11 +1,14 @@
 package keeper.project.homepage.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import keeper.project.homepage.posting.entity.CommentEntity;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberHasCommentEntityPK;
 import keeper.project.homepage.member.entity.MemberHasCommentLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +21,12 @@ public interface MemberHasCommentLikeRepository extends
   List<MemberHasCommentLikeEntity> findByMemberHasCommentEntityPK_MemberEntity(
       MemberEntity memberEntity);
 
+  @Query("SELECT e.memberHasCommentEntityPK.commentEntity.id FROM MemberHasCommentLikeEntity e "
+      + "WHERE e.memberHasCommentEntityPK.memberEntity = :member "
+      + "AND e.memberHasCommentEntityPK.commentEntity.id IN :commentIds")
+  List<Long> findCommentIdsByMemberAndCommentIdIn(@Param("member") MemberEntity memberEntity,
+      @Param("commentIds") Collection<Long> commentIds);
+
   void deleteByMemberHasCommentEntityPK_CommentEntity(CommentEntity commentEntity);
 
   void deleteByMemberHasCommentEntityPK_MemberEntity(MemberEntity memberEntity);
@@ -8,11 +8,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 
   Optional<MemberEntity> findByLoginId(String loginId);
 
+  @Query("SELECT DISTINCT m FROM MemberEntity m "
+      + "LEFT JOIN FETCH m.memberType "
+      + "LEFT JOIN FETCH m.memberRank "
+      + "LEFT JOIN FETCH m.memberJobs j "
+      + "LEFT JOIN FETCH j.memberJobEntity "
+      + "WHERE m.id = :id")
+  Optional<MemberEntity> findWithJobsAndTypeAndRankById(@Param("id") Long id);
+
   Optional<MemberEntity> findByEmailAddress(String emailAddress);
 
   Optional<MemberEntity> findByNickName(String nickName);
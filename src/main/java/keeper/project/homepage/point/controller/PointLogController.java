@@ -3,6 +3,7 @@ package keeper.project.homepage.point.controller;
 import java.util.Map;
 import keeper.project.homepage.point.dto.request.PointGiftLogRequestDto;
 import keeper.project.homepage.point.dto.response.PointGiftLogResponseDto;
+import keeper.project.homepage.util.dto.Cursor;
 import keeper.project.homepage.util.dto.result.SingleResult;
 import keeper.project.homepage.util.service.result.ResponseService;
 
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Log4j2
@@ -31,8 +33,13 @@ public class PointLogController {
   @Secured("ROLE_회원")
   @GetMapping(value = "")
   public SingleResult<Map<String, Object>> getPointLogs(
+      @RequestParam(value = "after", required = false) Cursor after,
       @PageableDefault(size = 20, sort = "id", direction = Direction.DESC)Pageable pageable
   ) {
+    if (after != null) {
+      return responseService.getSuccessSingleResult(
+          pointLogService.getPointLogsAfter(after, pageable.getPageSize()));
+    }
     return responseService.getSuccessSingleResult(
         pointLogService.getPointLogs(pageable));
   }
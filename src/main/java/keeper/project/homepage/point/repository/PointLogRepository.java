@@ -1,14 +1,27 @@
 package keeper.project.homepage.point.repository;
 
+import java.time.LocalDateTime;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.point.entity.PointLogEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PointLogRepository extends JpaRepository<PointLogEntity, Long> {
 
   void deleteByMember(MemberEntity member);
 
   Page<PointLogEntity> findAllByMember(MemberEntity member, Pageable pageable);
+
+  Slice<PointLogEntity> findAllByMemberOrderByTimeDescIdDesc(MemberEntity member,
+      Pageable pageable);
+
+  @Query("SELECT p FROM PointLogEntity p WHERE p.member = :member "
+      + "AND (p.time < :time OR (p.time = :time AND p.id < :id)) "
+      + "ORDER BY p.time DESC, p.id DESC")
+  Slice<PointLogEntity> findAllByMemberAfter(@Param("member") MemberEntity member,
+      @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
 }
@@ -16,10 +16,14 @@ import keeper.project.homepage.point.exception.CustomPointAbuseException;
 import keeper.project.homepage.point.exception.CustomPointLackException;
 import keeper.project.homepage.point.exception.CustomPointLogRequestNullException;
 import keeper.project.homepage.point.repository.PointLogRepository;
+import keeper.project.homepage.util.dto.Cursor;
 import keeper.project.homepage.util.service.auth.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -132,8 +136,42 @@ public class PointLogService {
 
     result.put("isLast", pointLogEntityPage.isLast());
     result.put("content", pointLogResponseDtoList);
+    if (Cursor.isKeysetOrder(pageable.getSort(), Direction.DESC, "time")) {
+      putNextCursor(result, pointLogEntityPage);
+    }
 
     return result;
   }
 
+  public Map<String, Object> getPointLogsAfter(Cursor after, int size) {
+    MemberEntity memberEntity = authService.getMemberEntityWithJWT();
+
+    List<PointLogResponseDto> pointLogResponseDtoList = new ArrayList<>();
+    Map<String, Object> result = new HashMap<>();
+    Pageable pageable = PageRequest.of(0, size);
+    Slice<PointLogEntity> pointLogEntitySlice = after == null
+        ? pointLogRepository.findAllByMemberOrderByTimeDescIdDesc(memberEntity, pageable)
+        : pointLogRepository.findAllByMemberAfter(memberEntity, after.getTime(), after.getId(),
+            pageable);
+
+    for (PointLogEntity pointLogEntity : pointLogEntitySlice.getContent()) {
+      pointLogResponseDtoList.add(new PointLogResponseDto(pointLogEntity));
+    }
+
+    result.put("isLast", pointLogEntitySlice.isLast());
+    result.put("content", pointLogResponseDtoList);
+    putNextCursor(result, pointLogEntitySlice);
+
+    return result;
+  }
+
+  // 다음 페이지가 있으면 마지막 로그 위치를 cursor로 전달한다.
+  private void putNextCursor(Map<String, Object> result, Slice<PointLogEntity> pointLogSlice) {
+    if (pointLogSlice.hasNext() && pointLogSlice.hasContent()) {
+      List<PointLogEntity> pointLogs = pointLogSlice.getContent();
+      PointLogEntity last = pointLogs.get(pointLogs.size() - 1);
+      result.put("nextCursor", Cursor.of(last.getTime(), last.getId()).toString());
+    }
+  }
+
 }
@@ -2,12 +2,13 @@ package keeper.project.homepage.posting.controller;
 
 import static keeper.project.homepage.util.ClientUtil.getUserIP;
 
-import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import keeper.project.homepage.posting.dto.CommentDto;
+import keeper.project.homepage.util.dto.Cursor;
+import keeper.project.homepage.util.dto.CursorSlice;
 import keeper.project.homepage.util.dto.result.CommonResult;
-import keeper.project.homepage.util.dto.result.ListResult;
 import keeper.project.homepage.util.dto.result.SingleResult;
+import keeper.project.homepage.util.dto.result.SliceResult;
 import keeper.project.homepage.posting.service.CommentService;
 import keeper.project.homepage.util.service.result.ResponseService;
 import keeper.project.homepage.util.service.auth.AuthService;
@@ -55,15 +56,18 @@ public class CommentController {
   }
 
   @GetMapping(value = "/{postId}")
-  public ResponseEntity<ListResult<CommentDto>> showCommentByPostId(
+  public ResponseEntity<SliceResult<CommentDto>> showCommentByPostId(
       @PathVariable("postId") Long postId,
-      @SortDefaults({@SortDefault(sort = "id", direction = Direction.ASC),
-          @SortDefault(sort = "registerTime", direction = Direction.ASC)})
-      @PageableDefault(page = 0, size = 10) Pageable pageable) {
+      @SortDefaults({@SortDefault(sort = "registerTime", direction = Direction.ASC),
+          @SortDefault(sort = "id", direction = Direction.ASC)})
+      @PageableDefault(page = 0, size = 10) Pageable pageable,
+      @RequestParam(value = "after", required = false) Cursor after) {
 
     Long memberId = authService.getMemberIdByJWT();
-    List<CommentDto> dtoPage = commentService.findAllByPost(memberId, postId, pageable);
-    return ResponseEntity.ok().body(responseService.getSuccessListResult(dtoPage));
+    CursorSlice<CommentDto> dtoPage = after == null
+        ? commentService.findAllByPost(memberId, postId, pageable)
+        : commentService.findAllByPostAfter(memberId, postId, after, pageable.getPageSize());
+    return ResponseEntity.ok().body(responseService.getSuccessSliceResult(dtoPage));
   }
 
   @DeleteMapping("/{commentId}")
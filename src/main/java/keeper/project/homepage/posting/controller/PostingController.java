@@ -2,14 +2,10 @@ package keeper.project.homepage.posting.controller;
 
 import static keeper.project.homepage.util.ClientUtil.getUserIP;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 import java.util.Locale;
 import javax.servlet.http.HttpServletRequest;
+import keeper.project.homepage.config.web.CurrentMember;
 import keeper.project.homepage.posting.dto.LikeAndDislikeDto;
 import keeper.project.homepage.posting.dto.PostingBestDto;
 import keeper.project.homepage.posting.dto.PostingDto;
@@ -19,28 +15,28 @@ import keeper.project.homepage.posting.entity.PostingEntity;
 import keeper.project.homepage.posting.service.CommentService;
 import keeper.project.homepage.posting.service.PostingService;
 import keeper.project.homepage.util.ClientUtil;
+import keeper.project.homepage.util.dto.Cursor;
 import keeper.project.homepage.util.dto.result.CommonResult;
 import keeper.project.homepage.util.dto.result.ListResult;
 import keeper.project.homepage.util.dto.result.SingleResult;
+import keeper.project.homepage.util.dto.result.SliceResult;
 import keeper.project.homepage.util.entity.FileEntity;
 import keeper.project.homepage.util.entity.ThumbnailEntity;
 import keeper.project.homepage.util.image.preprocessing.ImageCenterCropping;
 import keeper.project.homepage.util.image.preprocessing.ImageSize;
 import keeper.project.homepage.util.service.FileService;
+import keeper.project.homepage.util.service.FileStreamingService;
 import keeper.project.homepage.util.service.ThumbnailService;
 import keeper.project.homepage.util.service.ThumbnailService.ThumbType;
-import keeper.project.homepage.util.service.auth.AuthService;
 import keeper.project.homepage.util.service.result.ResponseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
+import org.springframework.data.web.SortDefault.SortDefaults;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
@@ -54,7 +50,6 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -66,24 +61,36 @@ public class PostingController {
   private final ResponseService responseService;
   private final FileService fileService;
   private final ThumbnailService thumbnailService;
-  private final AuthService authService;
   private final CommentService commentService;
+  private final FileStreamingService fileStreamingService;
 
   @GetMapping(value = "/latest")
-  public ListResult<PostingResponseDto> findAllPosting(
-      @PageableDefault(size = 10, sort = "registerTime", direction = Direction.DESC)
-      Pageable pageable) {
-
-    return responseService.getSuccessListResult(postingService.findAll(pageable));
+  public SliceResult<PostingResponseDto> findAllPosting(
+      @RequestParam(value = "after", required = false) Cursor after,
+      @SortDefaults({@SortDefault(sort = "registerTime", direction = Direction.DESC),
+          @SortDefault(sort = "id", direction = Direction.DESC)})
+      @PageableDefault(size = 10) Pageable pageable) {
+
+    if (after != null) {
+      return responseService.getSuccessSliceResult(
+          postingService.findAllAfter(after, pageable.getPageSize()));
+    }
+    return responseService.getSuccessSliceResult(postingService.findAll(pageable));
   }
 
   @GetMapping(value = "/lists")
-  public ListResult<PostingResponseDto> findAllPostingByCategoryId(
+  public SliceResult<PostingResponseDto> findAllPostingByCategoryId(
       @RequestParam("category") Long categoryId,
-      @PageableDefault(size = 10, sort = "registerTime", direction = Direction.DESC)
-      Pageable pageable) {
-
-    return responseService.getSuccessListResult(postingService.findAllByCategoryId(categoryId,
+      @RequestParam(value = "after", required = false) Cursor after,
+      @SortDefaults({@SortDefault(sort = "registerTime", direction = Direction.DESC),
+          @SortDefault(sort = "id", direction = Direction.DESC)})
+      @PageableDefault(size = 10) Pageable pageable) {
+
+    if (after != null) {
+      return responseService.getSuccessSliceResult(
+          postingService.findAllByCategoryIdAfter(categoryId, after, pageable.getPageSize()));
+    }
+    return responseService.getSuccessSliceResult(postingService.findAllByCategoryId(categoryId,
         pageable));
   }
 
@@ -128,10 +135,11 @@ public class PostingController {
   @Secured("ROLE_회원")
   @GetMapping(value = "/{pid}")
   public SingleResult<PostingResponseDto> getPosting(@PathVariable("pid") Long postingId,
-      @RequestParam(value = "password", required = false) String password) {
+      @RequestParam(value = "password", required = false) String password,
+      @CurrentMember Long memberId) {
 
     PostingResponseDto postingResponseDto = postingService.getPostingResponseById(postingId,
-        authService.getMemberIdByJWT(), password);
+        memberId, password);
 
     return responseService.getSuccessSingleResult(postingResponseDto);
   }
@@ -145,18 +153,11 @@ public class PostingController {
 
   // 다운로드는 ResponseEntity를 사용하는것이 더 용이하여 그대로 두었습니다.
   @GetMapping(value = "/download/{fileId}")
-  public ResponseEntity<Resource> downloadFile(@PathVariable("fileId") Long fileId)
-      throws IOException {
+  public ResponseEntity<Resource> downloadFile(@PathVariable("fileId") Long fileId) {
     FileEntity fileEntity = fileService.find(fileId);
-    Path path = Paths.get(fileEntity.getFilePath());
-    Resource resource = new InputStreamResource(Files.newInputStream(path));
-    String encodedFileName = UriUtils.encode(fileEntity.getFileName(), StandardCharsets.UTF_8);
-
-    return ResponseEntity.status(HttpStatus.OK)
-        .contentType(MediaType.parseMediaType("application/octet-stream"))
-        .header(HttpHeaders.CONTENT_DISPOSITION,
-            "attachment; filename=\"" + encodedFileName + "\"")
-        .body(resource);
+
+    return fileStreamingService.getAttachmentResponse(
+        fileService.getFileInServer(fileEntity.getFilePath()), fileEntity.getFileName());
   }
 
   @RequestMapping(method = {RequestMethod.PUT, RequestMethod.PATCH},
@@ -246,11 +247,13 @@ public class PostingController {
   }
 
 
+  /**
+   * 정렬을 지정하지 않으면 제목, 내용 검색은 검색 점수 순, 작성자 검색은 최신순으로 정렬한다.
+   */
   @GetMapping(value = "/search")
   public ListResult<PostingResponseDto> searchPosting(@RequestParam("type") String type,
       @RequestParam("keyword") String keyword, @RequestParam("category") Long categoryId,
-      @PageableDefault(size = 10, sort = "registerTime", direction = Direction.DESC)
-      Pageable pageable) {
+      @PageableDefault(size = 10) Pageable pageable) {
 
     return responseService.getSuccessListResult(postingService.searchPosting(type, keyword,
         categoryId, pageable));
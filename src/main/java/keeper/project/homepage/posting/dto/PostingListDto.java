@@ -0,0 +1,35 @@
+package keeper.project.homepage.posting.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 목록 조회용 projection.
+ *
+ * <p>작성자, 카테고리, 썸네일을 엔티티로 불러오지 않고 필요한 컬럼만 한 번의 query로 가져온다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostingListDto {
+
+  private Long id;
+  private String title;
+  private Long writerId;
+  private String writer;
+  private Long writerThumbnailId;
+  private Integer visitCount;
+  private Integer likeCount;
+  private Integer dislikeCount;
+  private Integer commentCount;
+  private LocalDateTime registerTime;
+  private LocalDateTime updateTime;
+  private String ipAddress;
+  private Integer allowComment;
+  private Integer isNotice;
+  private Integer isSecret;
+  private Integer isTemp;
+  private Long categoryId;
+  private String category;
+  private Long thumbnailId;
+}
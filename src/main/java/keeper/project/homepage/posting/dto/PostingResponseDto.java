@@ -84,4 +84,43 @@ public class PostingResponseDto {
       this.writerThumbnailPath = null;
     }
   }
+
+  public PostingResponseDto(PostingListDto postingListDto, Integer size) {
+
+    this.id = postingListDto.getId();
+    this.title = postingListDto.getTitle();
+    this.content = "";
+    this.writer = postingListDto.getWriter();
+    this.writerId = postingListDto.getWriterId();
+    this.size = size;
+    this.visitCount = postingListDto.getVisitCount();
+    this.likeCount = postingListDto.getLikeCount();
+    this.dislikeCount = postingListDto.getDislikeCount();
+    this.commentCount = postingListDto.getCommentCount();
+    this.registerTime = postingListDto.getRegisterTime();
+    this.updateTime = postingListDto.getUpdateTime();
+    this.ipAddress = postingListDto.getIpAddress();
+    this.allowComment = postingListDto.getAllowComment();
+    this.isNotice = postingListDto.getIsNotice();
+    this.isSecret = postingListDto.getIsSecret();
+    this.isTemp = postingListDto.getIsTemp();
+    this.category = postingListDto.getCategory();
+    this.categoryId = postingListDto.getCategoryId();
+    this.files = null;
+
+    // 썸네일 경로 처리
+    this.writerThumbnailPath = postingListDto.getWriterThumbnailId() == null ?
+        EnvironmentProperty.getThumbnailPath(ThumbType.MemberThumbnail.getDefaultThumbnailId())
+        : EnvironmentProperty.getThumbnailPath(postingListDto.getWriterThumbnailId());
+    this.thumbnailPath = postingListDto.getThumbnailId() == null ?
+        EnvironmentProperty.getThumbnailPath(ThumbType.PostThumbnail.getDefaultThumbnailId())
+        : EnvironmentProperty.getThumbnailPath(postingListDto.getThumbnailId());
+
+    // 익명게시판 처리
+    if (postingListDto.getCategory().equals("익명게시판")) {
+      this.writer = "익명";
+      this.writerId = -1L;
+      this.writerThumbnailPath = null;
+    }
+  }
 }
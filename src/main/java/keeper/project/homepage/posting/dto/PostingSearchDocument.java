@@ -0,0 +1,21 @@
+package keeper.project.homepage.posting.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 검색 색인에 필요한 컬럼만 담은 projection.
+ */
+@Getter
+@AllArgsConstructor
+public class PostingSearchDocument {
+
+  private Long id;
+  private String title;
+  private String content;
+  private Long categoryId;
+  private Integer isTemp;
+  private Integer isNotice;
+  private LocalDateTime registerTime;
+}
@@ -24,12 +24,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Table;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.util.Assert;
 
 @Builder
 @Entity
+@DynamicUpdate
+@EntityListeners(PostingSearchIndexListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,32 @@
+package keeper.project.homepage.posting.entity;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import keeper.project.homepage.posting.service.PostingSearchIndex;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 게시글이 저장, 수정, 삭제될 때 검색 색인에 반영한다.
+ *
+ * <p>Hibernate가 Spring bean container를 통해 생성하며, 색인 bean이 없는 환경(@DataJpaTest 등)에서는 아무것도 하지 않는다.
+ */
+public class PostingSearchIndexListener {
+
+  private final ObjectProvider<PostingSearchIndex> postingSearchIndex;
+
+  public PostingSearchIndexListener(ObjectProvider<PostingSearchIndex> postingSearchIndex) {
+    this.postingSearchIndex = postingSearchIndex;
+  }
+
+  @PostPersist
+  @PostUpdate
+  public void index(PostingEntity postingEntity) {
+    postingSearchIndex.ifAvailable(index -> index.index(postingEntity));
+  }
+
+  @PostRemove
+  public void remove(PostingEntity postingEntity) {
+    postingSearchIndex.ifAvailable(index -> index.remove(postingEntity.getId()));
+  }
+}
@@ -1,12 +1,18 @@
 package keeper.project.homepage.posting.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.posting.entity.CommentEntity;
 import keeper.project.homepage.posting.entity.PostingEntity;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,8 +20,25 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
   List<CommentEntity> findAll(Specification<CommentEntity> spec);
 
+  @EntityGraph(attributePaths = "member")
   List<CommentEntity> findAll(Specification<CommentEntity> spec, Pageable pageable);
 
+  @EntityGraph(attributePaths = "member")
+  List<CommentEntity> findAllByParentIdInOrderByIdAsc(Collection<Long> parentIds);
+
+  Long countByPostingIdAndParentId(PostingEntity posting, Long parentId);
+
+  /**
+   * 댓글은 작성순((registerTime, id) 오름차순)으로 조회하며, offset 조회의 기본 정렬도 같다.
+   */
+  @EntityGraph(attributePaths = "member")
+  @Query("SELECT c FROM CommentEntity c WHERE c.postingId = :posting AND c.parentId = :parentId "
+      + "AND (c.registerTime > :time OR (c.registerTime = :time AND c.id > :id)) "
+      + "ORDER BY c.registerTime ASC, c.id ASC")
+  Slice<CommentEntity> findAllByPostingIdAndParentIdAfter(@Param("posting") PostingEntity posting,
+      @Param("parentId") Long parentId, @Param("time") LocalDateTime time, @Param("id") Long id,
+      Pageable pageable);
+
   List<CommentEntity> findAllByMember(MemberEntity memberEntity);
 
   List<CommentEntity> findAllByPostingId(PostingEntity postingEntity);
@@ -0,0 +1,54 @@
+package keeper.project.homepage.posting.repository;
+
+import java.util.List;
+import keeper.project.homepage.posting.dto.PostingListDto;
+import keeper.project.homepage.posting.dto.PostingSearchDocument;
+import keeper.project.homepage.util.dto.Cursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 게시글 목록을 {@link PostingListDto}로 바로 조회하는 QueryDSL query.
+ */
+public interface PostingRepositoryCustom {
+
+  Page<PostingListDto> findListByIsTemp(Integer isTemp, Pageable pageable);
+
+  Page<PostingListDto> findListByCategoryIdAndIsTempAndIsNotice(Long categoryId, Integer isTemp,
+      Integer isNotice, Pageable pageable);
+
+  List<PostingListDto> findListByCategoryIdAndIsTempAndIsNotice(Long categoryId, Integer isTemp,
+      Integer isNotice);
+
+  List<PostingListDto> findListByIsNoticeAndIsTemp(Integer isNotice, Integer isTemp);
+
+  Page<PostingListDto> findListByMemberIdAndIsTempAndIsSecret(Long memberId, Integer isTemp,
+      Integer isSecret, Pageable pageable);
+
+  Page<PostingListDto> findListByCategoryIdAndMemberIdAndIsTempAndIsNotice(Long categoryId,
+      Long memberId, Integer isTemp, Integer isNotice, Pageable pageable);
+
+  /*
+   * 아래 Slice 조회는 (registerTime, id) 내림차순으로 {@code after} 다음 게시글부터 {@code size}개를 조회한다.
+   * {@code after}가 null이면 처음부터 조회하며, count query를 실행하지 않는다.
+   */
+
+  Slice<PostingListDto> findSliceByIsTemp(Integer isTemp, Cursor after, int size);
+
+  Slice<PostingListDto> findSliceByCategoryIdAndIsTempAndIsNotice(Long categoryId,
+      Integer isTemp, Integer isNotice, Cursor after, int size);
+
+  Slice<PostingListDto> findSliceByMemberIdAndIsTemp(Long memberId, Integer isTemp,
+      Cursor after, int size);
+
+  Slice<PostingListDto> findSliceByMemberIdAndIsTempAndIsSecret(Long memberId, Integer isTemp,
+      Integer isSecret, Cursor after, int size);
+
+  List<PostingListDto> findListByIdIn(List<Long> postingIds);
+
+  /**
+   * id 순으로 {@code afterId} 이후의 게시글을 {@code limit}개까지 조회한다. 검색 색인을 만들 때 사용한다.
+   */
+  List<PostingSearchDocument> findSearchDocuments(Long afterId, int limit);
+}
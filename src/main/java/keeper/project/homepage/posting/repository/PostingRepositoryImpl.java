@@ -0,0 +1,210 @@
+package keeper.project.homepage.posting.repository;
+
+import static keeper.project.homepage.member.entity.QMemberEntity.memberEntity;
+import static keeper.project.homepage.posting.entity.QCategoryEntity.categoryEntity;
+import static keeper.project.homepage.posting.entity.QPostingEntity.postingEntity;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilderFactory;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import keeper.project.homepage.posting.dto.PostingListDto;
+import keeper.project.homepage.posting.dto.PostingSearchDocument;
+import keeper.project.homepage.posting.entity.PostingEntity;
+import keeper.project.homepage.util.dto.Cursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class PostingRepositoryImpl implements PostingRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+  private final Querydsl querydsl;
+
+  public PostingRepositoryImpl(EntityManager entityManager) {
+    this.queryFactory = new JPAQueryFactory(entityManager);
+    // Pageable의 sort 속성(registerTime 등)을 postingEntity 경로로 변환한다.
+    this.querydsl = new Querydsl(entityManager,
+        new PathBuilderFactory().create(PostingEntity.class));
+  }
+
+  @Override
+  public Page<PostingListDto> findListByIsTemp(Integer isTemp, Pageable pageable) {
+    return findPage(pageable, postingEntity.isTemp.eq(isTemp));
+  }
+
+  @Override
+  public Page<PostingListDto> findListByCategoryIdAndIsTempAndIsNotice(Long categoryId,
+      Integer isTemp, Integer isNotice, Pageable pageable) {
+    return findPage(pageable,
+        postingEntity.categoryId.id.eq(categoryId),
+        postingEntity.isTemp.eq(isTemp),
+        postingEntity.isNotice.eq(isNotice));
+  }
+
+  @Override
+  public List<PostingListDto> findListByCategoryIdAndIsTempAndIsNotice(Long categoryId,
+      Integer isTemp, Integer isNotice) {
+    return selectList()
+        .where(postingEntity.categoryId.id.eq(categoryId),
+            postingEntity.isTemp.eq(isTemp),
+            postingEntity.isNotice.eq(isNotice))
+        .fetch();
+  }
+
+  @Override
+  public List<PostingListDto> findListByIsNoticeAndIsTemp(Integer isNotice, Integer isTemp) {
+    return selectList()
+        .where(postingEntity.isNotice.eq(isNotice),
+            postingEntity.isTemp.eq(isTemp))
+        .fetch();
+  }
+
+  @Override
+  public Page<PostingListDto> findListByMemberIdAndIsTempAndIsSecret(Long memberId,
+      Integer isTemp, Integer isSecret, Pageable pageable) {
+    return findPage(pageable,
+        postingEntity.memberId.id.eq(memberId),
+        postingEntity.isTemp.eq(isTemp),
+        postingEntity.isSecret.eq(isSecret));
+  }
+
+  @Override
+  public Page<PostingListDto> findListByCategoryIdAndMemberIdAndIsTempAndIsNotice(
+      Long categoryId, Long memberId, Integer isTemp, Integer isNotice, Pageable pageable) {
+    return findPage(pageable,
+        postingEntity.categoryId.id.eq(categoryId),
+        postingEntity.memberId.id.eq(memberId),
+        postingEntity.isTemp.eq(isTemp),
+        postingEntity.isNotice.eq(isNotice));
+  }
+
+  @Override
+  public Slice<PostingListDto> findSliceByIsTemp(Integer isTemp, Cursor after, int size) {
+    return findSlice(after, size, postingEntity.isTemp.eq(isTemp));
+  }
+
+  @Override
+  public Slice<PostingListDto> findSliceByCategoryIdAndIsTempAndIsNotice(Long categoryId,
+      Integer isTemp, Integer isNotice, Cursor after, int size) {
+    return findSlice(after, size,
+        postingEntity.categoryId.id.eq(categoryId),
+        postingEntity.isTemp.eq(isTemp),
+        postingEntity.isNotice.eq(isNotice));
+  }
+
+  @Override
+  public Slice<PostingListDto> findSliceByMemberIdAndIsTemp(Long memberId, Integer isTemp,
+      Cursor after, int size) {
+    return findSlice(after, size,
+        postingEntity.memberId.id.eq(memberId),
+        postingEntity.isTemp.eq(isTemp));
+  }
+
+  @Override
+  public Slice<PostingListDto> findSliceByMemberIdAndIsTempAndIsSecret(Long memberId,
+      Integer isTemp, Integer isSecret, Cursor after, int size) {
+    return findSlice(after, size,
+        postingEntity.memberId.id.eq(memberId),
+        postingEntity.isTemp.eq(isTemp),
+        postingEntity.isSecret.eq(isSecret));
+  }
+
+  @Override
+  public List<PostingListDto> findListByIdIn(List<Long> postingIds) {
+    return selectList()
+        .where(postingEntity.id.in(postingIds))
+        .fetch();
+  }
+
+  @Override
+  public List<PostingSearchDocument> findSearchDocuments(Long afterId, int limit) {
+    return queryFactory
+        .select(Projections.constructor(PostingSearchDocument.class,
+            postingEntity.id,
+            postingEntity.title,
+            postingEntity.content,
+            postingEntity.categoryId.id,
+            postingEntity.isTemp,
+            postingEntity.isNotice,
+            postingEntity.registerTime))
+        .from(postingEntity)
+        .where(postingEntity.id.gt(afterId))
+        .orderBy(postingEntity.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  private Page<PostingListDto> findPage(Pageable pageable, Predicate... predicates) {
+    JPAQuery<PostingListDto> contentQuery = selectList().where(predicates);
+    List<PostingListDto> content = querydsl.applyPagination(pageable, contentQuery).fetch();
+
+    // 마지막 페이지처럼 content만으로 전체 개수를 알 수 있으면 count query를 생략한다.
+    JPAQuery<Long> countQuery = queryFactory
+        .select(postingEntity.count())
+        .from(postingEntity)
+        .where(predicates);
+    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+  }
+
+  private Slice<PostingListDto> findSlice(Cursor after, int size, Predicate... predicates) {
+    // 다음 페이지가 있는지 알기 위해 한 개를 더 조회한다.
+    List<PostingListDto> content = selectList()
+        .where(predicates)
+        .where(isBefore(after))
+        .orderBy(postingEntity.registerTime.desc(), postingEntity.id.desc())
+        .limit(size + 1L)
+        .fetch();
+
+    boolean hasNext = content.size() > size;
+    if (hasNext) {
+      content = new ArrayList<>(content.subList(0, size));
+    }
+    return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+  }
+
+  private BooleanExpression isBefore(Cursor after) {
+    if (after == null) {
+      return null;
+    }
+    return postingEntity.registerTime.lt(after.getTime())
+        .or(postingEntity.registerTime.eq(after.getTime())
+            .and(postingEntity.id.lt(after.getId())));
+  }
+
+  private JPAQuery<PostingListDto> selectList() {
+    return queryFactory
+        .select(Projections.constructor(PostingListDto.class,
+            postingEntity.id,
+            postingEntity.title,
+            memberEntity.id,
+            memberEntity.nickName,
+            memberEntity.thumbnail.id,
+            postingEntity.visitCount,
+            postingEntity.likeCount,
+            postingEntity.dislikeCount,
+            postingEntity.commentCount,
+            postingEntity.registerTime,
+            postingEntity.updateTime,
+            postingEntity.ipAddress,
+            postingEntity.allowComment,
+            postingEntity.isNotice,
+            postingEntity.isSecret,
+            postingEntity.isTemp,
+            categoryEntity.id,
+            categoryEntity.name,
+            postingEntity.thumbnail.id))
+        .from(postingEntity)
+        .join(postingEntity.memberId, memberEntity)
+        .join(postingEntity.categoryId, categoryEntity);
+  }
+}
@@ -19,6 +19,7 @@ public class AdminPostingService {
   private final MemberRepository memberRepository;
   private final FileRepository fileRepository;
   private final PostingRepository postingRepository;
+  private final PostingBestService postingBestService;
 
   @Transactional
   public void deleteByAdmin(PostingEntity postingEntity) {
@@ -36,5 +37,6 @@ public class AdminPostingService {
 
     memberEntity.getPosting().remove(postingEntity);
     postingRepository.delete(postingEntity);
+    postingBestService.remove(postingEntity.getId());
   }
 }
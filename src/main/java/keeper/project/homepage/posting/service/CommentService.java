@@ -2,7 +2,11 @@ package keeper.project.homepage.posting.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import keeper.project.homepage.posting.dto.CommentDto;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.posting.entity.CommentEntity;
@@ -19,8 +23,13 @@ import keeper.project.homepage.posting.repository.PostingRepository;
 import keeper.project.homepage.member.service.MemberHasCommentDislikeService;
 import keeper.project.homepage.member.service.MemberHasCommentLikeService;
 import keeper.project.homepage.member.service.MemberUtilService;
+import keeper.project.homepage.util.dto.Cursor;
+import keeper.project.homepage.util.dto.CursorSlice;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,14 +68,6 @@ public class CommentService {
     }
   }
 
-  private boolean checkPushLike(MemberEntity member, CommentEntity comment) {
-    return memberHasCommentLikeService.findById(member, comment) == null ? false : true;
-  }
-
-  private boolean checkPushDislike(MemberEntity member, CommentEntity comment) {
-    return memberHasCommentDislikeService.findById(member, comment) == null ? false : true;
-  }
-
   @Transactional
   public CommentDto save(CommentDto commentDto, Long postId, Long memberId) {
     checkNotEmptyContent(commentDto);
@@ -98,7 +99,7 @@ public class CommentService {
 //    return memberUtilService.getById(memberId);
 //  }
 
-  public List<CommentDto> findAllByPost(Long memberId, Long postId, Pageable pageable) {
+  public CursorSlice<CommentDto> findAllByPost(Long memberId, Long postId, Pageable pageable) {
     MemberEntity member = memberUtilService.getById(memberId);
     PostingEntity postingEntity = postingService.getPostingById(postId);
 
@@ -106,18 +107,76 @@ public class CommentService {
     Specification<CommentEntity> commentSpec = CommentSpec.equalParentId(VIRTUAL_PARENT_COMMENT_ID);
     commentSpec = commentSpec.and(CommentSpec.equalPosting(postingEntity));
 
-    List<CommentEntity> commentPage = new ArrayList<>();
     List<CommentEntity> comments = commentRepository.findAll(commentSpec, pageable);
+    long total = commentRepository.countByPostingIdAndParentId(postingEntity,
+        VIRTUAL_PARENT_COMMENT_ID);
+    boolean isLast = pageable.getOffset() + pageable.getPageSize() >= total;
+    Cursor nextCursor = !isLast && Cursor.isKeysetOrder(pageable.getSort(), Direction.ASC,
+        "registerTime") ? getNextCursor(comments) : null;
+
+    return CursorSlice.of(toCommentDtos(member, postingEntity, comments), isLast, nextCursor);
+  }
+
+  public CursorSlice<CommentDto> findAllByPostAfter(Long memberId, Long postId, Cursor after,
+      int size) {
+    MemberEntity member = memberUtilService.getById(memberId);
+    PostingEntity postingEntity = postingService.getPostingById(postId);
+
+    Slice<CommentEntity> comments = commentRepository.findAllByPostingIdAndParentIdAfter(
+        postingEntity, VIRTUAL_PARENT_COMMENT_ID, after.getTime(), after.getId(),
+        PageRequest.of(0, size));
+    Cursor nextCursor = comments.hasNext() ? getNextCursor(comments.getContent()) : null;
 
+    return CursorSlice.of(toCommentDtos(member, postingEntity, comments.getContent()),
+        comments.isLast(), nextCursor);
+  }
+
+  // 대댓글은 부모 댓글에 붙여 내려가므로 마지막 부모 댓글 위치를 cursor로 전달한다.
+  private Cursor getNextCursor(List<CommentEntity> comments) {
+    if (comments.isEmpty()) {
+      return null;
+    }
+    CommentEntity last = comments.get(comments.size() - 1);
+    return Cursor.of(last.getRegisterTime(), last.getId());
+  }
+
+  /**
+   * 한 페이지의 부모 댓글에 대댓글과 좋아요/싫어요 여부를 붙여 댓글 트리를 만든다.
+   *
+   * <p>대댓글은 부모 댓글 id의 IN 조건 한 번으로, 좋아요/싫어요 여부는 각각 한 번의 조회로 가져오므로
+   * 댓글 수와 관계없이 조회 쿼리 수가 일정하다.
+   */
+  private List<CommentDto> toCommentDtos(MemberEntity member, PostingEntity postingEntity,
+      List<CommentEntity> comments) {
+    if (comments.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<Long> parentIds = comments.stream().map(CommentEntity::getId).toList();
+    Map<Long, List<CommentEntity>> repliesByParentId = new HashMap<>();
+    for (CommentEntity reply : commentRepository.findAllByParentIdInOrderByIdAsc(parentIds)) {
+      repliesByParentId.computeIfAbsent(reply.getParentId(), id -> new ArrayList<>()).add(reply);
+    }
+
+    List<CommentEntity> commentPage = new ArrayList<>();
     for (CommentEntity comment : comments) {
-      Specification<CommentEntity> replySpec = CommentSpec.equalParentId(comment.getId());
-      List<CommentEntity> replies = commentRepository.findAll(replySpec);
       commentPage.add(comment);
-      commentPage.addAll(replies);
+      commentPage.addAll(repliesByParentId.getOrDefault(comment.getId(), List.of()));
     }
 
     boolean isAnonymousCategory = postingEntity.getCategoryId().getName().equals("익명게시판");
 
+    Set<Long> likedCommentIds = Set.of();
+    Set<Long> dislikedCommentIds = Set.of();
+    if (isAnonymousCategory == false) {
+      List<Long> commentIds = commentPage.stream().map(CommentEntity::getId).toList();
+      likedCommentIds = new HashSet<>(
+          memberHasCommentLikeRepository.findCommentIdsByMemberAndCommentIdIn(member, commentIds));
+      dislikedCommentIds = new HashSet<>(
+          memberHasCommentDislikeRepository.findCommentIdsByMemberAndCommentIdIn(member,
+              commentIds));
+    }
+
     List<CommentDto> dtoPage = new ArrayList<>();
     for (CommentEntity comment : commentPage) {
       CommentDto dto = CommentDto.builder().build();
@@ -127,8 +186,8 @@ public class CommentService {
         dto.setCheckedDislike(false);
       } else {
         dto.initWithEntity(comment);
-        dto.setCheckedLike(checkPushLike(member, comment));
-        dto.setCheckedDislike(checkPushDislike(member, comment));
+        dto.setCheckedLike(likedCommentIds.contains(comment.getId()));
+        dto.setCheckedDislike(dislikedCommentIds.contains(comment.getId()));
       }
       dtoPage.add(dto);
     }
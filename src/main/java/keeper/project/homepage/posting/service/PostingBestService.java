@@ -0,0 +1,326 @@
+package keeper.project.homepage.posting.service;
+
+import static keeper.project.homepage.posting.service.PostingService.bestPostingCount;
+import static keeper.project.homepage.posting.service.PostingService.isNotNoticePosting;
+import static keeper.project.homepage.posting.service.PostingService.isNotSecretPosting;
+import static keeper.project.homepage.posting.service.PostingService.isNotTempPosting;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import keeper.project.homepage.posting.dto.PostingBestDto;
+import keeper.project.homepage.posting.entity.PostingEntity;
+import keeper.project.homepage.posting.repository.PostingRepository;
+import keeper.project.homepage.util.redis.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인기 게시글(최근 2주, visitCount + 2 * likeCount - dislikeCount 순)을 Redis sorted set으로 관리한다.
+ *
+ * <p>조회, 좋아요, 싫어요가 발생할 때마다 점수를 증감하고, 2주가 지난 게시글은 조회 시 제거한다.
+ * Redis 값이 DB와 어긋나는 경우를 대비해 매일 새벽 DB로부터 다시 계산한다. leaderboard를 바꾸는 명령은 모두 Lua
+ * script로 실행해, 다시 계산하는 동안 들어온 변경도 함께 기록한다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class PostingBestService {
+
+  public static final String BEST_SCORE_KEY = "posting:best:score";
+  public static final String BEST_REGISTER_TIME_KEY = "posting:best:registerTime";
+  public static final String BEST_BUILT_KEY = "posting:best:built";
+  // 진행 중인 rebuild id -> 끝나야 하는 시각(epoch milli)
+  public static final String BEST_REBUILDS_KEY = "posting:best:rebuilds";
+
+  public static final int VISIT_WEIGHT = 1;
+  public static final int LIKE_WEIGHT = 2;
+  public static final int DISLIKE_WEIGHT = -1;
+  private static final int BEST_PERIOD_WEEKS = 2;
+  private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+  private static final long REBUILD_TIMEOUT_MS = 10 * 60 * 1000L;
+
+  // 진행 중인 rebuild마다 계산하는 동안 바뀐 내용을 기록하는 key의 접두어를 구한다. (KEYS[3], ARGV[1]: 현재 시각)
+  private static final String ACTIVE_REBUILDS = "local function activeRebuilds() "
+      + "local prefixes = {} "
+      + "for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], ARGV[1], '+inf')) do "
+      + "table.insert(prefixes, KEYS[3] .. ':' .. id) end "
+      + "return prefixes end ";
+
+  // KEYS: registerTime, score, rebuilds / ARGV: 현재 시각, member, registerTime, score
+  private static final RedisScript<Long> REGISTER_SCRIPT = RedisScript.of(ACTIVE_REBUILDS
+      + "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2]) "
+      + "redis.call('ZADD', KEYS[2], ARGV[4], ARGV[2]) "
+      + "for _, prefix in ipairs(activeRebuilds()) do "
+      + "redis.call('ZADD', prefix .. ':registerTime', ARGV[3], ARGV[2]) "
+      + "redis.call('ZADD', prefix .. ':score', ARGV[4], ARGV[2]) "
+      + "redis.call('ZREM', prefix .. ':delta', ARGV[2]) "
+      + "redis.call('SREM', prefix .. ':removed', ARGV[2]) end "
+      + "return 1", Long.class);
+
+  // KEYS: registerTime, score, rebuilds / ARGV: 현재 시각, member
+  private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of(ACTIVE_REBUILDS
+      + "redis.call('ZREM', KEYS[1], ARGV[2]) "
+      + "redis.call('ZREM', KEYS[2], ARGV[2]) "
+      + "for _, prefix in ipairs(activeRebuilds()) do "
+      + "redis.call('ZREM', prefix .. ':registerTime', ARGV[2]) "
+      + "redis.call('ZREM', prefix .. ':score', ARGV[2]) "
+      + "redis.call('ZREM', prefix .. ':delta', ARGV[2]) "
+      + "redis.call('SADD', prefix .. ':removed', ARGV[2]) end "
+      + "return 1", Long.class);
+
+  // 집계 대상(최근 2주, 공개 게시글)에 등록된 게시글만 점수를 올린다.
+  // KEYS: registerTime, score, rebuilds / ARGV: 현재 시각, member, delta
+  private static final RedisScript<Long> INCREASE_SCRIPT = RedisScript.of(ACTIVE_REBUILDS
+      + "if redis.call('ZSCORE', KEYS[1], ARGV[2]) then "
+      + "redis.call('ZINCRBY', KEYS[2], ARGV[3], ARGV[2]) end "
+      + "for _, prefix in ipairs(activeRebuilds()) do "
+      + "redis.call('ZINCRBY', prefix .. ':delta', ARGV[3], ARGV[2]) end "
+      + "return 1", Long.class);
+
+  // 계산하는 동안 바뀐 내용을 새 leaderboard에 반영한 뒤 두 key를 한 번에 교체한다.
+  // KEYS: registerTime, score, rebuilds, 새 registerTime, 새 score / ARGV: rebuild id
+  private static final RedisScript<Long> SWAP_SCRIPT = RedisScript.of(
+      "local prefix = KEYS[3] .. ':' .. ARGV[1] "
+          + "local registered = redis.call('ZRANGE', prefix .. ':registerTime', 0, -1, 'WITHSCORES') "
+          + "for i = 1, #registered, 2 do "
+          + "redis.call('ZADD', KEYS[4], registered[i + 1], registered[i]) "
+          + "redis.call('ZADD', KEYS[5], redis.call('ZSCORE', prefix .. ':score', registered[i]), "
+          + "registered[i]) end "
+          + "for _, member in ipairs(redis.call('SMEMBERS', prefix .. ':removed')) do "
+          + "redis.call('ZREM', KEYS[4], member) "
+          + "redis.call('ZREM', KEYS[5], member) end "
+          + "local delta = redis.call('ZRANGE', prefix .. ':delta', 0, -1, 'WITHSCORES') "
+          + "for i = 1, #delta, 2 do "
+          + "if redis.call('ZSCORE', KEYS[4], delta[i]) then "
+          + "redis.call('ZINCRBY', KEYS[5], delta[i + 1], delta[i]) end end "
+          + "if redis.call('EXISTS', KEYS[4]) == 1 then "
+          + "redis.call('RENAME', KEYS[4], KEYS[1]) "
+          + "redis.call('RENAME', KEYS[5], KEYS[2]) "
+          + "else redis.call('DEL', KEYS[1], KEYS[2]) end "
+          + "return 1", Long.class);
+
+  private final PostingRepository postingRepository;
+  private final PostingVisitCounter postingVisitCounter;
+  private final RedisUtil redisUtil;
+
+  private final ReentrantLock rebuildLock = new ReentrantLock();
+
+  @Transactional(readOnly = true)
+  public List<PostingBestDto> findAllBest() {
+    if (!redisUtil.hasKey(BEST_BUILT_KEY)) {
+      rebuildOnce();
+    }
+    removeExpired();
+
+    // leaderboard가 비어 있는 것은 최근 2주 동안 게시글이 없다는 뜻이므로 다시 계산하지 않는다.
+    List<Long> bestIds = getBestIds();
+    List<PostingBestDto> postingBestDtos = toBestDtos(bestIds);
+    // 삭제, 비공개 전환 등으로 Redis 값이 DB와 어긋났다면 DB로부터 다시 계산한다.
+    if (postingBestDtos.size() < bestIds.size()) {
+      rebuildOnce();
+      postingBestDtos = toBestDtos(getBestIds());
+    }
+    return postingBestDtos;
+  }
+
+  /**
+   * 여러 요청이 동시에 다시 계산하려고 하면 한 요청만 계산하고, 나머지는 그 결과를 기다렸다가 그대로 사용한다.
+   */
+  private void rebuildOnce() {
+    if (rebuildLock.tryLock()) {
+      try {
+        rebuild();
+      } finally {
+        rebuildLock.unlock();
+      }
+      return;
+    }
+    rebuildLock.lock();
+    rebuildLock.unlock();
+  }
+
+  private List<Long> getBestIds() {
+    return redisUtil.getTopMembers(BEST_SCORE_KEY, bestPostingCount).stream()
+        .map(Long::valueOf)
+        .collect(Collectors.toList());
+  }
+
+  private List<PostingBestDto> toBestDtos(List<Long> bestIds) {
+    Map<Long, PostingEntity> postings = postingRepository.findAllById(bestIds).stream()
+        .collect(Collectors.toMap(PostingEntity::getId, Function.identity()));
+
+    List<PostingBestDto> postingBestDtos = new ArrayList<>();
+    for (Long bestId : bestIds) {
+      PostingEntity postingEntity = postings.get(bestId);
+      if (postingEntity == null || !isBestCandidate(postingEntity)) {
+        continue;
+      }
+      PostingBestDto tempBestDto = new PostingBestDto();
+      tempBestDto.initWithEntity(postingEntity);
+      postingBestDtos.add(tempBestDto);
+    }
+    return postingBestDtos;
+  }
+
+  public void register(PostingEntity postingEntity) {
+    if (!isBestCandidate(postingEntity)) {
+      return;
+    }
+    String member = String.valueOf(postingEntity.getId());
+    String score = String.valueOf(getScore(postingEntity));
+    String registerTime = String.valueOf(toEpochMilli(postingEntity.getRegisterTime()));
+    afterCommit(() -> executeOnLeaderboard(REGISTER_SCRIPT, member, registerTime, score));
+  }
+
+  public void refresh(PostingEntity postingEntity) {
+    if (isBestCandidate(postingEntity)) {
+      register(postingEntity);
+    } else {
+      remove(postingEntity.getId());
+    }
+  }
+
+  public void remove(Long postingId) {
+    String member = String.valueOf(postingId);
+    afterCommit(() -> executeOnLeaderboard(REMOVE_SCRIPT, member));
+  }
+
+  public void increaseScore(Long postingId, int delta) {
+    String member = String.valueOf(postingId);
+    afterCommit(() -> executeOnLeaderboard(INCREASE_SCRIPT, member, String.valueOf(delta)));
+  }
+
+  /**
+   * DB로부터 leaderboard를 다시 계산한다.
+   *
+   * <p>계산하는 동안 들어온 등록, 삭제, 점수 증감은 rebuild id별 key에 따로 기록해 두었다가, 교체할 때 새 leaderboard에
+   * 다시 반영한다. 아직 DB에 반영되지 않은 조회수는 {@link PostingVisitCounter}에서 읽어 더한다.
+   */
+  @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    // 다른 서버나 스케줄러와 동시에 계산해도 서로의 임시 key를 덮어쓰지 않도록 key마다 이름을 다르게 한다.
+    String rebuildId = UUID.randomUUID().toString();
+    String changesPrefix = BEST_REBUILDS_KEY + ":" + rebuildId;
+    String scoreKey = BEST_SCORE_KEY + ":rebuild:" + rebuildId;
+    String registerTimeKey = BEST_REGISTER_TIME_KEY + ":rebuild:" + rebuildId;
+    // DB에서 읽기 전에 등록해야 읽은 뒤의 변경을 놓치지 않는다.
+    redisUtil.addScore(BEST_REBUILDS_KEY, rebuildId,
+        System.currentTimeMillis() + REBUILD_TIMEOUT_MS);
+    try {
+      LocalDateTime startDate = getPeriodStart();
+      LocalDateTime endDate = LocalDate.now(ZONE_ID).plusDays(1).atStartOfDay();
+      List<PostingEntity> postingEntities = postingRepository.findAllByIsTempAndIsSecretAndIsNoticeAndRegisterTimeBetween(
+          isNotTempPosting, isNotSecretPosting, isNotNoticePosting, startDate, endDate);
+
+      // 새 key에 계산한 뒤 교체하여 조회 중인 요청이 빈 leaderboard를 보지 않게 한다.
+      Map<String, Double> registerTimes = new HashMap<>();
+      Map<String, Double> scores = new HashMap<>();
+      for (PostingEntity postingEntity : postingEntities) {
+        String member = String.valueOf(postingEntity.getId());
+        registerTimes.put(member, toEpochMilli(postingEntity.getRegisterTime()));
+        scores.put(member, getScore(postingEntity));
+      }
+      redisUtil.addScores(registerTimeKey, registerTimes);
+      redisUtil.addScores(scoreKey, scores);
+
+      redisUtil.execute(SWAP_SCRIPT, List.of(BEST_REGISTER_TIME_KEY, BEST_SCORE_KEY,
+          BEST_REBUILDS_KEY, registerTimeKey, scoreKey), rebuildId);
+      redisUtil.setDataExpire(BEST_BUILT_KEY, endDate.toString(),
+          1000L * 60 * 60 * 24 * 2);
+    } finally {
+      // 교체된 뒤에는 임시 key가 없다. 중간에 실패했으면 남은 key를 지운다.
+      redisUtil.removeMembers(BEST_REBUILDS_KEY, rebuildId);
+      redisUtil.deleteData(scoreKey);
+      redisUtil.deleteData(registerTimeKey);
+      redisUtil.deleteData(changesPrefix + ":registerTime");
+      redisUtil.deleteData(changesPrefix + ":score");
+      redisUtil.deleteData(changesPrefix + ":removed");
+      redisUtil.deleteData(changesPrefix + ":delta");
+    }
+  }
+
+  private void executeOnLeaderboard(RedisScript<Long> script, String... args) {
+    String[] scriptArgs = new String[args.length + 1];
+    scriptArgs[0] = String.valueOf(System.currentTimeMillis());
+    System.arraycopy(args, 0, scriptArgs, 1, args.length);
+    redisUtil.execute(script, List.of(BEST_REGISTER_TIME_KEY, BEST_SCORE_KEY, BEST_REBUILDS_KEY),
+        scriptArgs);
+  }
+
+  private void removeExpired() {
+    Set<String> expired = redisUtil.getMembersByScore(BEST_REGISTER_TIME_KEY,
+        Double.NEGATIVE_INFINITY, toEpochMilli(getPeriodStart()) - 1);
+    if (expired == null || expired.isEmpty()) {
+      return;
+    }
+    Object[] members = expired.toArray();
+    redisUtil.removeMembers(BEST_SCORE_KEY, members);
+    redisUtil.removeMembers(BEST_REGISTER_TIME_KEY, members);
+  }
+
+  private boolean isBestCandidate(PostingEntity postingEntity) {
+    return Objects.equals(postingEntity.getIsTemp(), isNotTempPosting)
+        && Objects.equals(postingEntity.getIsSecret(), isNotSecretPosting)
+        && Objects.equals(postingEntity.getIsNotice(), isNotNoticePosting)
+        && postingEntity.getRegisterTime() != null
+        && !postingEntity.getRegisterTime().isBefore(getPeriodStart());
+  }
+
+  /**
+   * 아직 DB에 반영되지 않은 조회수도 더한다.
+   */
+  private double getScore(PostingEntity postingEntity) {
+    long visitCount = postingEntity.getVisitCount()
+        + postingVisitCounter.getPendingCount(postingEntity.getId());
+    return visitCount * VISIT_WEIGHT
+        + postingEntity.getLikeCount() * LIKE_WEIGHT
+        + postingEntity.getDislikeCount() * DISLIKE_WEIGHT;
+  }
+
+  private LocalDateTime getPeriodStart() {
+    return LocalDate.now(ZONE_ID).minusWeeks(BEST_PERIOD_WEEKS).atStartOfDay();
+  }
+
+  private double toEpochMilli(LocalDateTime dateTime) {
+    return dateTime.atZone(ZONE_ID).toInstant().toEpochMilli();
+  }
+
+  private void afterCommit(Runnable task) {
+    Runnable safeTask = () -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        // Redis 반영에 실패해도 게시글 요청은 성공시키고, 다음 rebuild에서 보정한다.
+        log.warn("인기 게시글 leaderboard 갱신 실패", e);
+      }
+    };
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          safeTask.run();
+        }
+      });
+    } else {
+      safeTask.run();
+    }
+  }
+}
@@ -0,0 +1,500 @@
+package keeper.project.homepage.posting.service;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import keeper.project.homepage.posting.dto.PostingSearchDocument;
+import keeper.project.homepage.posting.entity.PostingEntity;
+import keeper.project.homepage.posting.repository.PostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 제목, 내용에 대한 bi-gram 역색인.
+ *
+ * <p>한글은 띄어쓰기나 조사 때문에 단어 단위로 자르기 어려우므로 정규화(NFC, 소문자, HTML 태그 제거)한
+ * 문자열을 2글자씩 잘라 색인한다. 검색어의 모든 bi-gram을 포함하는 게시글을 후보로 고른 뒤,
+ * 실제로 검색어를 포함하는지 확인하고 등장 횟수(제목은 {@link #TITLE_WEIGHT}배)로 순위를 매긴다.
+ *
+ * <p>게시글이 저장, 수정, 삭제되면 {@link keeper.project.homepage.posting.entity.PostingSearchIndexListener}가
+ * 바뀐 문서를 트랜잭션마다 모아 두고, 커밋된 뒤에 색인에 반영한다. 커밋되지 않았거나 rollback 된 내용은 검색되지 않는다.
+ *
+ * <p>전체 색인은 잠금 없이 새로 만든 뒤 한 번에 교체하므로, 만드는 동안에도 검색과 게시글 저장이 기다리지 않는다.
+ * 만드는 동안 바뀐 게시글은 따로 모아 두었다가 교체하기 직전에 새 색인에 덮어쓴다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class PostingSearchIndex {
+
+  public enum SearchField {
+    TITLE, CONTENT, TITLE_OR_CONTENT
+  }
+
+  private static final int GRAM_SIZE = 2;
+  private static final int TITLE_WEIGHT = 3;
+  private static final int BUILD_BATCH_SIZE = 500;
+  private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  // 검색 점수, 등록 시간, id 역순
+  private static final Comparator<ScoredPosting> RELEVANCE_ORDER = Comparator
+      .comparingInt((ScoredPosting posting) -> posting.score)
+      .thenComparing(posting -> posting.registerTime,
+          Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+      .thenComparing(posting -> posting.id)
+      .reversed();
+
+  private final PostingRepository postingRepository;
+
+  // 색인의 증분 변경과 교체를 보호한다. 전체 색인을 만드는 동안에는 잡지 않는다.
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // 전체 색인을 한 번에 하나만 만든다.
+  private final ReentrantLock buildLock = new ReentrantLock();
+  // 아직 한 번도 만들지 않았으면 null
+  private volatile Index index;
+  // 전체 색인을 만드는 동안 바뀐 게시글 -> 바뀐 뒤의 문서(삭제되었으면 null). 만들고 있지 않으면 null
+  private Map<Long, Document> changesDuringBuild;
+
+  /**
+   * 검색어를 포함하는 게시글 id를 찾는다.
+   *
+   * <p>정렬을 지정하지 않으면 검색 점수 순으로 정렬한다. 정렬은 색인에 있는 {@code registerTime}, {@code id}만
+   * 지원하며, 그 밖의 속성은 무시하고 같은 값끼리는 검색 점수 순으로 정렬한다.
+   */
+  public Page<Long> search(Long categoryId, String keyword, SearchField field, Integer isTemp,
+      Integer isNotice, Pageable pageable) {
+    String query = normalize(keyword);
+    if (query.isBlank()) {
+      return Page.empty(pageable);
+    }
+    ensureBuilt();
+
+    List<ScoredPosting> scoredPostings = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      Index current = index;
+      for (Long postingId : current.findCandidates(query, field)) {
+        Document document = current.documents.get(postingId);
+        if (document == null
+            || !Objects.equals(document.categoryId, categoryId)
+            || !Objects.equals(document.isTemp, isTemp)
+            || !Objects.equals(document.isNotice, isNotice)) {
+          continue;
+        }
+        int score = getScore(document, query, field);
+        if (score > 0) {
+          scoredPostings.add(new ScoredPosting(document, score));
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    scoredPostings.sort(getOrder(pageable.getSort()));
+
+    int fromIndex = (int) Math.min(pageable.getOffset(), scoredPostings.size());
+    int toIndex = Math.min(fromIndex + pageable.getPageSize(), scoredPostings.size());
+    List<Long> pageIds = scoredPostings.subList(fromIndex, toIndex).stream()
+        .map(posting -> posting.id)
+        .collect(Collectors.toList());
+    return new PageImpl<>(pageIds, pageable, scoredPostings.size());
+  }
+
+  private Comparator<ScoredPosting> getOrder(Sort sort) {
+    Comparator<ScoredPosting> order = null;
+    for (Sort.Order sortOrder : sort) {
+      Comparator<ScoredPosting> propertyOrder = switch (sortOrder.getProperty()) {
+        case "registerTime" -> Comparator.comparing(posting -> posting.registerTime,
+            Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+        case "id" -> Comparator.comparing(posting -> posting.id);
+        default -> null;
+      };
+      if (propertyOrder == null) {
+        continue;
+      }
+      if (sortOrder.isDescending()) {
+        propertyOrder = propertyOrder.reversed();
+      }
+      order = order == null ? propertyOrder : order.thenComparing(propertyOrder);
+    }
+    return order == null ? RELEVANCE_ORDER : order.thenComparing(RELEVANCE_ORDER);
+  }
+
+  /**
+   * 트랜잭션이 커밋된 뒤 색인에 반영한다. 조회수, 좋아요 수처럼 색인하지 않는 값만 바뀌었으면 정규화하지 않고 넘어간다.
+   */
+  public void index(PostingEntity postingEntity) {
+    if (postingEntity.getId() == null) {
+      return;
+    }
+    Document current = getCurrentDocument(postingEntity.getId());
+    if (current != null && current.hasSameSource(postingEntity)) {
+      return;
+    }
+    applyAfterCommit(postingEntity.getId(), toDocument(postingEntity));
+  }
+
+  public void remove(Long postingId) {
+    applyAfterCommit(postingId, null);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    rebuild();
+  }
+
+  @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+  public void rebuild() {
+    buildLock.lock();
+    try {
+      build();
+    } finally {
+      buildLock.unlock();
+    }
+  }
+
+  private void ensureBuilt() {
+    if (index != null) {
+      return;
+    }
+    buildLock.lock();
+    try {
+      if (index == null) {
+        build();
+      }
+    } finally {
+      buildLock.unlock();
+    }
+  }
+
+  private void build() {
+    lock.writeLock().lock();
+    try {
+      changesDuringBuild = new HashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    Index newIndex = new Index();
+    boolean completed = false;
+    try {
+      long lastId = 0L;
+      List<PostingSearchDocument> searchDocuments;
+      do {
+        searchDocuments = postingRepository.findSearchDocuments(lastId, BUILD_BATCH_SIZE);
+        for (PostingSearchDocument searchDocument : searchDocuments) {
+          newIndex.add(Document.of(searchDocument.getId(), searchDocument.getTitle(),
+              searchDocument.getContent(), searchDocument.getCategoryId(),
+              searchDocument.getIsTemp(), searchDocument.getIsNotice(),
+              searchDocument.getRegisterTime()));
+          lastId = searchDocument.getId();
+        }
+      } while (searchDocuments.size() == BUILD_BATCH_SIZE);
+      completed = true;
+    } finally {
+      lock.writeLock().lock();
+      try {
+        // 끝까지 만들지 못했으면 기존 색인을 그대로 쓴다.
+        if (completed) {
+          changesDuringBuild.forEach(newIndex::replace);
+          index = newIndex;
+        }
+        changesDuringBuild = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    log.info("게시글 검색 색인 생성 완료 : {}개", newIndex.documents.size());
+  }
+
+  private int getScore(Document document, String query, SearchField field) {
+    int titleCount = field == SearchField.CONTENT ? 0 : countOccurrences(document.title, query);
+    int contentCount = field == SearchField.TITLE ? 0 : countOccurrences(document.content, query);
+    return titleCount * TITLE_WEIGHT + contentCount;
+  }
+
+  private int countOccurrences(String text, String query) {
+    int count = 0;
+    int index = text.indexOf(query);
+    while (index >= 0) {
+      count++;
+      index = text.indexOf(query, index + query.length());
+    }
+    return count;
+  }
+
+  /**
+   * 현재 트랜잭션에서 바꾼 문서가 있으면 그 문서를, 없으면 색인에 있는 문서를 반환한다.
+   */
+  private Document getCurrentDocument(Long postingId) {
+    Map<Long, Document> pendingChanges = getPendingChanges();
+    if (pendingChanges != null && pendingChanges.containsKey(postingId)) {
+      return pendingChanges.get(postingId);
+    }
+    lock.readLock().lock();
+    try {
+      return index == null ? null : index.documents.get(postingId);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 트랜잭션 안에서는 바뀐 문서를 모아 두었다가 커밋된 뒤 한 번에 반영하고, rollback 되면 버린다.
+   *
+   * @param document null이면 삭제한다.
+   */
+  private void applyAfterCommit(Long postingId, Document document) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      Map<Long, Document> changes = new HashMap<>();
+      changes.put(postingId, document);
+      applyChanges(changes);
+      return;
+    }
+    Map<Long, Document> pendingChanges = getPendingChanges();
+    if (pendingChanges == null) {
+      Map<Long, Document> newPendingChanges = new LinkedHashMap<>();
+      TransactionSynchronizationManager.bindResource(this, newPendingChanges);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          applyChanges(newPendingChanges);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(PostingSearchIndex.this);
+        }
+      });
+      pendingChanges = newPendingChanges;
+    }
+    pendingChanges.put(postingId, document);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Long, Document> getPendingChanges() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return null;
+    }
+    return (Map<Long, Document>) TransactionSynchronizationManager.getResource(this);
+  }
+
+  /**
+   * 현재 색인에 반영하고, 전체 색인을 만드는 중이면 새 색인에도 반영되도록 기록한다.
+   */
+  private void applyChanges(Map<Long, Document> changes) {
+    lock.writeLock().lock();
+    try {
+      // 아직 색인을 만들기 시작하지 않았으면 만들 때 DB에서 읽는다.
+      if (index == null && changesDuringBuild == null) {
+        return;
+      }
+      changes.forEach((postingId, document) -> {
+        if (index != null) {
+          index.replace(postingId, document);
+        }
+        if (changesDuringBuild != null) {
+          changesDuringBuild.put(postingId, document);
+        }
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static Document toDocument(PostingEntity postingEntity) {
+    return Document.of(postingEntity.getId(), postingEntity.getTitle(),
+        postingEntity.getContent(), getCategoryId(postingEntity), postingEntity.getIsTemp(),
+        postingEntity.getIsNotice(), postingEntity.getRegisterTime());
+  }
+
+  private static Long getCategoryId(PostingEntity postingEntity) {
+    return postingEntity.getCategoryId() == null ? null : postingEntity.getCategoryId().getId();
+  }
+
+  private static Set<String> getGrams(String text) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+      grams.add(text.substring(i, i + GRAM_SIZE));
+    }
+    return grams;
+  }
+
+  private static String stripTags(String text) {
+    return text == null ? "" : HTML_TAG.matcher(text).replaceAll(" ");
+  }
+
+  private static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    return WHITESPACE.matcher(normalized).replaceAll(" ");
+  }
+
+  /**
+   * 문서와 제목, 내용의 bi-gram 역색인.
+   */
+  private static class Index {
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> titleIndex = new HashMap<>();
+    private final Map<String, Set<Long>> contentIndex = new HashMap<>();
+
+    private Set<Long> findCandidates(String query, SearchField field) {
+      // 한 글자 검색어는 bi-gram으로 찾을 수 없으므로 전체 문서를 확인한다.
+      if (query.length() < GRAM_SIZE) {
+        return documents.keySet();
+      }
+      return switch (field) {
+        case TITLE -> findCandidates(titleIndex, query);
+        case CONTENT -> findCandidates(contentIndex, query);
+        case TITLE_OR_CONTENT -> {
+          Set<Long> candidates = new HashSet<>(findCandidates(titleIndex, query));
+          candidates.addAll(findCandidates(contentIndex, query));
+          yield candidates;
+        }
+      };
+    }
+
+    private Set<Long> findCandidates(Map<String, Set<Long>> index, String query) {
+      List<Set<Long>> postingLists = new ArrayList<>();
+      for (String gram : getGrams(query)) {
+        Set<Long> postingIds = index.get(gram);
+        if (postingIds == null) {
+          return Collections.emptySet();
+        }
+        postingLists.add(postingIds);
+      }
+      // 가장 작은 posting list부터 교집합을 구한다.
+      postingLists.sort(Comparator.comparingInt(Set::size));
+      Set<Long> candidates = new HashSet<>(postingLists.get(0));
+      for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+        candidates.retainAll(postingLists.get(i));
+      }
+      return candidates;
+    }
+
+    /**
+     * @param document null이면 삭제한다.
+     */
+    private void replace(Long postingId, Document document) {
+      remove(postingId);
+      if (document != null) {
+        add(document);
+      }
+    }
+
+    private void add(Document document) {
+      documents.put(document.id, document);
+      for (String gram : getGrams(document.title)) {
+        titleIndex.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id);
+      }
+      for (String gram : getGrams(document.content)) {
+        contentIndex.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id);
+      }
+    }
+
+    private void remove(Long postingId) {
+      Document document = documents.remove(postingId);
+      if (document == null) {
+        return;
+      }
+      removeGrams(titleIndex, document.title, postingId);
+      removeGrams(contentIndex, document.content, postingId);
+    }
+
+    private void removeGrams(Map<String, Set<Long>> index, String text, Long postingId) {
+      for (String gram : getGrams(text)) {
+        Set<Long> postingIds = index.get(gram);
+        if (postingIds != null) {
+          postingIds.remove(postingId);
+          if (postingIds.isEmpty()) {
+            index.remove(gram);
+          }
+        }
+      }
+    }
+  }
+
+  private static class Document {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final Long categoryId;
+    private final Integer isTemp;
+    private final Integer isNotice;
+    private final LocalDateTime registerTime;
+    // 정규화하기 전 제목, 내용의 hash. 정규화하지 않고 바뀌었는지 확인할 때 사용한다.
+    private final int sourceTitleHash;
+    private final int sourceContentHash;
+
+    private Document(Long id, String title, String content, Long categoryId, Integer isTemp,
+        Integer isNotice, LocalDateTime registerTime, int sourceTitleHash,
+        int sourceContentHash) {
+      this.id = id;
+      this.title = title;
+      this.content = content;
+      this.categoryId = categoryId;
+      this.isTemp = isTemp;
+      this.isNotice = isNotice;
+      this.registerTime = registerTime;
+      this.sourceTitleHash = sourceTitleHash;
+      this.sourceContentHash = sourceContentHash;
+    }
+
+    static Document of(Long id, String title, String content, Long categoryId, Integer isTemp,
+        Integer isNotice, LocalDateTime registerTime) {
+      return new Document(id, normalize(title), normalize(stripTags(content)), categoryId,
+          isTemp, isNotice, registerTime, Objects.hashCode(title), Objects.hashCode(content));
+    }
+
+    boolean hasSameSource(PostingEntity postingEntity) {
+      return sourceTitleHash == Objects.hashCode(postingEntity.getTitle())
+          && sourceContentHash == Objects.hashCode(postingEntity.getContent())
+          && Objects.equals(categoryId, getCategoryId(postingEntity))
+          && Objects.equals(isTemp, postingEntity.getIsTemp())
+          && Objects.equals(isNotice, postingEntity.getIsNotice())
+          && Objects.equals(registerTime, postingEntity.getRegisterTime());
+    }
+  }
+
+  private static class ScoredPosting {
+
+    private final Long id;
+    private final LocalDateTime registerTime;
+    private final int score;
+
+    ScoredPosting(Document document, int score) {
+      this.id = document.id;
+      this.registerTime = document.registerTime;
+      this.score = score;
+    }
+  }
+}
@@ -2,7 +2,6 @@ package keeper.project.homepage.posting.service;
 
 import static keeper.project.homepage.util.ClientUtil.getUserIP;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,6 +26,7 @@ import keeper.project.homepage.posting.dto.LikeAndDislikeDto;
 import keeper.project.homepage.posting.dto.PostingBestDto;
 import keeper.project.homepage.posting.dto.PostingDto;
 import keeper.project.homepage.posting.dto.PostingImageUploadResponseDto;
+import keeper.project.homepage.posting.dto.PostingListDto;
 import keeper.project.homepage.posting.dto.PostingResponseDto;
 import keeper.project.homepage.posting.entity.CategoryEntity;
 import keeper.project.homepage.posting.entity.PostingEntity;
@@ -38,6 +38,9 @@ import keeper.project.homepage.posting.exception.CustomPostingTempException;
 import keeper.project.homepage.posting.repository.CategoryRepository;
 import keeper.project.homepage.posting.repository.CommentRepository;
 import keeper.project.homepage.posting.repository.PostingRepository;
+import keeper.project.homepage.posting.service.PostingSearchIndex.SearchField;
+import keeper.project.homepage.util.dto.Cursor;
+import keeper.project.homepage.util.dto.CursorSlice;
 import keeper.project.homepage.util.entity.FileEntity;
 import keeper.project.homepage.util.entity.ThumbnailEntity;
 import keeper.project.homepage.util.exception.file.CustomThumbnailEntityNotFoundException;
@@ -51,7 +54,12 @@ import keeper.project.homepage.util.service.ThumbnailService.ThumbType;
 import keeper.project.homepage.util.service.auth.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -74,6 +82,9 @@ public class PostingService {
   private final MemberUtilService memberUtilService;
   private final AuthService authService;
   private final ThumbnailService thumbnailService;
+  private final PostingBestService postingBestService;
+  private final PostingVisitCounter postingVisitCounter;
+  private final PostingSearchIndex postingSearchIndex;
 
   public static final Integer isNotTempPosting = 0;
   public static final Integer isTempPosting = 1;
@@ -90,110 +101,152 @@ public class PostingService {
   public static final String EXAM_ACCESS_DENIED_TITLE = "접근할 수 없습니다.";
   public static final String EXAM_ACCESS_DENIED_CONTENT = "공지사항을 확인해 주세요.";
 
-  public List<PostingResponseDto> findAll(Pageable pageable) {
+  public CursorSlice<PostingResponseDto> findAll(Pageable pageable) {
 
-    Page<PostingEntity> postingEntities = postingRepository.findAllByIsTemp(isNotTempPosting,
+    Page<PostingListDto> postingPage = postingRepository.findListByIsTemp(isNotTempPosting,
         pageable);
-    List<PostingResponseDto> postingResponseDtos = new ArrayList<>();
-
-    for (PostingEntity postingEntity : postingEntities) {
-      postingResponseDtos.add(new PostingResponseDto(postingEntity,
-          (int) postingEntities.getTotalElements(), false));
-    }
 
-    return postingResponseDtos;
+    return toCursorSlice(postingPage, pageable);
   }
 
-  public List<PostingResponseDto> findAllByCategoryId(Long categoryId, Pageable pageable) {
+  public CursorSlice<PostingResponseDto> findAllByCategoryId(Long categoryId, Pageable pageable) {
 
     CategoryEntity categoryEntity = categoryRepository.findById(categoryId)
         .orElseThrow(CustomCategoryNotFoundException::new);
-    Page<PostingEntity> postingEntities = postingRepository.findAllByCategoryIdAndIsTempAndIsNotice(
-        categoryEntity, isNotTempPosting, isNotNoticePosting, pageable);
-    List<PostingResponseDto> postingResponseDtos = new ArrayList<>();
+    Page<PostingListDto> postingPage = postingRepository.findListByCategoryIdAndIsTempAndIsNotice(
+        categoryEntity.getId(), isNotTempPosting, isNotNoticePosting, pageable);
 
-    for (PostingEntity postingEntity : postingEntities) {
-      postingResponseDtos.add(new PostingResponseDto(postingEntity,
-          (int) postingEntities.getTotalElements(), false));
-    }
-
-    return postingResponseDtos;
+    return toCursorSlice(postingPage, pageable);
   }
 
   public List<PostingResponseDto> findAllNotice() {
 
-    List<PostingEntity> postingEntities = postingRepository.findAllByIsNoticeAndIsTemp(
+    List<PostingListDto> postings = postingRepository.findListByIsNoticeAndIsTemp(
         isNoticePosting, isNotTempPosting);
-    List<PostingResponseDto> postingResponseDtos = new ArrayList<>();
 
-    for (PostingEntity postingEntity : postingEntities) {
-      postingResponseDtos.add(new PostingResponseDto(postingEntity,
-          postingEntities.size(), false));
-    }
-
-    return postingResponseDtos;
+    return toPostingResponseDtos(postings, postings.size());
   }
 
   public List<PostingResponseDto> findAllNoticeByCategoryId(Long categoryId) {
 
     CategoryEntity categoryEntity = categoryRepository.findById(categoryId)
         .orElseThrow(CustomCategoryNotFoundException::new);
-    List<PostingEntity> postingEntities = postingRepository.findAllByCategoryIdAndIsTempAndIsNotice(
-        categoryEntity, isNotTempPosting, isNoticePosting);
-    List<PostingResponseDto> postingResponseDtos = new ArrayList<>();
+    List<PostingListDto> postings = postingRepository.findListByCategoryIdAndIsTempAndIsNotice(
+        categoryEntity.getId(), isNotTempPosting, isNoticePosting);
 
-    for (PostingEntity postingEntity : postingEntities) {
-      postingResponseDtos.add(new PostingResponseDto(postingEntity,
-          postingEntities.size(), false));
-    }
+    return toPostingResponseDtos(postings, postings.size());
+  }
 
-    return postingResponseDtos;
+  public CursorSlice<PostingResponseDto> findAllAfter(Cursor after, int size) {
+
+    Slice<PostingListDto> postingSlice = postingRepository.findSliceByIsTemp(isNotTempPosting,
+        after, size);
+
+    return toCursorSlice(postingSlice);
   }
 
-  public List<PostingBestDto> findAllBest() {
+  public CursorSlice<PostingResponseDto> findAllByCategoryIdAfter(Long categoryId, Cursor after,
+      int size) {
+
+    CategoryEntity categoryEntity = categoryRepository.findById(categoryId)
+        .orElseThrow(CustomCategoryNotFoundException::new);
+    Slice<PostingListDto> postingSlice = postingRepository.findSliceByCategoryIdAndIsTempAndIsNotice(
+        categoryEntity.getId(), isNotTempPosting, isNotNoticePosting, after, size);
+
+    return toCursorSlice(postingSlice);
+  }
+
+  private CursorSlice<PostingResponseDto> toCursorSlice(Page<PostingListDto> postingPage,
+      Pageable pageable) {
+    Cursor nextCursor = Cursor.isKeysetOrder(pageable.getSort(), Direction.DESC, "registerTime")
+        ? getNextCursor(postingPage) : null;
+    return CursorSlice.of(toPostingResponseDtos(postingPage.getContent(),
+        (int) postingPage.getTotalElements()), postingPage.isLast(), nextCursor);
+  }
+
+  private CursorSlice<PostingResponseDto> toCursorSlice(Slice<PostingListDto> postingSlice) {
+    return CursorSlice.of(toPostingResponseDtos(postingSlice.getContent(), null),
+        postingSlice.isLast(), getNextCursor(postingSlice));
+  }
+
+  private List<PostingResponseDto> toPostingResponseDtos(List<PostingListDto> postings,
+      Integer size) {
 
-    LocalDateTime startDate = LocalDate.now().minusWeeks(2).atStartOfDay();
-    LocalDateTime endDate = LocalDate.now().plusDays(1).atStartOfDay();
-    List<PostingEntity> postingEntities = postingRepository.findAllByIsTempAndIsSecretAndIsNoticeAndRegisterTimeBetween(
-        isNotTempPosting, isNotSecretPosting, isNotNoticePosting, startDate, endDate);
-
-    postingEntities.sort((posting1, posting2) -> {
-      Integer posting1Score =
-          posting1.getVisitCount() + posting1.getLikeCount() * 2 - posting1.getDislikeCount();
-      Integer posting2Score =
-          posting2.getVisitCount() + posting2.getLikeCount() * 2 - posting2.getDislikeCount();
-
-      return posting2Score.compareTo(posting1Score);
-    });
-
-    List<PostingBestDto> postingBestDtos = new ArrayList<>();
-    for (int i = 0; i < Math.min(postingEntities.size(), bestPostingCount); i++) {
-      PostingBestDto tempBestDto = new PostingBestDto();
-      tempBestDto.initWithEntity(postingEntities.get(i));
-      postingBestDtos.add(tempBestDto);
+    List<PostingResponseDto> postingResponseDtos = new ArrayList<>();
+    for (PostingListDto posting : postings) {
+      postingResponseDtos.add(new PostingResponseDto(posting, size));
     }
+    return postingResponseDtos;
+  }
+
+  public List<PostingBestDto> findAllBest() {
 
-    return postingBestDtos;
+    return postingBestService.findAllBest();
   }
 
   public Map<String, Object> findAllByMemberId(Long otherMemberId, Pageable pageable) {
     MemberEntity other = memberUtilService.getById(otherMemberId);
 
-    Page<PostingEntity> postingPage = postingRepository.findAllByMemberIdAndIsTempAndIsSecret(
-        other, isNotTempPosting, isNotSecretPosting, pageable);
+    Page<PostingListDto> postingPage = postingRepository.findListByMemberIdAndIsTempAndIsSecret(
+        other.getId(), isNotTempPosting, isNotSecretPosting, pageable);
 
     Map<String, Object> result = new HashMap<>();
-    List<PostingResponseDto> postingList = new ArrayList<>();
-    for (PostingEntity posting : postingPage.getContent()) {
-      postingList.add(new PostingResponseDto(posting, (int) postingPage.getTotalElements(), false));
-    }
+    List<PostingResponseDto> postingList = toPostingResponseDtos(postingPage.getContent(),
+        (int) postingPage.getTotalElements());
 
     result.put("isLast", postingPage.isLast());
     result.put("content", postingList);
+    if (Cursor.isKeysetOrder(pageable.getSort(), Direction.DESC, "registerTime")) {
+      putNextCursor(result, getNextCursor(postingPage));
+    }
 
     return result;
   }
 
+  public Map<String, Object> findAllByMemberIdAfter(Long otherMemberId, Cursor after, int size) {
+    MemberEntity other = memberUtilService.getById(otherMemberId);
+
+    Slice<PostingListDto> postingSlice = postingRepository.findSliceByMemberIdAndIsTempAndIsSecret(
+        other.getId(), isNotTempPosting, isNotSecretPosting, after, size);
+
+    return toSliceResult(postingSlice);
+  }
+
+  public Map<String, Object> findAllByWriterAfter(Long memberId, Integer isTemp, Cursor after,
+      int size) {
+
+    Slice<PostingListDto> postingSlice = postingRepository.findSliceByMemberIdAndIsTemp(memberId,
+        isTemp, after, size);
+
+    return toSliceResult(postingSlice);
+  }
+
+  private Map<String, Object> toSliceResult(Slice<PostingListDto> postingSlice) {
+    Map<String, Object> result = new HashMap<>();
+
+    result.put("isLast", postingSlice.isLast());
+    result.put("content", toPostingResponseDtos(postingSlice.getContent(), null));
+    putNextCursor(result, getNextCursor(postingSlice));
+
+    return result;
+  }
+
+  private void putNextCursor(Map<String, Object> result, Cursor nextCursor) {
+    if (nextCursor != null) {
+      result.put("nextCursor", nextCursor.toString());
+    }
+  }
+
+  // 다음 페이지가 있으면 마지막 게시글 위치를 cursor로 전달한다.
+  private Cursor getNextCursor(Slice<PostingListDto> postingSlice) {
+    if (!postingSlice.hasNext() || !postingSlice.hasContent()) {
+      return null;
+    }
+    List<PostingListDto> postings = postingSlice.getContent();
+    PostingListDto last = postings.get(postings.size() - 1);
+    return Cursor.of(last.getRegisterTime(), last.getId());
+  }
+
   @Transactional
   public PostingEntity save(PostingDto dto) {
 
@@ -208,7 +261,9 @@ public class PostingService {
         thumbnailEntity);
 
     memberEntity.getPosting().add(postingEntity);
-    return postingRepository.save(postingEntity);
+    PostingEntity savedPosting = postingRepository.save(postingEntity);
+    postingBestService.register(savedPosting);
+    return savedPosting;
   }
 
   // Crawler에서 사용
@@ -230,7 +285,9 @@ public class PostingService {
         thumbnailEntity);
 
     memberEntity.getPosting().add(postingEntity);
-    return postingRepository.save(postingEntity);
+    PostingEntity savedPosting = postingRepository.save(postingEntity);
+    postingBestService.register(savedPosting);
+    return savedPosting;
   }
 
   @Transactional
@@ -257,11 +314,15 @@ public class PostingService {
           throw new CustomPostingIncorrectException();
         }
       }
-      postingEntity.increaseVisitCount();
-      updateInfoById(postingEntity, pid);
+      postingVisitCounter.increase(pid);
+      postingBestService.increaseScore(pid, PostingBestService.VISIT_WEIGHT);
     }
 
-    return new PostingResponseDto(postingEntity, 1, true);
+    PostingResponseDto postingResponseDto = new PostingResponseDto(postingEntity, 1, true);
+    // 조회수는 주기적으로 DB에 반영되므로 아직 반영되지 않은 값을 더해서 보여준다.
+    postingResponseDto.setVisitCount(
+        (int) (postingEntity.getVisitCount() + postingVisitCounter.getPendingCount(pid)));
+    return postingResponseDto;
   }
 
   @Transactional
@@ -284,7 +345,9 @@ public class PostingService {
         dto.getUpdateTime(), dto.getIpAddress(),
         dto.getAllowComment(), dto.getIsNotice(), dto.getIsSecret());
 
-    return postingRepository.save(tempEntity);
+    PostingEntity updatedPosting = postingRepository.save(tempEntity);
+    postingBestService.refresh(updatedPosting);
+    return updatedPosting;
   }
 
   @Transactional
@@ -319,6 +382,7 @@ public class PostingService {
 
     memberEntity.getPosting().remove(postingEntity);
     postingRepository.delete(postingEntity);
+    postingBestService.remove(postingEntity.getId());
   }
 
   // Crawler에서 사용
@@ -343,37 +407,52 @@ public class PostingService {
 
     CategoryEntity categoryEntity = categoryRepository.findById(categoryId)
         .orElseThrow(CustomPostingNotFoundException::new);
-    Page<PostingEntity> postingEntities = Page.empty();
+    Page<PostingListDto> postingPage = Page.empty();
     switch (type) {
-      case "T" ->
-          postingEntities = postingRepository.findAllByCategoryIdAndTitleContainingAndIsTempAndIsNotice(
-              categoryEntity, keyword, isNotTempPosting, isNotNoticePosting, pageable);
+      case "T" -> postingPage = searchPostingList(categoryEntity.getId(), keyword,
+          SearchField.TITLE, pageable);
 
-      case "C" ->
-          postingEntities = postingRepository.findAllByCategoryIdAndContentContainingAndIsTempAndIsNotice(
-              categoryEntity, keyword, isNotTempPosting, isNotNoticePosting, pageable);
+      case "C" -> postingPage = searchPostingList(categoryEntity.getId(), keyword,
+          SearchField.CONTENT, pageable);
 
-      case "TC" ->
-          postingEntities = postingRepository.findAllByCategoryIdAndTitleContainingOrCategoryIdAndContentContainingAndIsTempAndIsNotice(
-              categoryEntity, keyword, categoryEntity, keyword, isNotTempPosting,
-              isNotNoticePosting, pageable);
+      case "TC" -> postingPage = searchPostingList(categoryEntity.getId(), keyword,
+          SearchField.TITLE_OR_CONTENT, pageable);
 
       case "W" -> {
         MemberEntity memberEntity = memberRepository.findByNickName(keyword)
             .orElseThrow(() -> new CustomMemberNotFoundException(
                 "Nickname이 " + keyword + "인 회원을 찾을 수 없습니다."));
-        postingEntities = postingRepository.findAllByCategoryIdAndMemberIdAndIsTempAndIsNotice(
-            categoryEntity, memberEntity, isNotTempPosting, isNotNoticePosting, pageable);
+        postingPage = postingRepository.findListByCategoryIdAndMemberIdAndIsTempAndIsNotice(
+            categoryEntity.getId(), memberEntity.getId(), isNotTempPosting, isNotNoticePosting,
+            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSortOr(Sort.by(Direction.DESC, "registerTime"))));
       }
     }
-    List<PostingResponseDto> postingResponseDtos = new ArrayList<>();
 
-    for (PostingEntity postingEntity : postingEntities) {
-      postingResponseDtos.add(new PostingResponseDto(postingEntity,
-          (int) postingEntities.getTotalElements(), false));
+    return toPostingResponseDtos(postingPage.getContent(), (int) postingPage.getTotalElements());
+  }
+
+  private Page<PostingListDto> searchPostingList(Long categoryId, String keyword,
+      SearchField field, Pageable pageable) {
+
+    Page<Long> postingIdPage = postingSearchIndex.search(categoryId, keyword, field,
+        isNotTempPosting, isNotNoticePosting, pageable);
+    if (postingIdPage.isEmpty()) {
+      return new PageImpl<>(new ArrayList<>(), pageable, postingIdPage.getTotalElements());
     }
 
-    return postingResponseDtos;
+    // 검색 순위대로 정렬한다.
+    Map<Long, PostingListDto> postings = new HashMap<>();
+    for (PostingListDto posting : postingRepository.findListByIdIn(postingIdPage.getContent())) {
+      postings.put(posting.getId(), posting);
+    }
+    List<PostingListDto> rankedPostings = new ArrayList<>();
+    for (Long postingId : postingIdPage.getContent()) {
+      if (postings.containsKey(postingId)) {
+        rankedPostings.add(postings.get(postingId));
+      }
+    }
+    return new PageImpl<>(rankedPostings, pageable, postingIdPage.getTotalElements());
   }
 
   @Transactional
@@ -392,6 +471,7 @@ public class PostingService {
       } else {
         postingEntity.increaseLikeCount(memberHasPostingLikeEntity);
         postingRepository.save(postingEntity);
+        postingBestService.increaseScore(postingId, PostingBestService.LIKE_WEIGHT);
         return true;
       }
     } else {
@@ -400,6 +480,7 @@ public class PostingService {
         memberHasPostingLikeRepository.deleteByMemberIdAndPostingId(memberEntity, postingEntity);
         postingEntity.decreaseLikeCount();
         postingRepository.saveAndFlush(postingEntity);
+        postingBestService.increaseScore(postingId, -PostingBestService.LIKE_WEIGHT);
         return true;
       } else {
         return false;
@@ -423,6 +504,7 @@ public class PostingService {
       } else {
         postingEntity.increaseDislikeCount(memberHasPostingDislikeEntity);
         postingRepository.save(postingEntity);
+        postingBestService.increaseScore(postingId, PostingBestService.DISLIKE_WEIGHT);
         return true;
       }
     } else {
@@ -431,6 +513,7 @@ public class PostingService {
         memberHasPostingDislikeRepository.deleteByMemberIdAndPostingId(memberEntity, postingEntity);
         postingEntity.decreaseDislikeCount();
         postingRepository.saveAndFlush(postingEntity);
+        postingBestService.increaseScore(postingId, -PostingBestService.DISLIKE_WEIGHT);
         return true;
       } else {
         return false;
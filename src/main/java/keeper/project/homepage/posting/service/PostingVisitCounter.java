@@ -0,0 +1,82 @@
+package keeper.project.homepage.posting.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import keeper.project.homepage.posting.repository.PostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수를 메모리에 모아두었다가 주기적으로 DB에 반영한다(write-behind).
+ *
+ * <p>조회할 때마다 posting row를 읽고 쓰지 않도록, 게시글마다 {@link LongAdder}에 누적한 뒤
+ * {@link #FLUSH_INTERVAL_MS}마다 게시글 하나당 한 번의 {@code visit_count = visit_count + ?} UPDATE로 반영한다.
+ * 종료 시점에도 남은 조회수를 반영한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PostingVisitCounter {
+
+  private static final long FLUSH_INTERVAL_MS = 10_000;
+
+  private final PostingRepository postingRepository;
+
+  private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+  public void increase(Long postingId) {
+    // flush가 빈 entry를 지우는 것과 겹쳐도 지워진 LongAdder에 더하지 않도록 entry lock 안에서 더한다.
+    pendingCounts.compute(postingId, (id, pendingCount) -> {
+      LongAdder adder = pendingCount == null ? new LongAdder() : pendingCount;
+      adder.increment();
+      return adder;
+    });
+  }
+
+  /**
+   * 아직 DB에 반영되지 않은 조회수
+   */
+  public long getPendingCount(Long postingId) {
+    LongAdder pendingCount = pendingCounts.get(postingId);
+    return pendingCount == null ? 0 : pendingCount.sum();
+  }
+
+  @Scheduled(fixedDelay = FLUSH_INTERVAL_MS, initialDelay = FLUSH_INTERVAL_MS)
+  public void flush() {
+    for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+      long count = entry.getValue().sumThenReset();
+      if (count != 0 && !writeVisitCount(entry.getKey(), count, entry.getValue())) {
+        continue;
+      }
+      // flush 도중 들어온 조회수가 없을 때만 지운다. 남아 있으면 다음 flush에서 반영한다.
+      pendingCounts.computeIfPresent(entry.getKey(),
+          (id, pendingCount) -> pendingCount.sum() == 0 ? null : pendingCount);
+    }
+  }
+
+  /**
+   * @return DB에 반영했거나 게시글이 삭제되었으면 true, 다음 flush에서 다시 시도해야 하면 false
+   */
+  private boolean writeVisitCount(Long postingId, long count, LongAdder pendingCount) {
+    try {
+      if (postingRepository.increaseVisitCount(postingId, (int) count) == 0) {
+        // 삭제된 게시글
+        pendingCounts.remove(postingId, pendingCount);
+      }
+      return true;
+    } catch (RuntimeException e) {
+      pendingCount.add(count);
+      log.warn("게시글 조회수 반영 실패 : postingId={}", postingId, e);
+      return false;
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
@@ -1,6 +1,5 @@
 package keeper.project.homepage.util.controller;
 
-import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
 import keeper.project.homepage.util.dto.result.CommonResult;
 import keeper.project.homepage.util.service.result.ResponseService;
@@ -9,11 +8,14 @@ import keeper.project.homepage.util.image.preprocessing.ImageNoChange;
 import keeper.project.homepage.util.image.preprocessing.ImageResizing;
 import keeper.project.homepage.util.image.preprocessing.ImageResizing.RESIZE_OPTION;
 import keeper.project.homepage.util.image.preprocessing.ImageSize;
+import keeper.project.homepage.util.service.FileStreamingService;
 import keeper.project.homepage.util.service.ThumbnailService;
 import keeper.project.homepage.util.service.ThumbnailService.ThumbType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,7 +24,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -35,6 +36,7 @@ public class AdminBadgeController {
 
   private final ResponseService responseService;
   private final ThumbnailService thumbnailService;
+  private final FileStreamingService fileStreamingService;
 
   @PostMapping(
       value = "",
@@ -65,9 +67,10 @@ public class AdminBadgeController {
   @GetMapping(
       value = "/{badgeId}",
       produces = MediaType.MULTIPART_FORM_DATA_VALUE)
-  public @ResponseBody
-  byte[] getBadge(@PathVariable("badgeId") Long badgeId) throws IOException {
-    return thumbnailService.getByteArrayFromImage(badgeId, new ImageNoChange());
+  public ResponseEntity<Resource> getBadge(@PathVariable("badgeId") Long badgeId) {
+    return fileStreamingService.getImageResponse(
+        thumbnailService.getImageDerivative(badgeId, new ImageNoChange()),
+        MediaType.MULTIPART_FORM_DATA);
   }
 
   @DeleteMapping(value = "/{badgeId}")
@@ -1,17 +1,18 @@
 package keeper.project.homepage.util.controller;
 
 
-import java.io.IOException;
 import keeper.project.homepage.util.image.preprocessing.ImageResizing;
 import keeper.project.homepage.util.image.preprocessing.ImageResizing.RESIZE_OPTION;
 import keeper.project.homepage.util.service.FileService;
+import keeper.project.homepage.util.service.FileStreamingService;
 import keeper.project.homepage.util.service.ThumbnailService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -21,26 +22,28 @@ public class ImageController {
 
   public final static String THUMBNAIL_PATH = "/v1/util/thumbnail/";
 
+  private final static ImageResizing IMAGE_RESIZING = new ImageResizing(
+      RESIZE_OPTION.KEEP_RATIO_IN_OUTER_BOUNDARY, 800, 800);
+
   private final FileService fileService;
   private final ThumbnailService thumbnailService;
+  private final FileStreamingService fileStreamingService;
 
   @GetMapping(
       value = "/image/{fileId}",
       produces = MediaType.IMAGE_JPEG_VALUE)
-  public @ResponseBody
-  byte[] getImage(@PathVariable("fileId") Long fileId) throws IOException {
+  public ResponseEntity<Resource> getImage(@PathVariable("fileId") Long fileId) {
 
-    return fileService.getByteArrayFromImage(fileId,
-        new ImageResizing(RESIZE_OPTION.KEEP_RATIO_IN_OUTER_BOUNDARY, 800, 800));
+    return fileStreamingService.getImageResponse(
+        fileService.getImageDerivative(fileId, IMAGE_RESIZING), MediaType.IMAGE_JPEG);
   }
 
   @GetMapping(
       value = "/thumbnail/{thumbnailId}",
       produces = MediaType.IMAGE_JPEG_VALUE)
-  public @ResponseBody
-  byte[] getThumbnail(@PathVariable("thumbnailId") Long thumbnailId) throws IOException {
+  public ResponseEntity<Resource> getThumbnail(@PathVariable("thumbnailId") Long thumbnailId) {
 
-    return thumbnailService.getByteArrayFromImage(thumbnailId,
-        new ImageResizing(RESIZE_OPTION.KEEP_RATIO_IN_OUTER_BOUNDARY, 800, 800));
+    return fileStreamingService.getImageResponse(
+        thumbnailService.getImageDerivative(thumbnailId, IMAGE_RESIZING), MediaType.IMAGE_JPEG);
   }
 }
@@ -0,0 +1,65 @@
+package keeper.project.homepage.util.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * keyset(cursor) pagination의 기준 위치.
+ *
+ * <p>"{작성 시간},{id}" 형식의 요청 파라미터(ex. {@code ?after=2022-05-01T12:30:00,1234})로 전달되며,
+ * 해당 위치 다음부터 조회한다. 형식이 잘못된 경우 {@link IllegalArgumentException}을 던지고 400으로 응답된다.
+ *
+ * <p>조회 순서는 (작성 시간, id)이며 방향은 목록마다 정해져 있다. 게시글과 포인트 내역은 최신순(내림차순),
+ * 댓글은 작성순(오름차순)으로 조회한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+  private static final String DELIMITER = ",";
+  private static final String ID_PROPERTY = "id";
+
+  private final LocalDateTime time;
+  private final Long id;
+
+  public static Cursor of(LocalDateTime time, Long id) {
+    if (time == null || id == null) {
+      throw new IllegalArgumentException("cursor의 시간과 id는 null일 수 없습니다.");
+    }
+    return new Cursor(time, id);
+  }
+
+  /**
+   * keyset 조회는 (시간, id)를 {@code direction} 방향으로 정렬하므로, offset 페이지도 같은 순서로 정렬했을 때만 마지막
+   * 항목으로 다음 cursor를 만들 수 있다.
+   */
+  public static boolean isKeysetOrder(Sort sort, Direction direction, String timeProperty) {
+    return Sort.by(direction, timeProperty, ID_PROPERTY).equals(sort);
+  }
+
+  /**
+   * 요청 파라미터를 {@link Cursor}로 변환할 때 Spring이 사용한다.
+   */
+  public static Cursor valueOf(String value) {
+    int delimiterIndex = value.lastIndexOf(DELIMITER);
+    if (delimiterIndex < 0) {
+      throw new IllegalArgumentException("잘못된 cursor 형식입니다 : " + value);
+    }
+    try {
+      return of(LocalDateTime.parse(value.substring(0, delimiterIndex).trim()),
+          Long.valueOf(value.substring(delimiterIndex + 1).trim()));
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new IllegalArgumentException("잘못된 cursor 형식입니다 : " + value, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return time + DELIMITER + id;
+  }
+}
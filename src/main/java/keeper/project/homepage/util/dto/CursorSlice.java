@@ -0,0 +1,24 @@
+package keeper.project.homepage.util.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 목록 한 페이지와 다음 페이지 정보.
+ *
+ * <p>{@code nextCursor}는 다음 페이지가 없거나, offset 페이지가 keyset 조회와 다른 순서로 정렬된 경우 null이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {
+
+  private final List<T> content;
+  private final boolean last;
+  private final Cursor nextCursor;
+
+  public static <T> CursorSlice<T> of(List<T> content, boolean last, Cursor nextCursor) {
+    return new CursorSlice<>(content, last, nextCursor);
+  }
+}
@@ -0,0 +1,16 @@
+package keeper.project.homepage.util.dto.result;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SliceResult<T> extends ListResult<T> {
+
+  private Boolean isLast;
+
+  @JsonInclude(Include.NON_NULL)
+  private String nextCursor;
+}
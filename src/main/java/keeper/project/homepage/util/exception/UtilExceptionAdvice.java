@@ -1,10 +1,12 @@
 package keeper.project.homepage.util.exception;
 
+import javax.servlet.http.HttpServletRequest;
 import keeper.project.homepage.member.exception.CustomMemberInfoNotFoundException;
 import keeper.project.homepage.member.exception.CustomMemberNotFoundException;
 import keeper.project.homepage.sign.exception.CustomAuthenticationEntryPointException;
 import keeper.project.homepage.util.dto.result.CommonResult;
 import keeper.project.homepage.util.exception.file.CustomFileDeleteFailedException;
+import keeper.project.homepage.util.exception.file.CustomFileDownloadBusyException;
 import keeper.project.homepage.util.exception.file.CustomFileEntityNotFoundException;
 import keeper.project.homepage.util.exception.file.CustomFileNotFoundException;
 import keeper.project.homepage.util.exception.file.CustomFileTransferFailedException;
@@ -21,6 +23,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -82,6 +85,17 @@ public class UtilExceptionAdvice {
         exceptionUtil.getMessage("fileTransferFailed.msg"));
   }
 
+  @ExceptionHandler(CustomFileDownloadBusyException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  protected CommonResult fileDownloadBusyException(HttpServletRequest request,
+      CustomFileDownloadBusyException e) {
+    // 이미지 응답처럼 produces가 지정된 핸들러에서도 JSON으로 응답할 수 있게 한다.
+    request.removeAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+    return responseService.getFailResult(
+        Integer.parseInt(exceptionUtil.getMessage("fileDownloadBusy.code")),
+        exceptionUtil.getMessage("fileDownloadBusy.msg"));
+  }
+
   @ExceptionHandler(CustomFileEntityNotFoundException.class)
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   protected CommonResult fileEntityNotFoundException(CustomFileEntityNotFoundException e) {
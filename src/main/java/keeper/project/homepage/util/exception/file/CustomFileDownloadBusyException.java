@@ -0,0 +1,16 @@
+package keeper.project.homepage.util.exception.file;
+
+public class CustomFileDownloadBusyException extends RuntimeException {
+
+  public CustomFileDownloadBusyException(String msg, Throwable t) {
+    super(msg, t);
+  }
+
+  public CustomFileDownloadBusyException(String msg) {
+    super(msg);
+  }
+
+  public CustomFileDownloadBusyException() {
+    super();
+  }
+}
@@ -0,0 +1,26 @@
+package keeper.project.homepage.util.image;
+
+import java.io.File;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ImageDerivative {
+
+  /**
+   * 전처리가 끝난 이미지 파일 (원본 이미지를 변경하지 않는 경우 원본 파일)
+   */
+  private final File file;
+
+  /**
+   * 원본 파일과 전처리 spec으로 만든 content hash. 강한 ETag로 사용한다.
+   */
+  private final String hash;
+
+  private final long lastModified;
+
+  public String getETag() {
+    return "\"" + hash + "\"";
+  }
+}
@@ -0,0 +1,127 @@
+package keeper.project.homepage.util.image;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import keeper.project.homepage.util.exception.file.CustomImageIOException;
+import keeper.project.homepage.util.image.preprocessing.ImageNoChange;
+import keeper.project.homepage.util.image.preprocessing.ImagePreprocessing;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 이미지와 전처리 spec 쌍마다 한 번만 전처리한 결과를 디스크에 저장해두고 재사용한다.
+ *
+ * <p>캐시 파일은 {user.dir}/keeper_files/cache/{원본 경로 hash}/{원본 크기}_{원본 수정 시각}/{content hash}.jpg
+ * 에 저장된다. content hash는 원본 경로, 크기, 수정 시각과 spec으로 만들기 때문에 원본이 바뀌면 새로운 파일이
+ * 생성되고, 이때 이전 원본으로 만든 파일은 지운다.
+ */
+@Log4j2
+@Component
+public class ImageDerivativeCache {
+
+  public static final String cacheRelDirPath = "keeper_files" + File.separator + "cache";
+  private static final String DERIVATIVE_FORMAT = "jpg";
+
+  public ImageDerivative getOrCreate(File source, ImagePreprocessing imagePreprocessing) {
+    String hash = sha256(source.getAbsolutePath() + "|" + source.length() + "|"
+        + source.lastModified() + "|" + imagePreprocessing.getSpec());
+
+    // 변경이 없는 전처리는 원본을 그대로 제공한다.
+    if (imagePreprocessing instanceof ImageNoChange) {
+      return new ImageDerivative(source, hash, source.lastModified());
+    }
+
+    Path versionDir = getDerivativeDir(source).resolve(getSourceVersion(source));
+    File derivative = versionDir.resolve(hash + "." + DERIVATIVE_FORMAT).toFile();
+    if (!derivative.exists()) {
+      createDerivative(source, derivative, imagePreprocessing);
+      deleteOldVersions(versionDir);
+    }
+    return new ImageDerivative(derivative, hash, derivative.lastModified());
+  }
+
+  public void evict(File source) {
+    Path dir = getDerivativeDir(source);
+    if (!Files.isDirectory(dir)) {
+      return;
+    }
+    deleteRecursively(dir);
+  }
+
+  /**
+   * 원본이 바뀌기 전에 만든 파일은 다시 쓰이지 않으므로, 같은 원본의 다른 버전 디렉토리를 지운다.
+   */
+  private void deleteOldVersions(Path versionDir) {
+    try (Stream<Path> paths = Files.list(versionDir.getParent())) {
+      paths.filter(path -> !path.equals(versionDir)).forEach(this::deleteRecursively);
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("이전 이미지 캐시 삭제 실패 : {}", versionDir.getParent(), e);
+    }
+  }
+
+  private void deleteRecursively(Path path) {
+    try (Stream<Path> paths = Files.walk(path)) {
+      paths.sorted(Comparator.reverseOrder())
+          .map(Path::toFile)
+          .forEach(File::delete);
+    } catch (IOException | UncheckedIOException e) {
+      // 다른 요청이 먼저 지우고 있을 수 있다.
+      log.warn("이미지 캐시 삭제 실패 : {}", path, e);
+    }
+  }
+
+  private void createDerivative(File source, File derivative,
+      ImagePreprocessing imagePreprocessing) {
+    Path tmp = null;
+    try {
+      Files.createDirectories(derivative.getParentFile().toPath());
+      // 여러 요청이 동시에 만들 수 있으므로 임시 파일에 처리 후 rename 한다.
+      tmp = Files.createTempFile(derivative.getParentFile().toPath(), "tmp_",
+          "." + DERIVATIVE_FORMAT);
+      Files.copy(source.toPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+      imagePreprocessing.imageProcessing(tmp.toFile(), DERIVATIVE_FORMAT);
+      Files.move(tmp, derivative.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.error("이미지 전처리 실패 : {}", source, e);
+      throw new CustomImageIOException();
+    } finally {
+      if (tmp != null) {
+        tmp.toFile().delete();
+      }
+    }
+  }
+
+  private Path getDerivativeDir(File source) {
+    return Paths.get(System.getProperty("user.dir"), cacheRelDirPath,
+        sha256(source.getAbsolutePath()));
+  }
+
+  private static String getSourceVersion(File source) {
+    return source.length() + "_" + source.lastModified();
+  }
+
+  private String sha256(String str) {
+    try {
+      MessageDigest sh = MessageDigest.getInstance("SHA-256");
+      byte[] byteData = sh.digest(str.getBytes(StandardCharsets.UTF_8));
+      StringBuilder sb = new StringBuilder();
+      for (byte byteDatum : byteData) {
+        sb.append(Integer.toString((byteDatum & 0xff) + 0x100, 16).substring(1));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -57,4 +57,9 @@ public class ImageCenterCropping implements ImagePreprocessing {
       throw new CustomImageIOException();
     }
   }
+
+  @Override
+  public String getSpec() {
+    return "crop_" + width + "x" + height;
+  }
 }
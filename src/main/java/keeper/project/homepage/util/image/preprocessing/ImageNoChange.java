@@ -7,4 +7,9 @@ public class ImageNoChange implements ImagePreprocessing {
   @Override
   public void imageProcessing(File image, String fileFormat) {
   }
+
+  @Override
+  public String getSpec() {
+    return "none";
+  }
 }
@@ -5,4 +5,9 @@ import java.io.File;
 public interface ImagePreprocessing {
 
   void imageProcessing(File image, String fileFormat);
+
+  /**
+   * @return 전처리 종류와 파라미터를 나타내는 문자열. 같은 spec이면 같은 결과 이미지를 만들어야 한다.
+   */
+  String getSpec();
 }
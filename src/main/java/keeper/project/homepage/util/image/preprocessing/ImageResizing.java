@@ -111,4 +111,9 @@ public class ImageResizing implements ImagePreprocessing {
     }
 
   }
+
+  @Override
+  public String getSpec() {
+    return "resize_" + resize_option.name().toLowerCase() + "_" + width + "x" + height;
+  }
 }
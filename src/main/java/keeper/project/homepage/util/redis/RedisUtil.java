@@ -1,9 +1,15 @@
 package keeper.project.homepage.util.redis;
 
-import java.util.concurrent.TimeUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -12,6 +18,12 @@ import java.time.Duration;
 @Component
 public class RedisUtil {
 
+  // TTL이 없는 key에만 expire를 건다. INCR과 한 번에 실행되므로 TTL 없이 남는 key가 생기지 않는다.
+  private static final RedisScript<Long> INCREASE_WITH_EXPIRE_SCRIPT = RedisScript.of(
+      "local value = redis.call('INCR', KEYS[1]) "
+          + "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end "
+          + "return value", Long.class);
+
   private final StringRedisTemplate redisTemplate;
 
   public Long increaseAndGet(String key) {
@@ -20,9 +32,11 @@ public class RedisUtil {
   }
 
   public Long increaseAndGetWithExpire(String key, long timeToLiveSeconds) {
-    ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-    redisTemplate.expire(key, timeToLiveSeconds, TimeUnit.SECONDS);
-    return valueOperations.increment(key);
+    return execute(INCREASE_WITH_EXPIRE_SCRIPT, List.of(key), String.valueOf(timeToLiveSeconds));
+  }
+
+  public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+    return redisTemplate.execute(script, keys, (Object[]) args);
   }
 
   public String getData(String key) { // key를 통해 value(데이터)를 얻는다.
@@ -41,4 +55,50 @@ public class RedisUtil {
     // 데이터 삭제
     redisTemplate.delete(key);
   }
+
+  public Double getScore(String key, String member) {
+    return redisTemplate.opsForZSet().score(key, member);
+  }
+
+  public void addScore(String key, String member, double score) {
+    redisTemplate.opsForZSet().add(key, member, score);
+  }
+
+  public void addScores(String key, Map<String, Double> scores) {
+    // member마다 ZADD를 보내지 않고 한 번의 ZADD로 저장한다.
+    if (scores.isEmpty()) {
+      return;
+    }
+    Set<TypedTuple<String>> tuples = new HashSet<>();
+    scores.forEach((member, score) -> tuples.add(new DefaultTypedTuple<>(member, score)));
+    redisTemplate.opsForZSet().add(key, tuples);
+  }
+
+  public Double increaseScore(String key, String member, double delta) {
+    return redisTemplate.opsForZSet().incrementScore(key, member, delta);
+  }
+
+  public Set<String> getTopMembers(String key, long count) {
+    // score 내림차순으로 count개의 member를 얻는다.
+    return redisTemplate.opsForZSet().reverseRange(key, 0, count - 1);
+  }
+
+  public Set<String> getMembersByScore(String key, double min, double max) {
+    return redisTemplate.opsForZSet().rangeByScore(key, min, max);
+  }
+
+  public void removeMembers(String key, Object... members) {
+    if (members.length == 0) {
+      return;
+    }
+    redisTemplate.opsForZSet().remove(key, members);
+  }
+
+  public Long getSize(String key) {
+    return redisTemplate.opsForZSet().zCard(key);
+  }
+
+  public boolean hasKey(String key) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+  }
 }
@@ -2,12 +2,13 @@ package keeper.project.homepage.util.service;
 
 import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.DYNAMIC;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
 import keeper.project.homepage.ctf.entity.CtfDynamicChallengeInfoEntity;
-import keeper.project.homepage.ctf.entity.CtfFlagEntity;
-import keeper.project.homepage.ctf.entity.CtfTeamEntity;
 import keeper.project.homepage.ctf.entity.CtfTeamHasMemberEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamHasMemberEntityPK;
 import keeper.project.homepage.ctf.exception.CustomContestNotFoundException;
 import keeper.project.homepage.ctf.exception.CustomCtfChallengeNotFoundException;
 import keeper.project.homepage.ctf.exception.CustomCtfTeamNotFoundException;
@@ -16,6 +17,9 @@ import keeper.project.homepage.ctf.repository.CtfContestRepository;
 import keeper.project.homepage.ctf.repository.CtfFlagRepository;
 import keeper.project.homepage.ctf.repository.CtfTeamHasMemberRepository;
 import keeper.project.homepage.ctf.repository.CtfTeamRepository;
+import keeper.project.homepage.ctf.service.CtfEventPublisher;
+import keeper.project.homepage.ctf.service.CtfScoreboard;
+import keeper.project.homepage.ctf.service.CtfTeamMemberIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.security.access.AccessDeniedException;
@@ -39,6 +43,9 @@ public class CtfUtilService {
   private final CtfTeamRepository teamRepository;
   private final CtfTeamHasMemberRepository teamHasMemberRepository;
   private final CtfFlagRepository flagRepository;
+  private final CtfEventPublisher ctfEventPublisher;
+  private final CtfScoreboard ctfScoreboard;
+  private final CtfTeamMemberIndex ctfTeamMemberIndex;
 
   public void checkVirtualContest(Long ctfId) {
     if (VIRTUAL_CONTEST_ID.equals(ctfId)) {
@@ -84,57 +91,112 @@ public class CtfUtilService {
   public void setAllDynamicScore() {
     List<CtfChallengeEntity> challengeEntityList = challengeRepository
         .findAllByCtfChallengeTypeEntityId(DYNAMIC.getId());
-    challengeEntityList.forEach(this::setDynamicScore);
+    Map<Long, Long> teamCountByCtfId = new HashMap<>();
+    challengeEntityList.forEach(challenge -> setDynamicScore(challenge, teamCountByCtfId));
   }
 
   public CtfTeamHasMemberEntity getTeamHasMemberEntity(Long ctfId, Long memberId) {
-    List<CtfTeamHasMemberEntity> teamHasMemberEntityList = teamHasMemberRepository
-        .findAllByMemberId(memberId);
-    return teamHasMemberEntityList.stream()
-        .filter(teamHasMember ->
-            ctfId.equals(teamHasMember
-                .getTeam()
-                .getCtfContestEntity()
-                .getId()))
-        .findFirst()
-        .orElseThrow(() -> new CustomCtfTeamNotFoundException("가입한 팀을 찾을 수 없습니다."));
+    return ctfTeamMemberIndex.getTeamId(ctfId, memberId)
+        .flatMap(teamId -> teamHasMemberRepository
+            .findById(new CtfTeamHasMemberEntityPK(teamId, memberId)))
+        .orElseGet(() -> findTeamHasMemberEntity(ctfId, memberId));
+  }
+
+  private CtfTeamHasMemberEntity findTeamHasMemberEntity(Long ctfId, Long memberId) {
+    CtfTeamHasMemberEntity teamHasMember = teamHasMemberRepository
+        .findFirstByTeam_CtfContestEntity_IdAndMember_Id(ctfId, memberId)
+        .orElseThrow(() -> {
+          ctfTeamMemberIndex.remove(ctfId, memberId);
+          return new CustomCtfTeamNotFoundException("가입한 팀을 찾을 수 없습니다.");
+        });
+    ctfTeamMemberIndex.put(ctfId, memberId, teamHasMember.getTeam().getId());
+    return teamHasMember;
   }
 
   @Transactional
   public void setDynamicScore(CtfChallengeEntity challenge) {
-    CtfDynamicChallengeInfoEntity dynamicInfo = challenge.getDynamicChallengeInfoEntity();
-    if (isInvalidDynamicInfo(challenge, dynamicInfo)) {
+    setDynamicScore(challenge, new HashMap<>());
+  }
+
+  /**
+   * @param teamCountByCtfId 여러 문제를 한 번에 재정산할 때 대회별 팀 수를 한 번만 세기 위한 캐시
+   */
+  private void setDynamicScore(CtfChallengeEntity challenge, Map<Long, Long> teamCountByCtfId) {
+    if (isInvalidDynamicInfo(challenge, challenge.getDynamicChallengeInfoEntity())) {
       return;
     }
-    List<CtfFlagEntity> ctfSolvedList = flagRepository.
-        findAllByCtfChallengeEntityIdAndIsCorrect(challenge.getId(), true);
-    long changedScore = getChangedScore(challenge, ctfSolvedList);
-    this.setChallengeScore(challenge, changedScore);
+    this.setChallengeScore(challenge, calculateChallengeScore(challenge, teamCountByCtfId));
   }
 
+  /**
+   * 정답 처리된 팀에 문제 점수를 더하고, dynamic 문제면 점수를 재정산한다.
+   *
+   * <p>맞힌 팀의 점수와 재정산 변경분을 따로 UPDATE 하면, 서로 다른 dynamic 문제를 동시에 맞힌 트랜잭션끼리 팀 row를 반대
+   * 순서로 잠가 교착 상태에 빠질 수 있다. 바꿀 팀 점수를 모두 모아 한 번에 id 순서로 잠그고 반영한다.
+   */
+  @Transactional
+  public void addSolveScore(CtfChallengeEntity challenge, Long solvedTeamId) {
+    long changedScore = calculateChallengeScore(challenge, new HashMap<>());
+    Map<Long, Long> scoreDeltaByTeamId = getScoreDeltaByTeamId(challenge, changedScore);
+    // 맞힌 팀은 이미 정답 처리되어 있으므로 재정산 변경분 대신 바뀐 문제 점수 전체를 받는다.
+    scoreDeltaByTeamId.put(solvedTeamId, changedScore);
+    addTeamScores(challenge, scoreDeltaByTeamId);
+    changeChallengeScore(challenge, changedScore);
+  }
+
+  /**
+   * 문제 점수를 바꾸고, 문제를 맞힌 팀들의 점수에 변경분만큼을 한 번의 UPDATE로 반영한다.
+   */
   @Transactional
   public void setChallengeScore(CtfChallengeEntity challenge, long changedScore) {
-    List<CtfFlagEntity> ctfSolvedList = flagRepository.
-        findAllByCtfChallengeEntityIdAndIsCorrect(challenge.getId(), true);
-    List<CtfTeamEntity> solvedTeamList = getSolvedTeamList(ctfSolvedList);
-    changeAllTeamScoreByChallenge(challenge, solvedTeamList, changedScore);
+    addTeamScores(challenge, getScoreDeltaByTeamId(challenge, changedScore));
     changeChallengeScore(challenge, changedScore);
   }
 
-  private long getChangedScore(CtfChallengeEntity challenge, List<CtfFlagEntity> ctfSolvedList) {
+  private long calculateChallengeScore(CtfChallengeEntity challenge,
+      Map<Long, Long> teamCountByCtfId) {
     CtfDynamicChallengeInfoEntity dynamicInfo = challenge.getDynamicChallengeInfoEntity();
-    Long allTeamCount = teamRepository.countByIdIsNotAndCtfContestEntity(VIRTUAL_TEAM_ID,
-        challenge.getCtfContestEntity());
-    Long solvedTeamCount = (long) ctfSolvedList.size();
-    Long maxScore = dynamicInfo.getMaxScore();
-    Long minScore = dynamicInfo.getMinScore();
-    long changedScore = calculateChangedScore(allTeamCount, solvedTeamCount, maxScore, minScore);
-    return changedScore;
+    if (isInvalidDynamicInfo(challenge, dynamicInfo)) {
+      return challenge.getScore();
+    }
+    Long solvedTeamCount = flagRepository.countByCtfChallengeEntityIdAndIsCorrect(
+        challenge.getId(), true);
+    Long allTeamCount = teamCountByCtfId.computeIfAbsent(getCtfId(challenge),
+        ctfId -> teamRepository.countByIdIsNotAndCtfContestEntity(VIRTUAL_TEAM_ID,
+            challenge.getCtfContestEntity()));
+    return calculateChangedScore(allTeamCount, solvedTeamCount, dynamicInfo.getMaxScore(),
+        dynamicInfo.getMinScore());
+  }
+
+  private Map<Long, Long> getScoreDeltaByTeamId(CtfChallengeEntity challenge,
+      long changedScore) {
+    Map<Long, Long> scoreDeltaByTeamId = new HashMap<>();
+    long scoreDelta = changedScore - challenge.getScore();
+    if (scoreDelta != 0) {
+      flagRepository.findSolvedTeamIdsByCtfChallengeEntityId(challenge.getId())
+          .forEach(teamId -> scoreDeltaByTeamId.put(teamId, scoreDelta));
+    }
+    return scoreDeltaByTeamId;
+  }
+
+  private void addTeamScores(CtfChallengeEntity challenge, Map<Long, Long> scoreDeltaByTeamId) {
+    if (teamRepository.addScores(scoreDeltaByTeamId) > 0) {
+      ctfScoreboard.setScores(getCtfId(challenge),
+          teamRepository.findScoresByIdIn(scoreDeltaByTeamId.keySet()));
+    }
+  }
+
+  private static Long getCtfId(CtfChallengeEntity challenge) {
+    return challenge.getCtfContestEntity().getId();
   }
 
   private void changeChallengeScore(CtfChallengeEntity challenge, long changedScore) {
+    boolean isScoreChanged = challenge.getScore() != changedScore;
     challenge.setScore(changedScore);
     challengeRepository.save(challenge);
+    if (isScoreChanged) {
+      ctfEventPublisher.publishChallenge(challenge);
+    }
   }
 
   private boolean isInvalidDynamicInfo(CtfChallengeEntity challenge,
@@ -147,17 +209,4 @@ public class CtfUtilService {
     return (long) ((minScore - maxScore) * (solvedTeamCount / (double) allTeamCount) *
         (solvedTeamCount / (double) allTeamCount) + maxScore);
   }
-
-  private void changeAllTeamScoreByChallenge(CtfChallengeEntity challenge,
-      List<CtfTeamEntity> teamList, long changeScore) {
-    Long originalScore = challenge.getScore();
-    teamList.forEach(team -> team.setScore(team.getScore() - originalScore + changeScore));
-    teamRepository.saveAll(teamList);
-  }
-
-  private static List<CtfTeamEntity> getSolvedTeamList(List<CtfFlagEntity> ctfSolvedList) {
-    return ctfSolvedList.stream()
-        .map(CtfFlagEntity::getCtfTeamEntity)
-        .toList();
-  }
 }
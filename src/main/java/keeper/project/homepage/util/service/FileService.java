@@ -1,9 +1,6 @@
 package keeper.project.homepage.util.service;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.sql.Timestamp;
@@ -11,6 +8,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import keeper.project.homepage.util.image.ImageDerivative;
+import keeper.project.homepage.util.image.ImageDerivativeCache;
 import keeper.project.homepage.util.image.ImageFormatChecking;
 import keeper.project.homepage.util.image.preprocessing.ImagePreprocessing;
 import keeper.project.homepage.util.dto.FileDto;
@@ -24,7 +23,6 @@ import keeper.project.homepage.util.exception.file.CustomFileTransferFailedExcep
 import keeper.project.homepage.util.repository.FileRepository;
 import keeper.project.homepage.util.service.ThumbnailService.DefaultThumbnailInfo;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.io.IOUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,31 +36,19 @@ public class FileService {
 
   private final FileRepository fileRepository;
   private final ImageFormatChecking imageFormatChecking;
+  private final ImageDerivativeCache imageDerivativeCache;
 
-  public byte[] getByteArrayFromImage(Long fileId, ImagePreprocessing imagePreprocessing)
-      throws IOException {
+  public ImageDerivative getImageDerivative(Long fileId, ImagePreprocessing imagePreprocessing) {
     File file = getFileInServer(fileId);
-    return getByteArrayFromImage(file, imagePreprocessing);
+    return getImageDerivative(file, imagePreprocessing);
   }
 
-  public byte[] getByteArrayFromImage(File file, ImagePreprocessing imagePreprocessing)
-      throws IOException {
+  public ImageDerivative getImageDerivative(File file, ImagePreprocessing imagePreprocessing) {
     /**
-     * @return byte array for preprocessed image
+     * 원본 파일은 변경하지 않고, 전처리 결과는 ImageDerivativeCache에 저장된 파일을 사용한다.
      */
     imageFormatChecking.checkImageFile(file.getName());
-    imagePreprocessing.imageProcessing(file, "jpg");
-    InputStream in = new FileInputStream(file);
-    return IOUtils.toByteArray(in);
-  }
-
-  public byte[] getByteArrayFromImage(File file) throws IOException {
-    /**
-     * @return byte array for original image
-     */
-    imageFormatChecking.checkImageFile(file.getName());
-    InputStream in = new FileInputStream(file);
-    return IOUtils.toByteArray(in);
+    return imageDerivativeCache.getOrCreate(file, imagePreprocessing);
   }
 
   public File getFileInServer(String filePath) {
@@ -204,6 +190,7 @@ public class FileService {
     if (file.delete() == false) {
       throw new CustomFileDeleteFailedException();
     }
+    imageDerivativeCache.evict(file);
   }
 
   public boolean isDefaultFileId(Long fileId) {
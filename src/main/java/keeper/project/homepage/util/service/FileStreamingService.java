@@ -0,0 +1,128 @@
+package keeper.project.homepage.util.service;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import keeper.project.homepage.util.exception.file.CustomFileDownloadBusyException;
+import keeper.project.homepage.util.image.ImageDerivative;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * 파일을 heap에 올리지 않고 {@link FileSystemResource}로 응답한다.
+ *
+ * <p>Resource 응답은 Spring MVC가 Range 요청(206 Partial Content, 416)과
+ * If-None-Match / If-Modified-Since(304)를 처리하고, 파일은 고정 크기 버퍼로 나누어 전송된다.
+ * 동시에 보낼 수 있는 파일 응답 수는 {@link #MAX_CONCURRENT_STREAMS}개로 제한하고, 초과한 요청은
+ * 요청 스레드를 붙잡고 기다리지 않도록 바로 503으로 응답한다.
+ */
+@Service
+public class FileStreamingService {
+
+  private static final int MAX_CONCURRENT_STREAMS = 32;
+
+  private final Semaphore streamPermits = new Semaphore(MAX_CONCURRENT_STREAMS, true);
+
+  public ResponseEntity<Resource> getAttachmentResponse(File file, String fileName) {
+    String encodedFileName = UriUtils.encode(fileName, StandardCharsets.UTF_8);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + encodedFileName + "\"")
+        .body(new LimitedFileSystemResource(file));
+  }
+
+  public ResponseEntity<Resource> getImageResponse(ImageDerivative image, MediaType mediaType) {
+    return ResponseEntity.ok()
+        .contentType(mediaType)
+        .cacheControl(CacheControl.noCache())
+        .eTag(image.getETag())
+        .lastModified(image.getLastModified())
+        .body(new LimitedFileSystemResource(image.getFile()));
+  }
+
+  public int getAvailableStreams() {
+    return streamPermits.availablePermits();
+  }
+
+  private void acquireStream() {
+    if (!streamPermits.tryAcquire()) {
+      throw new CustomFileDownloadBusyException();
+    }
+  }
+
+  /**
+   * 응답 본문을 쓰기 시작한 뒤에는 503을 응답할 수 없으므로, 핸들러가 응답을 만들 때 permit을 얻는다.
+   *
+   * <p>multipart/byteranges 응답은 구간마다 스트림을 열고 닫으므로, 요청 안에서는 스트림이 닫힐 때가 아니라
+   * 요청이 끝날 때 permit을 반환한다. 요청 밖에서 쓰인 경우에만 스트림이 닫힐 때 반환한다.
+   */
+  private class LimitedFileSystemResource extends FileSystemResource {
+
+    private final AtomicBoolean released = new AtomicBoolean(false);
+    private final boolean releaseOnClose;
+
+    LimitedFileSystemResource(File file) {
+      super(file);
+      acquireStream();
+      RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+      releaseOnClose = requestAttributes == null;
+      if (requestAttributes != null) {
+        requestAttributes.registerDestructionCallback(
+            LimitedFileSystemResource.class.getName() + "@" + System.identityHashCode(this),
+            this::release, RequestAttributes.SCOPE_REQUEST);
+      }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      if (!releaseOnClose) {
+        return super.getInputStream();
+      }
+      try {
+        return new PermitReleasingInputStream(super.getInputStream(), this);
+      } catch (IOException | RuntimeException e) {
+        release();
+        throw e;
+      }
+    }
+
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        streamPermits.release();
+      }
+    }
+  }
+
+  private static class PermitReleasingInputStream extends FilterInputStream {
+
+    private final LimitedFileSystemResource resource;
+
+    PermitReleasingInputStream(InputStream in, LimitedFileSystemResource resource) {
+      super(in);
+      this.resource = resource;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        resource.release();
+      }
+    }
+  }
+}
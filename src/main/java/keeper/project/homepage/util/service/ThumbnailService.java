@@ -1,11 +1,11 @@
 package keeper.project.homepage.util.service;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import keeper.project.homepage.util.exception.file.CustomInvalidImageFileException;
+import keeper.project.homepage.util.image.ImageDerivative;
 import keeper.project.homepage.util.image.ImageFormatChecking;
 import keeper.project.homepage.util.MultipartFileWrapper;
 import keeper.project.homepage.util.entity.FileEntity;
@@ -130,10 +130,10 @@ public class ThumbnailService {
     return getFileInServer(thumbnail);
   }
 
-  public byte[] getByteArrayFromImage(Long thumbnailId, ImagePreprocessing imagePreprocessing)
-      throws IOException {
+  public ImageDerivative getImageDerivative(Long thumbnailId,
+      ImagePreprocessing imagePreprocessing) {
     File file = getFileInServer(thumbnailId);
-    return fileService.getByteArrayFromImage(file, imagePreprocessing);
+    return fileService.getImageDerivative(file, imagePreprocessing);
   }
 
   private ThumbnailEntity getDefaultThumbnailEntity(ThumbType type) {
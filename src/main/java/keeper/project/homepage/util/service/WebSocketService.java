@@ -1,6 +1,5 @@
 package keeper.project.homepage.util.service;
 
-import keeper.project.homepage.election.dto.response.ElectionVoteStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -13,8 +12,8 @@ public class WebSocketService {
 
   private final SimpMessagingTemplate webSocket;
 
-  public void sendVoteStatusMessage(String payload, ElectionVoteStatus status) {
-    webSocket.convertAndSend(payload, status);
+  public void sendMessage(String destination, Object message) {
+    webSocket.convertAndSend(destination, message);
   }
 
 }
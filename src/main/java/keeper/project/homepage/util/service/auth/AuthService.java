@@ -1,31 +1,44 @@
 package keeper.project.homepage.util.service.auth;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberHasMemberJobEntity;
-import keeper.project.homepage.member.repository.MemberHasMemberJobRepository;
 import keeper.project.homepage.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+  // 한 요청 안에서 조회한 회원 entity를 request attribute에 보관한다.
+  private static final String AUTHENTICATED_MEMBER_ATTRIBUTE =
+      AuthService.class.getName() + ".AUTHENTICATED_MEMBER";
+  // open-in-view로 영속성 컨텍스트가 요청 동안 유지되면 다시 조회해도 쿼리가 나가지 않을 수 있으므로,
+  // 줄어든 쿼리 수가 아니라 보관한 entity를 다시 사용한 횟수를 센다.
+  private static final String REUSED_LOOKUP_METRIC = "keeper.auth.member.lookup.reused";
+  private static final String REUSED_LOOKUP_DESCRIPTION =
+      "한 요청 안에서 이미 조회한 인증 회원 entity를 다시 사용한 횟수";
+  private static final String UNKNOWN_ENDPOINT = "unknown";
+
   private final MemberRepository memberRepository;
-  private final MemberHasMemberJobRepository hasMemberJobRepository;
+  private final MeterRegistry meterRegistry;
 
   public List<String> getAuthByJWT() {
     List<String> roles = new ArrayList<>();
 
-    Long memberId = getMemberIdByJWT();
-    List<MemberHasMemberJobEntity> memberJobs = hasMemberJobRepository.findAllByMemberEntity_Id(
-        memberId);
+    List<MemberHasMemberJobEntity> memberJobs = getMemberEntityWithJWT().getMemberJobs();
     for (MemberHasMemberJobEntity memberJob : memberJobs) {
       roles.add(memberJob.getMemberJobEntity().getName());
     }
@@ -44,12 +57,46 @@ public class AuthService {
     return memberId;
   }
 
+  /**
+   * JWT의 회원을 직무, 타입, 등급과 함께 조회한다. HTTP 요청 안에서는 처음 한 번만 DB에서 조회하고,
+   * 이후 호출은 같은 entity를 반환한다.
+   */
   public MemberEntity getMemberEntityWithJWT() {
     Long memberId = getMemberIdByJWT();
-    Optional<MemberEntity> member = memberRepository.findById(memberId);
-    if (member.isEmpty()) {
-      throw new AccessDeniedException("");
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+    if (requestAttributes != null) {
+      Object cached = requestAttributes.getAttribute(AUTHENTICATED_MEMBER_ATTRIBUTE,
+          RequestAttributes.SCOPE_REQUEST);
+      if (cached instanceof MemberEntity && memberId.equals(((MemberEntity) cached).getId())) {
+        countReusedLookup(requestAttributes);
+        return (MemberEntity) cached;
+      }
+    }
+
+    MemberEntity member = memberRepository.findWithJobsAndTypeAndRankById(memberId)
+        .orElseThrow(() -> new AccessDeniedException(""));
+    if (requestAttributes != null) {
+      requestAttributes.setAttribute(AUTHENTICATED_MEMBER_ATTRIBUTE, member,
+          RequestAttributes.SCOPE_REQUEST);
+    }
+    return member;
+  }
+
+  private void countReusedLookup(RequestAttributes requestAttributes) {
+    // URI를 그대로 tag로 쓰면 path variable마다 meter가 생기므로 mapping pattern이 없으면 unknown으로 센다.
+    String endpoint = UNKNOWN_ENDPOINT;
+    if (requestAttributes instanceof ServletRequestAttributes) {
+      HttpServletRequest request = ((ServletRequestAttributes) requestAttributes).getRequest();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      if (pattern != null) {
+        endpoint = request.getMethod() + " " + pattern;
+      }
     }
-    return member.get();
+    Counter.builder(REUSED_LOOKUP_METRIC)
+        .description(REUSED_LOOKUP_DESCRIPTION)
+        .tag("endpoint", endpoint)
+        .register(meterRegistry)
+        .increment();
   }
 }
@@ -1,9 +1,11 @@
 package keeper.project.homepage.util.service.result;
 
+import keeper.project.homepage.util.dto.CursorSlice;
 import keeper.project.homepage.util.dto.result.CommonResult;
 import keeper.project.homepage.util.dto.result.ListResult;
 import keeper.project.homepage.util.dto.result.PageResult;
 import keeper.project.homepage.util.dto.result.SingleResult;
+import keeper.project.homepage.util.dto.result.SliceResult;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -81,6 +83,18 @@ public class ResponseService {
     return result;
   }
 
+  // 다음 페이지 정보가 있는 다중건 결과를 처리하는 메소드
+  public <T> SliceResult<T> getSuccessSliceResult(CursorSlice<T> slice) {
+    SliceResult<T> result = new SliceResult<>();
+    result.setList(slice.getContent());
+    result.setIsLast(slice.isLast());
+    if (slice.getNextCursor() != null) {
+      result.setNextCursor(slice.getNextCursor().toString());
+    }
+    setSuccessResult(result);
+    return result;
+  }
+
   // 성공 결과만 처리하는 메소드
   public CommonResult getSuccessResult() {
     CommonResult result = new CommonResult();
@@ -450,6 +450,15 @@ public class ApiControllerTestHelper extends ApiControllerTestSetUp {
     return commonFields;
   }
 
+  public FieldDescriptor[] generateSliceResponseFields() {
+    return new FieldDescriptor[]{
+        fieldWithPath("isLast").description("true: 마지막 페이지, +\nfalse: 다음 페이지 존재"),
+        fieldWithPath("nextCursor").description(
+                "다음 페이지 조회 시 after 파라미터로 전달할 커서 "
+                    + "(마지막 페이지이거나 작성 시간, ID 순으로 정렬하지 않은 경우 없음)").type(String.class)
+            .optional()};
+  }
+
   public List<FieldDescriptor> generateCommonMemberCommonResponseFields(ResponseType type,
       String success, String code, String msg, FieldDescriptor... addDescriptors) {
     String prefix = type.getReponseFieldPrefix();
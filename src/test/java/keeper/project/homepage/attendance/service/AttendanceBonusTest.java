@@ -0,0 +1,70 @@
+package keeper.project.homepage.attendance.service;
+
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.FIRST_PLACE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.MONTH_ATTENDANCE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.THIRD_PLACE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.WEEK_ATTENDANCE_POINT;
+import static keeper.project.homepage.attendance.dto.AttendancePointDto.YEAR_ATTENDANCE_POINT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AttendanceBonusTest {
+
+  @Test
+  @DisplayName("1~3등만 순위 포인트를 받는다")
+  public void getRankPointTest() {
+    assertThat(AttendanceBonus.getRankPoint(1)).isEqualTo(FIRST_PLACE_POINT);
+    assertThat(AttendanceBonus.getRankPoint(3)).isEqualTo(THIRD_PLACE_POINT);
+    assertThat(AttendanceBonus.getRankPoint(4)).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("토요일에 7일 이상 연속 출석하면 주 개근 포인트를 받는다")
+  public void weekPerfectAttendanceTest() {
+    LocalDate saturday = LocalDate.of(2026, 10, 17);
+
+    assertThat(AttendanceBonus.getContinuousPoint(7, saturday)).isEqualTo(WEEK_ATTENDANCE_POINT);
+    assertThat(AttendanceBonus.getContinuousPoint(6, saturday)).isEqualTo(0);
+    assertThat(AttendanceBonus.getContinuousPoint(7, saturday.plusDays(1))).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("달의 마지막 날에 그 달의 일수 이상 연속 출석하면 월 개근 포인트를 받는다")
+  public void monthPerfectAttendanceTest() {
+    assertThat(AttendanceBonus.getContinuousPoint(29, LocalDate.of(2024, 2, 29)))
+        .isEqualTo(MONTH_ATTENDANCE_POINT);
+    assertThat(AttendanceBonus.getContinuousPoint(28, LocalDate.of(2024, 2, 29))).isEqualTo(0);
+    assertThat(AttendanceBonus.getContinuousPoint(28, LocalDate.of(2023, 2, 28)))
+        .isEqualTo(MONTH_ATTENDANCE_POINT);
+    assertThat(AttendanceBonus.getContinuousPoint(30, LocalDate.of(2023, 1, 30))).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("12월 31일에 그 해의 일수 이상 연속 출석하면 연 개근 포인트를 받는다")
+  public void yearPerfectAttendanceTest() {
+    // 2022-12-31은 토요일이라 주/월/연 개근을 모두 받는다.
+    assertThat(AttendanceBonus.getContinuousPoint(365, LocalDate.of(2022, 12, 31)))
+        .isEqualTo(WEEK_ATTENDANCE_POINT + MONTH_ATTENDANCE_POINT + YEAR_ATTENDANCE_POINT);
+    // 윤년은 366일을 연속으로 출석해야 한다.
+    assertThat(AttendanceBonus.getContinuousPoint(365, LocalDate.of(2024, 12, 31)))
+        .isEqualTo(MONTH_ATTENDANCE_POINT);
+    assertThat(AttendanceBonus.getContinuousPoint(366, LocalDate.of(2024, 12, 31)))
+        .isEqualTo(MONTH_ATTENDANCE_POINT + YEAR_ATTENDANCE_POINT);
+  }
+
+  @Test
+  @DisplayName("포인트 정보는 한 번 만든 것을 그대로 돌려주고 바꿀 수 없다")
+  public void getBonusPointInfoTest() {
+    assertThat(AttendanceBonus.getBonusPointInfo())
+        .isSameAs(AttendanceBonus.getBonusPointInfo())
+        .containsEntry("FIRST_PLACE_POINT", FIRST_PLACE_POINT)
+        .containsEntry("YEAR_ATTENDANCE_POINT", YEAR_ATTENDANCE_POINT)
+        .hasSize(10);
+    assertThatThrownBy(() -> AttendanceBonus.getBonusPointInfo().put("FIRST_PLACE_POINT", 0))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}
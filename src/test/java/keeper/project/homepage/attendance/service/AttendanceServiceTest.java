@@ -6,13 +6,17 @@ import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정
 import static keeper.project.homepage.member.service.MemberUtilService.VIRTUAL_MEMBER_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import keeper.project.homepage.attendance.dto.AttendanceDto;
+import keeper.project.homepage.attendance.dto.AttendanceResultDto;
 import keeper.project.homepage.attendance.entity.AttendanceEntity;
+import keeper.project.homepage.attendance.exception.CustomAttendanceException;
 import keeper.project.homepage.attendance.repository.AttendanceRepository;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberJobEntity;
@@ -20,6 +24,8 @@ import keeper.project.homepage.member.entity.MemberTypeEntity;
 import keeper.project.homepage.member.repository.MemberJobRepository;
 import keeper.project.homepage.member.repository.MemberRepository;
 import keeper.project.homepage.member.repository.MemberTypeRepository;
+import keeper.project.homepage.point.repository.PointLogRepository;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -28,7 +34,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest
 @Transactional
@@ -44,6 +52,12 @@ public class AttendanceServiceTest {
   private MemberRepository memberRepository;
   @Autowired
   private AttendanceService attendanceService;
+  @Autowired
+  private AttendanceWriter attendanceWriter;
+  @Autowired
+  private PointLogRepository pointLogRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
 
   @Test
   @Rollback(value = false)
@@ -62,12 +76,13 @@ public class AttendanceServiceTest {
           attendanceService.saveAttendance(AttendanceDto.builder()
               .ipAddress("127.0.0.1")
               .greetings("출석 테스트입니다.")
-              .build(), newMember);
+              .build(), newMember.getId());
         }
         latch.countDown();
       });
     }
     latch.await();
+    attendanceWriter.flush();
     long distinctRankCount = attendanceRepository.findAll()
         .stream()
         .map(AttendanceEntity::getRank)
@@ -76,10 +91,86 @@ public class AttendanceServiceTest {
 
     // then
     attendanceRepository.deleteAll();
+    pointLogRepository.deleteAll();
     memberRepository.deleteAllByIdIsNot(VIRTUAL_MEMBER_ID);
     assertThat(distinctRankCount).isEqualTo(numberOfThreads * memberCountPerThread);
   }
 
+  @Test
+  @Rollback(value = false)
+  @DisplayName("같은 회원이 동시에 여러 번 출석해도 한 번만 출석한다")
+  public void 출석_중복_동시성문제_테스트() throws Exception {
+    // given
+    int numberOfThreads = 10;
+    ExecutorService service = Executors.newFixedThreadPool(numberOfThreads);
+    // 저장을 백그라운드에서 하므로 회원은 테스트 트랜잭션 밖에서 만든다.
+    MemberEntity member = service.submit(this::generateMember).get();
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch latch = new CountDownLatch(numberOfThreads);
+    AtomicInteger alreadyAttendedCount = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < numberOfThreads; i++) {
+      service.execute(() -> {
+        try {
+          start.await();
+          attendanceService.saveAttendance(AttendanceDto.builder()
+              .ipAddress("127.0.0.1")
+              .greetings("출석 테스트입니다.")
+              .build(), member.getId());
+        } catch (CustomAttendanceException e) {
+          alreadyAttendedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    start.countDown();
+    latch.await();
+    service.shutdown();
+    attendanceWriter.flush();
+    List<AttendanceEntity> attendances = attendanceRepository.findAllByMember(member);
+
+    // then
+    attendanceRepository.deleteAll(attendances);
+    pointLogRepository.deleteByMember(member);
+    memberRepository.deleteById(member.getId());
+    assertThat(alreadyAttendedCount.get()).isEqualTo(numberOfThreads - 1);
+    assertThat(attendances).hasSize(1);
+    assertThat(attendances.get(0).getContinuousDay()).isEqualTo(1);
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @DisplayName("출석이 저장되기 전에도 출석 인사를 바꾸고 출석 기록을 조회할 수 있다")
+  public void 출석_직후_조회_테스트() {
+    // given
+    MemberEntity member = generateMember();
+    setAuthentication(member);
+
+    try {
+      // when
+      attendanceService.saveAttendance(AttendanceDto.builder()
+          .ipAddress("127.0.0.1")
+          .greetings("출석 테스트입니다.")
+          .build(), member.getId());
+      attendanceService.updateGreeting(AttendanceDto.builder().greetings("바뀐 인사입니다.").build());
+      AttendanceResultDto result = attendanceService.getMyAttendanceWithDate(LocalDate.now());
+
+      // then
+      assertThat(result.getGreetings()).isEqualTo("바뀐 인사입니다.");
+    } finally {
+      attendanceWriter.flush();
+      transactionTemplate.executeWithoutResult(status -> {
+        attendanceRepository.deleteAll(attendanceRepository.findAllByMember(member));
+        pointLogRepository.deleteByMember(member);
+        memberRepository.deleteById(member.getId());
+      });
+    }
+  }
+
   MemberEntity generateMember() {
     String uniqueInfo = UUID.randomUUID().toString();
     MemberJobEntity memberJob = memberJobRepository.findByName(회원.getJobName()).get();
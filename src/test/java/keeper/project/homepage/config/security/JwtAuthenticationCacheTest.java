@@ -0,0 +1,81 @@
+package keeper.project.homepage.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class JwtAuthenticationCacheTest {
+
+  private static final String SECRET_KEY = "jwtAuthenticationCacheTest";
+  private static final String MEMBER_ID = "1";
+  private static final List<String> ROLES = List.of("ROLE_회원");
+
+  private JwtTokenProvider jwtTokenProvider;
+  private JwtAuthenticationCache authenticationCache;
+
+  @BeforeEach
+  public void setUp() {
+    jwtTokenProvider = new JwtTokenProvider();
+    ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET_KEY);
+    jwtTokenProvider.init();
+    authenticationCache = (JwtAuthenticationCache) ReflectionTestUtils.getField(jwtTokenProvider,
+        "authenticationCache");
+  }
+
+  @Test
+  @DisplayName("캐시된 토큰은 서명을 다시 검증하지 않는다")
+  public void getAuthenticatedMember_cacheHit() {
+    String token = jwtTokenProvider.createToken(MEMBER_ID, ROLES);
+    JwtMemberEntity member = jwtTokenProvider.getAuthenticatedMember(token);
+    assertThat(member).isNotNull();
+    assertThat(authenticationCache.size()).isEqualTo(1);
+
+    // 서명 key가 바뀌어 검증하면 실패하지만, 캐시에서 읽으므로 같은 principal을 반환한다.
+    ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "otherSecretKey");
+
+    assertThat(jwtTokenProvider.getAuthenticatedMember(token)).isSameAs(member);
+  }
+
+  @Test
+  @DisplayName("캐시 항목은 토큰의 exp 시각에 만료된다")
+  public void get_expiresAtTokenExp() {
+    String token = jwtTokenProvider.createToken(MEMBER_ID, ROLES);
+    JwtMemberEntity member = new JwtMemberEntity(MEMBER_ID, ROLES);
+    long expiresAt = 1_000L;
+    authenticationCache.put(token, member, expiresAt);
+
+    assertThat(authenticationCache.get(token, expiresAt - 1)).isSameAs(member);
+    assertThat(authenticationCache.get(token, expiresAt)).isNull();
+    assertThat(authenticationCache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("유효하지 않거나 만료된 토큰은 캐시하지 않는다")
+  public void getAuthenticatedMember_invalidToken() {
+    String otherKey = Base64.getEncoder().encodeToString("otherSecretKey".getBytes());
+    String invalidSignatureToken = Jwts.builder()
+        .setSubject(MEMBER_ID)
+        .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+        .signWith(SignatureAlgorithm.HS256, otherKey)
+        .compact();
+    String expiredToken = Jwts.builder()
+        .setSubject(MEMBER_ID)
+        .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+        .signWith(SignatureAlgorithm.HS256,
+            Base64.getEncoder().encodeToString(SECRET_KEY.getBytes()))
+        .compact();
+
+    assertThat(jwtTokenProvider.getAuthenticatedMember("invalid")).isNull();
+    assertThat(jwtTokenProvider.getAuthenticatedMember(invalidSignatureToken)).isNull();
+    assertThat(jwtTokenProvider.getAuthenticatedMember(expiredToken)).isNull();
+    assertThat(authenticationCache.size()).isZero();
+  }
+}
@@ -0,0 +1,221 @@
+package keeper.project.homepage.ctf.controller;
+
+import static keeper.project.homepage.ApiControllerTestHelper.MemberJobName.회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberRankName.일반회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정회원;
+import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.FORENSIC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.MISC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.DYNAMIC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.STANDARD;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType;
+import keeper.project.homepage.ctf.entity.CtfContestEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.util.entity.FileEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 문제 목록과 세부 정보는 커밋된 문제와 flag만 읽는 캐시를 거치므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+class CtfChallengeReadControllerTest extends CtfSpringTestHelper {
+
+  private static final Long SCORE = 1000L;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final List<MemberEntity> members = new ArrayList<>();
+  private final List<CtfChallengeEntity> challenges = new ArrayList<>();
+  private final List<FileEntity> files = new ArrayList<>();
+  private MemberEntity userEntity;
+  private String userToken;
+  private CtfContestEntity contest;
+  private CtfTeamEntity team;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    transactionTemplate.executeWithoutResult(status -> {
+      userEntity = generateMember();
+      contest = generateCtfContest(generateMember(), true);
+      team = generateCtfTeam(contest, userEntity, 0L);
+    });
+    userToken = generateJWTToken(userEntity);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      ctfChallengeRepository.deleteAllById(challenges.stream().map(CtfChallengeEntity::getId)
+          .toList());
+      fileRepository.deleteAllById(files.stream().map(FileEntity::getId).toList());
+      ctfTeamRepository.deleteById(team.getId());
+      ctfContestRepository.deleteById(contest.getId());
+      memberRepository.deleteAllById(members.stream().map(MemberEntity::getId).toList());
+    });
+  }
+
+  @Test
+  @DisplayName("문제 목록 보기 - 성공")
+  public void getProblemListSuccess() throws Exception {
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfChallengeEntity dynamicChallenge = generateChallenge(DYNAMIC, MISC, true);
+      CtfChallengeEntity standardChallenge = generateChallenge(STANDARD, MISC, true);
+      generateChallenge(DYNAMIC, MISC, false);
+      generateCtfFlag(team, dynamicChallenge, false);
+      generateCtfFlag(team, standardChallenge, true);
+    });
+    CtfChallengeEntity dynamicChallenge = challenges.get(0);
+    CtfChallengeEntity standardChallenge = challenges.get(1);
+
+    mockMvc.perform(get("/v1/ctf/prob")
+            .header("Authorization", userToken)
+            .param("cid", String.valueOf(contest.getId())))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.code").value(0))
+        .andExpect(jsonPath("$.list.size()").value(2))
+        .andExpect(jsonPath("$.list[0].title").value(dynamicChallenge.getName()))
+        .andExpect(jsonPath("$.list[0].content").doesNotExist())
+        .andExpect(jsonPath("$.list[0].contestId").value(contest.getId()))
+        .andExpect(jsonPath("$.list[0].categories[0].id").value(MISC.getId()))
+        .andExpect(jsonPath("$.list[0].type.id").doesNotExist())
+        .andExpect(jsonPath("$.list[0].isSolvable").doesNotExist())
+        .andExpect(jsonPath("$.list[0].score").value(SCORE))
+        .andExpect(jsonPath("$.list[0].isSolved").value(false))
+        .andExpect(jsonPath("$.list[0].dynamicInfo").doesNotExist())
+        .andExpect(jsonPath("$.list[0].flag").doesNotExist())
+        .andExpect(jsonPath("$.list[1].title").value(standardChallenge.getName()))
+        .andExpect(jsonPath("$.list[1].content").doesNotExist())
+        .andExpect(jsonPath("$.list[1].contestId").value(contest.getId()))
+        .andExpect(jsonPath("$.list[1].categories[0].id").value(MISC.getId()))
+        .andExpect(jsonPath("$.list[1].type.id").doesNotExist())
+        .andExpect(jsonPath("$.list[1].isSolvable").doesNotExist())
+        .andExpect(jsonPath("$.list[1].score").value(SCORE))
+        .andExpect(jsonPath("$.list[1].isSolved").value(true))
+        .andExpect(jsonPath("$.list[1].dynamicInfo").doesNotExist())
+        .andExpect(jsonPath("$.list[1].flag").doesNotExist())
+        .andDo(document("get-common-problem-list",
+            requestParameters(
+                parameterWithName("cid").description("CTF 대회 id")
+            ),
+            responseFields(
+                generateChallengeCommonDtoResponseFields(ResponseType.LIST,
+                    "성공: true +\n실패: false", "성공 시 0을 반환",
+                    "성공: 성공하였습니다 +\n실패: 에러 메세지 반환")
+            )));
+  }
+
+  @Test
+  @DisplayName("문제 목록 보기 - 마지막 제출 시간이 null로 반환되어야 합니다.")
+  public void getProblemListSuccess_lastTryTimeNullable() throws Exception {
+    LocalDateTime lastTryTime = LocalDateTime.now().minusDays(1);
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfChallengeEntity dynamicChallenge = generateChallenge(DYNAMIC, FORENSIC, true);
+      CtfChallengeEntity standardChallenge = generateChallenge(STANDARD, FORENSIC, true);
+      generateCtfFlag(team, dynamicChallenge, false, (LocalDateTime) null);
+      generateCtfFlag(team, standardChallenge, true, lastTryTime);
+    });
+
+    mockMvc.perform(get("/v1/ctf/prob")
+            .header("Authorization", userToken)
+            .param("cid", String.valueOf(contest.getId())))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.code").value(0))
+        .andExpect(jsonPath("$.list[0].lastTryTime").isEmpty())
+        .andExpect(jsonPath("$.list[1].lastTryTime").value(
+            lastTryTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+  }
+
+  @Test
+  @DisplayName("문제 세부 정보 보기 - 성공")
+  public void getProblemDetailSuccess() throws Exception {
+    CtfChallengeEntity dynamicChallenge = transactionTemplate.execute(status -> {
+      CtfChallengeEntity challenge = generateChallenge(DYNAMIC, FORENSIC, true);
+      files.add(generateFileInChallenge(challenge));
+      generateCtfFlag(team, challenge, true);
+      return challenge;
+    });
+    String creatorName = transactionTemplate.execute(status ->
+        ctfChallengeRepository.findById(dynamicChallenge.getId()).orElseThrow()
+            .getCreator().getNickName());
+
+    mockMvc.perform(get("/v1/ctf/prob/{pid}", String.valueOf(dynamicChallenge.getId()))
+            .header("Authorization", userToken))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.code").value(0))
+        .andExpect(jsonPath("$.data.title").value(dynamicChallenge.getName()))
+        .andExpect(jsonPath("$.data.content").value(dynamicChallenge.getDescription()))
+        .andExpect(jsonPath("$.data.contestId").value(contest.getId()))
+        .andExpect(jsonPath("$.data.categories[0].id").value(FORENSIC.getId()))
+        .andExpect(jsonPath("$.data.type.id").doesNotExist())
+        .andExpect(jsonPath("$.data.isSolvable").doesNotExist())
+        .andExpect(jsonPath("$.data.creatorName").value(creatorName))
+        .andExpect(jsonPath("$.data.score").value(SCORE))
+        .andExpect(jsonPath("$.data.solvedTeamCount").value(1L))
+        .andExpect(jsonPath("$.data.isSolved").value(true))
+        .andExpect(jsonPath("$.data.dynamicInfo").doesNotExist())
+        .andExpect(jsonPath("$.data.flag").doesNotExist())
+        .andDo(document("get-problem-detail",
+            pathParameters(
+                parameterWithName("pid").description("문제 id")
+            ),
+            responseFields(
+                generateChallengeDtoResponseFields(ResponseType.SINGLE,
+                    "성공: true +\n실패: false", "성공 시 0을 반환",
+                    "성공: 성공하였습니다 +\n실패: 에러 메세지 반환")
+            )));
+  }
+
+  private CtfChallengeEntity generateChallenge(CtfChallengeType type,
+      CtfChallengeCategory category, boolean isSolvable) {
+    CtfChallengeEntity challenge = generateCtfChallenge(contest, type, List.of(category), SCORE,
+        isSolvable);
+    challenges.add(challenge);
+    return challenge;
+  }
+
+  private MemberEntity generateMember() {
+    String uniqueInfo = UUID.randomUUID().toString();
+    MemberEntity member = MemberEntity.builder()
+        .loginId("loginId" + uniqueInfo)
+        .emailAddress(uniqueInfo + "@keeper.co.kr")
+        .password(passwordEncoder.encode(memberPassword))
+        .studentId("1234" + uniqueInfo)
+        .nickName("nick" + uniqueInfo)
+        .realName("real" + uniqueInfo)
+        .generation(8F)
+        .memberType(memberTypeRepository.findByName(정회원.getTypeName()).orElseThrow())
+        .memberRank(memberRankRepository.findByName(일반회원.getRankName()).orElseThrow())
+        .build();
+    member.addMemberJob(memberJobRepository.findByName(회원.getJobName()).orElseThrow());
+    members.add(memberRepository.save(member));
+    return member;
+  }
+}
@@ -12,40 +12,72 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import keeper.project.homepage.ctf.entity.CtfContestEntity;
 import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.ctf.service.CtfScoreboard;
 import keeper.project.homepage.member.entity.MemberEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
 
-@Transactional
+/**
+ * 스코어보드는 커밋된 팀 점수만 반영하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
 class CtfRankingControllerTest extends CtfSpringTestHelper {
 
+  @Autowired
+  private CtfScoreboard ctfScoreboard;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final List<MemberEntity> members = new ArrayList<>();
+  private final List<CtfTeamEntity> teams = new ArrayList<>();
+  private CtfContestEntity contest;
+  private MemberEntity creator;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate.executeWithoutResult(status -> {
+      creator = generateMember();
+      contest = generateCtfContest(creator);
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      ctfTeamRepository.deleteAllById(teams.stream().map(CtfTeamEntity::getId).toList());
+      ctfContestRepository.deleteById(contest.getId());
+      memberRepository.deleteAllById(members.stream().map(MemberEntity::getId).toList());
+    });
+    ctfScoreboard.invalidate(contest.getId());
+  }
+
   @Test
   @DisplayName("스코어보드 랭킹 불러오기 - 성공")
   void getRankingList_sameScore_orderBySolvedTimeDesc() throws Exception {
-    MemberEntity creator = generateMemberEntity(회원, 정회원, 일반회원);
     String userToken = generateJWTToken(creator);
-    CtfContestEntity contest = generateCtfContest(creator);
-
-    // 상위 4개 팀
-    generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 1000L);
-    generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 1000L);
-    generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 1000L);
-    generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 1000L);
 
-    MemberEntity member1 = generateMemberEntity(회원, 정회원, 일반회원);
-    generateCtfTeam(contest, member1, 100L);
+    transactionTemplate.executeWithoutResult(status -> {
+      // 상위 4개 팀
+      generateTeam(1000L);
+      generateTeam(1000L);
+      generateTeam(1000L);
+      generateTeam(1000L);
 
-    MemberEntity member2 = generateMemberEntity(회원, 정회원, 일반회원);
-    generateCtfTeam(contest, member2, 400L);
-
-    MemberEntity member3 = generateMemberEntity(회원, 정회원, 일반회원);
-    generateCtfTeam(contest, member3, 200L);
-
-    MemberEntity member4 = generateMemberEntity(회원, 정회원, 일반회원);
-    generateCtfTeam(contest, member4, 300L);
+      generateTeam(100L);
+      generateTeam(400L);
+      generateTeam(200L);
+      generateTeam(300L);
+    });
 
     mockMvc.perform(get("/v1/ctf/ranking")
             .header("Authorization", userToken)
@@ -80,18 +112,13 @@ class CtfRankingControllerTest extends CtfSpringTestHelper {
   @Test
   @DisplayName("스코어보드 랭킹 불러오기 - 동점자의 경우 문제 푼 시간이 빠른 순으로")
   void getRankingList() throws Exception {
-    MemberEntity creator = generateMemberEntity(회원, 정회원, 일반회원);
     String userToken = generateJWTToken(creator);
-    CtfContestEntity contest = generateCtfContest(creator);
 
-    CtfTeamEntity team1 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
-    CtfTeamEntity team2 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
-    CtfTeamEntity team3 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
-    CtfTeamEntity team4 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
-    CtfTeamEntity team5 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
-    CtfTeamEntity team6 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
-    CtfTeamEntity team7 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
-    CtfTeamEntity team8 = generateCtfTeam(contest, generateMemberEntity(회원, 정회원, 일반회원), 100L);
+    transactionTemplate.executeWithoutResult(status -> {
+      for (int i = 0; i < 8; i++) {
+        generateTeam(100L);
+      }
+    });
 
     mockMvc.perform(get("/v1/ctf/ranking")
             .header("Authorization", userToken)
@@ -111,13 +138,74 @@ class CtfRankingControllerTest extends CtfSpringTestHelper {
         .andExpect(jsonPath("$.page.content[5].rank").value(6L))
         .andExpect(jsonPath("$.page.content[6].rank").value(7L))
         .andExpect(jsonPath("$.page.content[7].rank").value(8L))
-        .andExpect(jsonPath("$.page.content[0].id").value(team1.getId()))
-        .andExpect(jsonPath("$.page.content[1].id").value(team2.getId()))
-        .andExpect(jsonPath("$.page.content[2].id").value(team3.getId()))
-        .andExpect(jsonPath("$.page.content[3].id").value(team4.getId()))
-        .andExpect(jsonPath("$.page.content[4].id").value(team5.getId()))
-        .andExpect(jsonPath("$.page.content[5].id").value(team6.getId()))
-        .andExpect(jsonPath("$.page.content[6].id").value(team7.getId()))
-        .andExpect(jsonPath("$.page.content[7].id").value(team8.getId()));
+        .andExpect(jsonPath("$.page.content[0].id").value(teams.get(0).getId()))
+        .andExpect(jsonPath("$.page.content[1].id").value(teams.get(1).getId()))
+        .andExpect(jsonPath("$.page.content[2].id").value(teams.get(2).getId()))
+        .andExpect(jsonPath("$.page.content[3].id").value(teams.get(3).getId()))
+        .andExpect(jsonPath("$.page.content[4].id").value(teams.get(4).getId()))
+        .andExpect(jsonPath("$.page.content[5].id").value(teams.get(5).getId()))
+        .andExpect(jsonPath("$.page.content[6].id").value(teams.get(6).getId()))
+        .andExpect(jsonPath("$.page.content[7].id").value(teams.get(7).getId()));
+  }
+
+  @Test
+  @DisplayName("스코어보드 랭킹 불러오기 - 점수가 바뀌면 순위에 반영")
+  void getRankingList_afterScoreChanged() throws Exception {
+    String userToken = generateJWTToken(creator);
+
+    transactionTemplate.executeWithoutResult(status -> {
+      generateTeam(300L);
+      generateTeam(200L);
+    });
+    CtfTeamEntity team1 = teams.get(0);
+    CtfTeamEntity team2 = teams.get(1);
+
+    mockMvc.perform(get("/v1/ctf/ranking")
+            .header("Authorization", userToken)
+            .param("ctfId", String.valueOf(contest.getId())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.page.content[0].id").value(teams.get(0).getId()))
+        .andExpect(jsonPath("$.page.content[1].id").value(teams.get(1).getId()));
+
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfTeamEntity team = ctfTeamRepository.findById(team2.getId()).orElseThrow();
+      team.setScore(500L);
+      team.changeLastSolveTime(LocalDateTime.now());
+      ctfTeamRepository.saveAndFlush(team);
+    });
+
+    mockMvc.perform(get("/v1/ctf/ranking")
+            .header("Authorization", userToken)
+            .param("ctfId", String.valueOf(contest.getId())))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.page.totalElements").value(2))
+        .andExpect(jsonPath("$.page.content[0].id").value(teams.get(1).getId()))
+        .andExpect(jsonPath("$.page.content[0].score").value(500L))
+        .andExpect(jsonPath("$.page.content[0].rank").value(1L))
+        .andExpect(jsonPath("$.page.content[1].id").value(teams.get(0).getId()))
+        .andExpect(jsonPath("$.page.content[1].rank").value(2L));
+  }
+
+  private void generateTeam(Long score) {
+    teams.add(generateCtfTeam(contest, generateMember(), score));
+  }
+
+  private MemberEntity generateMember() {
+    String uniqueInfo = UUID.randomUUID().toString();
+    MemberEntity member = MemberEntity.builder()
+        .loginId("loginId" + uniqueInfo)
+        .emailAddress(uniqueInfo + "@keeper.co.kr")
+        .password(passwordEncoder.encode(memberPassword))
+        .studentId("1234" + uniqueInfo)
+        .nickName("nick" + uniqueInfo)
+        .realName("real" + uniqueInfo)
+        .generation(8F)
+        .memberType(memberTypeRepository.findByName(정회원.getTypeName()).orElseThrow())
+        .memberRank(memberRankRepository.findByName(일반회원.getRankName()).orElseThrow())
+        .build();
+    member.addMemberJob(memberJobRepository.findByName(회원.getJobName()).orElseThrow());
+    members.add(memberRepository.save(member));
+    return member;
   }
-}
\ No newline at end of file
+}
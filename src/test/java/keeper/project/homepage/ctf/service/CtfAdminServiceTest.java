@@ -357,6 +357,26 @@ class CtfAdminServiceTest extends CtfSpringTestHelper {
         .build();
   }
 
+  @Test
+  @DisplayName("문제 생성 전후에 만든 팀 모두 문제의 flag를 받는다")
+  void provisionFlag_allTeams() {
+    CtfTeamDetailDto beforeTeam1 = createCtfTeam(generateMemberEntity(회원, 정회원, 일반회원));
+    CtfTeamDetailDto beforeTeam2 = createCtfTeam(generateMemberEntity(회원, 정회원, 일반회원));
+    setAuthentication(contestCreator, 회장);
+    CtfChallengeAdminDto challenge = createStandardChallenge(100L, "flag", "content", "title",
+        List.of(WEB), 7L);
+    Long challengeId = challenge.getChallengeDto().getCommonChallengeDto().getChallengeId();
+    CtfTeamDetailDto afterTeam = createCtfTeam(generateMemberEntity(회원, 정회원, 일반회원));
+
+    for (CtfTeamDetailDto team : List.of(beforeTeam1, beforeTeam2, afterTeam)) {
+      CtfFlagEntity flag = ctfFlagRepository.findByCtfChallengeEntityIdAndCtfTeamEntityId(
+          challengeId, team.getId()).orElseThrow();
+      assertThat(flag.getContent()).isEqualTo("flag");
+      assertThat(flag.getRemainedSubmitCount()).isEqualTo(7L);
+      assertThat(flag.getIsCorrect()).isFalse();
+    }
+  }
+
   private void deleteCtfChallenge(long challengeId) {
     setAuthentication(contestCreator, 회장);
     try {
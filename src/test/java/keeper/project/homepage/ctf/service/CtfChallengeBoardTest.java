@@ -0,0 +1,138 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.ApiControllerTestHelper.MemberJobName.회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정회원;
+import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.MISC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.STANDARD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import keeper.project.homepage.ctf.controller.CtfSpringTestHelper;
+import keeper.project.homepage.ctf.dto.CtfChallengeDto;
+import keeper.project.homepage.ctf.dto.CtfCommonChallengeDto;
+import keeper.project.homepage.ctf.dto.CtfFlagDto;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfContestEntity;
+import keeper.project.homepage.ctf.entity.CtfFlagEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.member.entity.MemberEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 문제 목록 캐시는 커밋된 문제와 flag만 읽으므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+public class CtfChallengeBoardTest extends CtfSpringTestHelper {
+
+  @Autowired
+  private CtfChallengeBoard ctfChallengeBoard;
+
+  @Autowired
+  private CtfChallengeService ctfChallengeService;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @MockBean
+  private CtfSubmitLogWriter ctfSubmitLogWriter;
+
+  private final List<MemberEntity> members = new ArrayList<>();
+  private CtfContestEntity contest;
+  private CtfChallengeEntity challenge;
+  private CtfTeamEntity team;
+  private MemberEntity teamMember;
+  private CtfFlagEntity flag;
+
+  @BeforeEach
+  public void setUp() {
+    transactionTemplate.executeWithoutResult(status -> {
+      contest = generateCtfContest(generateMember(), true);
+      challenge = generateCtfChallenge(contest, STANDARD, List.of(MISC), 100L, true);
+      teamMember = generateMember();
+      team = generateCtfTeam(contest, teamMember, 0L);
+      flag = generateCtfFlag(team, challenge, false);
+    });
+  }
+
+  @AfterEach
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+    transactionTemplate.executeWithoutResult(status -> {
+      ctfChallengeRepository.deleteById(challenge.getId());
+      ctfTeamRepository.deleteById(team.getId());
+      ctfContestRepository.deleteById(contest.getId());
+      memberRepository.deleteAllById(members.stream().map(MemberEntity::getId).toList());
+    });
+    ctfChallengeBoard.invalidate(contest.getId());
+    ctfChallengeBoard.invalidateTeam(team.getId());
+  }
+
+  @Test
+  @DisplayName("문제 목록을 처음 만들 때 호출한 트랜잭션과 상관없이 커밋된 flag를 읽는다")
+  public void load_readCommitted() {
+    transactionTemplate.executeWithoutResult(status -> {
+      // 호출한 트랜잭션이 먼저 읽은 값이 아니라 그 뒤에 커밋된 값으로 만든다.
+      ctfFlagRepository.findById(flag.getId()).orElseThrow();
+      TransactionTemplate otherTransaction = new TransactionTemplate(
+          transactionTemplate.getTransactionManager());
+      otherTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+      otherTransaction.executeWithoutResult(inner -> ctfFlagRepository.markSolved(
+          ctfFlagRepository.findById(flag.getId()).orElseThrow(), LocalDateTime.now()));
+
+      assertThat(ctfChallengeBoard.getChallengeList(contest.getId(), team.getId()))
+          .extracting(CtfCommonChallengeDto::getIsSolved)
+          .containsExactly(true);
+    });
+  }
+
+  @Test
+  @DisplayName("문제 상세 조회 - 정답을 맞히면 캐시된 풀이 여부와 맞힌 팀 수가 바로 갱신된다")
+  public void getProblemDetail_afterSolve() {
+    // given
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(teamMember.getId(), teamMember.getPassword(),
+            List.of(new SimpleGrantedAuthority("ROLE_회원"))));
+    Long probId = challenge.getId();
+    CtfChallengeDto beforeSolve = ctfChallengeService.getProblemDetail(probId);
+
+    // when
+    ctfChallengeService.checkFlag(probId, CtfFlagDto.builder().content(flag.getContent()).build());
+    CtfChallengeDto afterSolve = ctfChallengeService.getProblemDetail(probId);
+
+    // then
+    assertThat(beforeSolve.getCommonChallengeDto().getIsSolved()).isFalse();
+    assertThat(beforeSolve.getSolvedTeamCount()).isEqualTo(0L);
+    assertThat(afterSolve.getCommonChallengeDto().getIsSolved()).isTrue();
+    assertThat(afterSolve.getCommonChallengeDto().getSolvedTime()).isNotNull();
+    assertThat(afterSolve.getSolvedTeamCount()).isEqualTo(1L);
+  }
+
+  private MemberEntity generateMember() {
+    String uniqueInfo = UUID.randomUUID().toString();
+    MemberEntity member = MemberEntity.builder()
+        .loginId("loginId" + uniqueInfo)
+        .emailAddress(uniqueInfo + "@keeper.co.kr")
+        .password("keeper1234")
+        .studentId("1234" + uniqueInfo)
+        .nickName("nick" + uniqueInfo)
+        .realName("real" + uniqueInfo)
+        .generation(8F)
+        .memberType(memberTypeRepository.findByName(정회원.getTypeName()).orElseThrow())
+        .build();
+    member.addMemberJob(memberJobRepository.findByName(회원.getJobName()).orElseThrow());
+    members.add(memberRepository.save(member));
+    return member;
+  }
+}
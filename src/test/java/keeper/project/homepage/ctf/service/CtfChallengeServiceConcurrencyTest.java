@@ -0,0 +1,264 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.ApiControllerTestHelper.MemberJobName.회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정회원;
+import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.MISC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.DYNAMIC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.STANDARD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import keeper.project.homepage.ctf.controller.CtfSpringTestHelper;
+import keeper.project.homepage.ctf.dto.CtfFlagDto;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfContestEntity;
+import keeper.project.homepage.ctf.entity.CtfFlagEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamHasMemberEntity;
+import keeper.project.homepage.ctf.exception.CustomTooFastRetryException;
+import keeper.project.homepage.member.entity.MemberEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 스레드가 동시에 정답을 제출해도 점수가 정확한지 확인한다.
+ *
+ * <p>각 제출이 자신의 트랜잭션을 커밋해야 하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+public class CtfChallengeServiceConcurrencyTest extends CtfSpringTestHelper {
+
+  private static final int TEAM_COUNT = 8;
+  private static final int MEMBER_COUNT_PER_TEAM = 3;
+  private static final long STANDARD_SCORE = 100L;
+  private static final long DYNAMIC_MAX_SCORE = 1000L;
+  private static final long DYNAMIC_MIN_SCORE = 100L;
+
+  @Autowired
+  private CtfChallengeService ctfChallengeService;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  // DB에서의 동시성만 확인하기 위해 메모리의 제출 횟수 제한은 끈다.
+  @MockBean
+  private CtfSubmitRateLimiter ctfSubmitRateLimiter;
+
+  @MockBean
+  private CtfSubmitLogWriter ctfSubmitLogWriter;
+
+  private final List<MemberEntity> members = new ArrayList<>();
+  private final List<CtfTeamEntity> teams = new ArrayList<>();
+  private final List<List<MemberEntity>> teamMembers = new ArrayList<>();
+  private final List<CtfFlagEntity> standardFlags = new ArrayList<>();
+  private final List<CtfFlagEntity> dynamicFlags = new ArrayList<>();
+  private final List<CtfFlagEntity> otherDynamicFlags = new ArrayList<>();
+  private CtfContestEntity contest;
+  private CtfChallengeEntity standardChallenge;
+  private CtfChallengeEntity dynamicChallenge;
+  private CtfChallengeEntity otherDynamicChallenge;
+
+  @BeforeEach
+  public void setUp() {
+    when(ctfSubmitRateLimiter.tryAcquire(any(), any())).thenReturn(true);
+    transactionTemplate.executeWithoutResult(status -> {
+      MemberEntity creator = generateMember();
+      contest = generateCtfContest(creator);
+      standardChallenge = generateCtfChallenge(contest, STANDARD, List.of(MISC), STANDARD_SCORE,
+          true);
+      dynamicChallenge = generateCtfChallenge(contest, DYNAMIC, List.of(MISC), DYNAMIC_MAX_SCORE,
+          true);
+      generateDynamicChallengeInfo(dynamicChallenge, DYNAMIC_MAX_SCORE, DYNAMIC_MIN_SCORE);
+      otherDynamicChallenge = generateCtfChallenge(contest, DYNAMIC, List.of(MISC),
+          DYNAMIC_MAX_SCORE, true);
+      generateDynamicChallengeInfo(otherDynamicChallenge, DYNAMIC_MAX_SCORE, DYNAMIC_MIN_SCORE);
+
+      for (int i = 0; i < TEAM_COUNT; i++) {
+        List<MemberEntity> memberList = new ArrayList<>();
+        for (int j = 0; j < MEMBER_COUNT_PER_TEAM; j++) {
+          memberList.add(generateMember());
+        }
+        CtfTeamEntity team = generateCtfTeam(contest, memberList.get(0), 0L);
+        for (MemberEntity member : memberList.subList(1, memberList.size())) {
+          ctfTeamHasMemberRepository.save(CtfTeamHasMemberEntity.builder()
+              .team(team)
+              .member(member)
+              .build());
+        }
+        teams.add(team);
+        teamMembers.add(memberList);
+        standardFlags.add(generateCtfFlag(team, standardChallenge, false));
+        dynamicFlags.add(generateCtfFlag(team, dynamicChallenge, false));
+        otherDynamicFlags.add(generateCtfFlag(team, otherDynamicChallenge, false));
+      }
+    });
+  }
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      ctfChallengeRepository.deleteAllById(List.of(standardChallenge.getId(),
+          dynamicChallenge.getId(), otherDynamicChallenge.getId()));
+      ctfTeamRepository.deleteAllById(teams.stream().map(CtfTeamEntity::getId).toList());
+      ctfContestRepository.deleteById(contest.getId());
+      memberRepository.deleteAllById(members.stream().map(MemberEntity::getId).toList());
+    });
+  }
+
+  @Test
+  @DisplayName("같은 팀의 모든 팀원이 동시에 정답을 제출해도 점수는 한 번만 더한다")
+  public void checkFlag_concurrentSameTeam() throws Exception {
+    // when
+    List<Runnable> submissions = new ArrayList<>();
+    for (int i = 0; i < TEAM_COUNT; i++) {
+      String flag = standardFlags.get(i).getContent();
+      for (MemberEntity member : teamMembers.get(i)) {
+        submissions.add(() -> submitFlag(member, standardChallenge.getId(), flag));
+      }
+    }
+    runConcurrently(submissions);
+
+    // then
+    for (CtfTeamEntity team : teams) {
+      assertThat(ctfTeamRepository.findById(team.getId()).orElseThrow().getScore())
+          .isEqualTo(STANDARD_SCORE);
+    }
+    assertThat(ctfFlagRepository.countByCtfChallengeEntityIdAndIsCorrect(
+        standardChallenge.getId(), true)).isEqualTo(TEAM_COUNT);
+  }
+
+  @Test
+  @DisplayName("여러 팀이 동시에 dynamic 문제를 맞혀도 모든 팀의 점수가 최종 문제 점수와 같다")
+  public void checkFlag_concurrentDynamic() throws Exception {
+    // given
+    int solvedTeamCount = TEAM_COUNT / 2;
+
+    // when
+    List<Runnable> submissions = new ArrayList<>();
+    for (int i = 0; i < solvedTeamCount; i++) {
+      String flag = dynamicFlags.get(i).getContent();
+      for (MemberEntity member : teamMembers.get(i)) {
+        submissions.add(() -> submitFlag(member, dynamicChallenge.getId(), flag));
+      }
+    }
+    runConcurrently(submissions);
+
+    // then
+    long expectedScore = getExpectedDynamicScore(solvedTeamCount);
+    assertThat(ctfChallengeRepository.findById(dynamicChallenge.getId()).orElseThrow().getScore())
+        .isEqualTo(expectedScore);
+    for (int i = 0; i < TEAM_COUNT; i++) {
+      assertThat(ctfTeamRepository.findById(teams.get(i).getId()).orElseThrow().getScore())
+          .isEqualTo(i < solvedTeamCount ? expectedScore : 0L);
+    }
+  }
+
+  @Test
+  @DisplayName("여러 팀이 동시에 서로 다른 dynamic 문제를 맞혀도 교착 상태 없이 모든 점수를 반영한다")
+  public void checkFlag_concurrentMultipleDynamic() throws Exception {
+    // given
+    int solvedTeamCount = TEAM_COUNT / 2;
+
+    // when
+    // 같은 팀들이 두 문제를 동시에 맞히므로, 한 문제의 재정산이 다른 문제를 맞힌 팀 row와 겹친다.
+    List<Runnable> submissions = new ArrayList<>();
+    for (int i = 0; i < solvedTeamCount; i++) {
+      String flag = dynamicFlags.get(i).getContent();
+      String otherFlag = otherDynamicFlags.get(i).getContent();
+      for (MemberEntity member : teamMembers.get(i)) {
+        submissions.add(() -> submitFlag(member, dynamicChallenge.getId(), flag));
+        submissions.add(() -> submitFlag(member, otherDynamicChallenge.getId(), otherFlag));
+      }
+    }
+    runConcurrently(submissions);
+
+    // then
+    long expectedScore = getExpectedDynamicScore(solvedTeamCount);
+    assertThat(ctfChallengeRepository.findById(dynamicChallenge.getId()).orElseThrow().getScore())
+        .isEqualTo(expectedScore);
+    assertThat(ctfChallengeRepository.findById(otherDynamicChallenge.getId()).orElseThrow()
+        .getScore()).isEqualTo(expectedScore);
+    for (int i = 0; i < TEAM_COUNT; i++) {
+      assertThat(ctfTeamRepository.findById(teams.get(i).getId()).orElseThrow().getScore())
+          .isEqualTo(i < solvedTeamCount ? expectedScore * 2 : 0L);
+    }
+  }
+
+  private long getExpectedDynamicScore(int solvedTeamCount) {
+    double solvedRatio = solvedTeamCount / (double) TEAM_COUNT;
+    return (long) ((DYNAMIC_MIN_SCORE - DYNAMIC_MAX_SCORE) * solvedRatio * solvedRatio
+        + DYNAMIC_MAX_SCORE);
+  }
+
+  private void submitFlag(MemberEntity member, Long challengeId, String flag) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(member.getId(), member.getPassword(),
+            List.of(new SimpleGrantedAuthority("ROLE_회원"))));
+    try {
+      ctfChallengeService.checkFlag(challengeId, CtfFlagDto.builder().content(flag).build());
+    } catch (CustomTooFastRetryException ignored) {
+      // 먼저 커밋된 팀원의 제출 시간 때문에 거절될 수 있다.
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  private void runConcurrently(List<Runnable> tasks) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Runnable task : tasks) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          task.run();
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        try {
+          future.get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+          throw new AssertionError("정답 제출 실패", e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private MemberEntity generateMember() {
+    String uniqueInfo = UUID.randomUUID().toString();
+    MemberEntity member = MemberEntity.builder()
+        .loginId("loginId" + uniqueInfo)
+        .emailAddress(uniqueInfo + "@keeper.co.kr")
+        .password("keeper1234")
+        .studentId("1234" + uniqueInfo)
+        .nickName("nick" + uniqueInfo)
+        .realName("real" + uniqueInfo)
+        .generation(8F)
+        .memberType(memberTypeRepository.findByName(정회원.getTypeName()).orElseThrow())
+        .build();
+    member.addMemberJob(memberJobRepository.findByName(회원.getJobName()).orElseThrow());
+    members.add(memberRepository.save(member));
+    return member;
+  }
+}
@@ -42,13 +42,17 @@ class CtfChallengeServiceTest extends CtfSpringTestHelper {
   @Autowired
   CtfChallengeService ctfChallengeService;
 
+  @Autowired
+  CtfSubmitRateLimiter ctfSubmitRateLimiter;
+
+  private MemberEntity userEntity;
   private CtfTeamEntity teamEntity;
   private CtfChallengeEntity dynamicChallenge;
 
   @BeforeEach
   void setCtfChallenge() {
     MemberEntity adminEntity = generateMemberEntity(회장, 정회원, 우수회원);
-    MemberEntity userEntity = generateMemberEntity(회원, 정회원, 일반회원);
+    userEntity = generateMemberEntity(회원, 정회원, 일반회원);
     CtfContestEntity contest = generateCtfContest(adminEntity, true);
     Long score = 1000L;
     Long maxScore = 1234L;
@@ -152,6 +156,8 @@ class CtfChallengeServiceTest extends CtfSpringTestHelper {
     // then
     assertThatThrownBy(() -> ctfChallengeService.checkFlag(probId, submitFlag))
         .isInstanceOf(CustomSubmitCountNotEnoughException.class);
+    // 채점 트랜잭션에서 거절했으므로 사용한 토큰은 돌려받는다.
+    assertThat(ctfSubmitRateLimiter.tryAcquire(userEntity.getId(), probId)).isTrue();
   }
 
 
@@ -192,6 +198,8 @@ class CtfChallengeServiceTest extends CtfSpringTestHelper {
     // then
     assertThatThrownBy(() -> ctfChallengeService.checkFlag(probId, submitFlag))
         .isInstanceOf(CustomTooFastRetryException.class);
+    // 제출 횟수 제한을 통과한 뒤 DB에서 거절했으므로 사용한 토큰은 돌려받는다.
+    assertThat(ctfSubmitRateLimiter.tryAcquire(userEntity.getId(), probId)).isTrue();
   }
 
 
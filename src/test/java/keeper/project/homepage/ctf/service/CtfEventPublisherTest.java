@@ -0,0 +1,177 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.ApiControllerTestHelper.MemberJobName.회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정회원;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import keeper.project.homepage.ctf.controller.CtfSpringTestHelper;
+import keeper.project.homepage.ctf.dto.CtfRankingDto;
+import keeper.project.homepage.ctf.dto.CtfScoreboardEventDto;
+import keeper.project.homepage.ctf.entity.CtfContestEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.util.service.WebSocketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스코어보드는 커밋된 팀 점수만 반영하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+public class CtfEventPublisherTest extends CtfSpringTestHelper {
+
+  // 스케줄러도 같은 메서드를 호출하므로 전송 여부는 timeout을 두고 확인한다.
+  private static final long VERIFY_TIMEOUT_MS = 3_000;
+
+  @MockBean
+  private WebSocketService webSocketService;
+
+  @Autowired
+  private CtfEventPublisher ctfEventPublisher;
+
+  @Autowired
+  private CtfScoreboard ctfScoreboard;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final List<MemberEntity> members = new ArrayList<>();
+  private final List<CtfTeamEntity> teams = new ArrayList<>();
+  private CtfContestEntity contest;
+
+  @BeforeEach
+  public void setUp() {
+    transactionTemplate.executeWithoutResult(status -> {
+      contest = generateCtfContest(generateMember());
+      teams.add(generateCtfTeam(contest, generateMember(), 300L));
+      teams.add(generateCtfTeam(contest, generateMember(), 200L));
+      teams.add(generateCtfTeam(contest, generateMember(), 100L));
+    });
+  }
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      ctfTeamRepository.deleteAllById(teams.stream().map(CtfTeamEntity::getId).toList());
+      ctfContestRepository.deleteById(contest.getId());
+      memberRepository.deleteAllById(members.stream().map(MemberEntity::getId).toList());
+    });
+    ctfScoreboard.invalidate(contest.getId());
+  }
+
+  @Test
+  @DisplayName("스코어보드가 바뀐 경우에만 변경분을 전송한다")
+  public void publishScoreboardTest() {
+    CtfTeamEntity team1 = teams.get(0);
+    CtfTeamEntity team2 = teams.get(1);
+    CtfTeamEntity team3 = teams.get(2);
+    String topic = CtfEventPublisher.getScoreboardTopic(contest.getId());
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+
+    // 처음에는 전체 스코어보드를 보내고, 바뀐 것이 없으면 다시 보내지 않는다.
+    ctfScoreboard.getRankingPage(contest.getId(), PageRequest.of(0, 10));
+    ctfEventPublisher.publishScoreboards();
+    ctfEventPublisher.publishScoreboards();
+    verify(webSocketService, timeout(VERIFY_TIMEOUT_MS).times(1))
+        .sendMessage(eq(topic), captor.capture());
+    assertThat(((CtfScoreboardEventDto) captor.getValue()).getChanged()).hasSize(3);
+
+    // 2등과 1등이 바뀌면 두 팀만 보낸다.
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfTeamEntity team = ctfTeamRepository.findById(team2.getId()).orElseThrow();
+      team.setScore(500L);
+      ctfTeamRepository.saveAndFlush(team);
+    });
+    ctfEventPublisher.publishScoreboards();
+    verify(webSocketService, timeout(VERIFY_TIMEOUT_MS).times(2))
+        .sendMessage(eq(topic), captor.capture());
+    CtfScoreboardEventDto event = (CtfScoreboardEventDto) captor.getValue();
+    assertThat(event.getChanged())
+        .extracting(CtfRankingDto::getId)
+        .containsExactlyInAnyOrder(team1.getId(), team2.getId());
+    assertThat(event.getChanged())
+        .filteredOn(team -> team.getId().equals(team2.getId()))
+        .extracting(CtfRankingDto::getRank)
+        .containsExactly(1L);
+    assertThat(event.getRemovedTeamIds()).isEmpty();
+    assertThat(getRank(team3.getId())).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("롤백된 변경은 전송하지 않고, 커밋된 변경은 커밋된 뒤에 전송한다")
+  public void publishScoreboard_afterCommit() {
+    CtfTeamEntity team3 = teams.get(2);
+    String topic = CtfEventPublisher.getScoreboardTopic(contest.getId());
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    ctfScoreboard.getRankingPage(contest.getId(), PageRequest.of(0, 10));
+    ctfEventPublisher.publishScoreboards();
+    verify(webSocketService, timeout(VERIFY_TIMEOUT_MS).times(1))
+        .sendMessage(eq(topic), captor.capture());
+
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfTeamEntity team = ctfTeamRepository.findById(team3.getId()).orElseThrow();
+      team.setScore(1000L);
+      ctfTeamRepository.saveAndFlush(team);
+      status.setRollbackOnly();
+    });
+    ctfEventPublisher.publishScoreboards();
+    verify(webSocketService, after(VERIFY_TIMEOUT_MS).times(1))
+        .sendMessage(eq(topic), captor.capture());
+
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfTeamEntity team = ctfTeamRepository.findById(team3.getId()).orElseThrow();
+      team.setScore(1000L);
+      ctfTeamRepository.saveAndFlush(team);
+      // 커밋 전에는 보내지 않는다.
+      ctfEventPublisher.publishScoreboards();
+      verify(webSocketService, times(1)).sendMessage(eq(topic), captor.capture());
+    });
+    verify(webSocketService, timeout(VERIFY_TIMEOUT_MS).times(2))
+        .sendMessage(eq(topic), captor.capture());
+    assertThat(((CtfScoreboardEventDto) captor.getValue()).getChanged())
+        .filteredOn(team -> team.getId().equals(team3.getId()))
+        .extracting(CtfRankingDto::getRank)
+        .containsExactly(1L);
+  }
+
+  private Long getRank(Long teamId) {
+    return ctfScoreboard.getRankingPage(contest.getId(), PageRequest.of(0, teams.size()))
+        .getContent()
+        .stream()
+        .filter(ranking -> ranking.getId().equals(teamId))
+        .findFirst()
+        .orElseThrow()
+        .getRank();
+  }
+
+  private MemberEntity generateMember() {
+    String uniqueInfo = UUID.randomUUID().toString();
+    MemberEntity member = MemberEntity.builder()
+        .loginId("loginId" + uniqueInfo)
+        .emailAddress(uniqueInfo + "@keeper.co.kr")
+        .password("keeper1234")
+        .studentId("1234" + uniqueInfo)
+        .nickName("nick" + uniqueInfo)
+        .realName("real" + uniqueInfo)
+        .generation(8F)
+        .memberType(memberTypeRepository.findByName(정회원.getTypeName()).orElseThrow())
+        .build();
+    member.addMemberJob(memberJobRepository.findByName(회원.getJobName()).orElseThrow());
+    members.add(memberRepository.save(member));
+    return member;
+  }
+}
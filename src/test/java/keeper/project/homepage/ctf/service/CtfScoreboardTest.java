@@ -0,0 +1,194 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.ApiControllerTestHelper.MemberJobName.회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정회원;
+import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.MISC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.DYNAMIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import keeper.project.homepage.ctf.controller.CtfSpringTestHelper;
+import keeper.project.homepage.ctf.dto.CtfRankingDto;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfContestEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.member.entity.MemberEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스코어보드는 커밋된 팀 점수만 반영하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+public class CtfScoreboardTest extends CtfSpringTestHelper {
+
+  private static final int TEAM_COUNT = 3;
+
+  @Autowired
+  private CtfScoreboard ctfScoreboard;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final List<MemberEntity> members = new ArrayList<>();
+  private final List<CtfTeamEntity> teams = new ArrayList<>();
+  private final List<CtfChallengeEntity> challenges = new ArrayList<>();
+  private CtfContestEntity contest;
+
+  @BeforeEach
+  public void setUp() {
+    transactionTemplate.executeWithoutResult(status -> {
+      contest = generateCtfContest(generateMember());
+      for (int i = 0; i < TEAM_COUNT; i++) {
+        teams.add(generateCtfTeam(contest, generateMember(), 300L - i * 100L));
+      }
+    });
+  }
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      ctfChallengeRepository.deleteAllById(challenges.stream().map(CtfChallengeEntity::getId)
+          .toList());
+      ctfTeamRepository.deleteAllById(teams.stream().map(CtfTeamEntity::getId).toList());
+      ctfContestRepository.deleteById(contest.getId());
+      memberRepository.deleteAllById(members.stream().map(MemberEntity::getId).toList());
+    });
+    ctfScoreboard.invalidate(contest.getId());
+  }
+
+  @Test
+  @DisplayName("커밋된 점수만 반영하고 롤백된 점수는 반영하지 않는다")
+  public void update_afterCommit() {
+    CtfTeamEntity team3 = teams.get(2);
+    assertThat(getRank(team3.getId())).isEqualTo(3L);
+
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfTeamEntity team = ctfTeamRepository.findById(team3.getId()).orElseThrow();
+      team.setScore(1000L);
+      ctfTeamRepository.saveAndFlush(team);
+      // 커밋 전에는 바뀌지 않는다.
+      assertThat(getRank(team3.getId())).isEqualTo(3L);
+      status.setRollbackOnly();
+    });
+    assertThat(getRank(team3.getId())).isEqualTo(3L);
+
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfTeamEntity team = ctfTeamRepository.findById(team3.getId()).orElseThrow();
+      team.setScore(1000L);
+      ctfTeamRepository.saveAndFlush(team);
+    });
+    assertThat(getRank(team3.getId())).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("스코어보드를 처음 만들 때 호출한 트랜잭션과 상관없이 커밋된 점수를 읽는다")
+  public void load_readCommitted() {
+    transactionTemplate.executeWithoutResult(status -> {
+      // 호출한 트랜잭션이 먼저 읽은 값이 아니라 그 뒤에 커밋된 값으로 만든다.
+      ctfTeamRepository.findById(teams.get(2).getId()).orElseThrow();
+      TransactionTemplate otherTransaction = new TransactionTemplate(
+          transactionTemplate.getTransactionManager());
+      otherTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+      otherTransaction.executeWithoutResult(inner ->
+          ctfTeamRepository.addScoreByIdIn(List.of(teams.get(2).getId()), 1000L));
+
+      assertThat(ctfScoreboard.getRankingPage(contest.getId(), PageRequest.of(0, 1))
+          .getContent())
+          .extracting(CtfRankingDto::getId)
+          .containsExactly(teams.get(2).getId());
+    });
+  }
+
+  @Test
+  @DisplayName("listener를 거치지 않아 반영되지 않은 점수도 다시 만들면 반영된다")
+  public void reloadBoards() {
+    CtfTeamEntity team3 = teams.get(2);
+    assertThat(getRank(team3.getId())).isEqualTo(3L);
+
+    transactionTemplate.executeWithoutResult(status ->
+        ctfTeamRepository.addScoreByIdIn(List.of(team3.getId()), 1000L));
+    assertThat(getRank(team3.getId())).isEqualTo(3L);
+
+    ctfScoreboard.reloadBoards();
+    assertThat(getRank(team3.getId())).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("참가할 수 없는 대회의 스코어보드는 다시 만들지 않고 버린다")
+  public void reloadBoards_evictNotJoinable() {
+    assertThat(getRank(teams.get(0).getId())).isEqualTo(1L);
+    assertThat(ctfScoreboard.getLoadedCtfIds()).contains(contest.getId());
+
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfContestEntity closedContest = ctfContestRepository.findById(contest.getId())
+          .orElseThrow();
+      closedContest.setIsJoinable(false);
+    });
+    ctfScoreboard.reloadBoards();
+
+    assertThat(ctfScoreboard.getLoadedCtfIds()).doesNotContain(contest.getId());
+  }
+
+  @Test
+  @DisplayName("Dynamic 문제 Score 재정산 결과가 커밋된 뒤 스코어보드에도 반영")
+  public void setDynamicScore_scoreboard() {
+    transactionTemplate.executeWithoutResult(status -> {
+      CtfChallengeEntity challenge = generateCtfChallenge(contest, DYNAMIC, List.of(MISC), 1000L,
+          true);
+      generateDynamicChallengeInfo(challenge, 1000L, 100L);
+      challenges.add(challenge);
+      generateCtfFlag(teams.get(0), challenge, true);
+      generateCtfFlag(teams.get(1), challenge, true);
+      generateCtfFlag(teams.get(2), challenge, false);
+    });
+    ctfScoreboard.getRankingPage(contest.getId(), PageRequest.of(0, TEAM_COUNT));
+
+    transactionTemplate.executeWithoutResult(status -> ctfUtilService.setDynamicScore(
+        ctfChallengeRepository.findById(challenges.get(0).getId()).orElseThrow()));
+
+    // 3팀 중 2팀이 맞혔으므로 1000점에서 600점이 되어 맞힌 팀은 400점씩 줄어든다.
+    List<CtfRankingDto> ranking = ctfScoreboard.getRankingPage(contest.getId(),
+        PageRequest.of(0, TEAM_COUNT)).getContent();
+    assertThat(ranking).hasSize(TEAM_COUNT);
+    ranking.forEach(team -> assertThat(team.getScore())
+        .isEqualTo(ctfTeamRepository.findById(team.getId()).orElseThrow().getScore()));
+    assertThat(ranking)
+        .extracting(CtfRankingDto::getId)
+        .containsExactly(teams.get(2).getId(), teams.get(0).getId(), teams.get(1).getId());
+  }
+
+  private Long getRank(Long teamId) {
+    return ctfScoreboard.getRankingPage(contest.getId(), PageRequest.of(0, TEAM_COUNT))
+        .getContent()
+        .stream()
+        .filter(ranking -> ranking.getId().equals(teamId))
+        .findFirst()
+        .orElseThrow()
+        .getRank();
+  }
+
+  private MemberEntity generateMember() {
+    String uniqueInfo = UUID.randomUUID().toString();
+    MemberEntity member = MemberEntity.builder()
+        .loginId("loginId" + uniqueInfo)
+        .emailAddress(uniqueInfo + "@keeper.co.kr")
+        .password("keeper1234")
+        .studentId("1234" + uniqueInfo)
+        .nickName("nick" + uniqueInfo)
+        .realName("real" + uniqueInfo)
+        .generation(8F)
+        .memberType(memberTypeRepository.findByName(정회원.getTypeName()).orElseThrow())
+        .build();
+    member.addMemberJob(memberJobRepository.findByName(회원.getJobName()).orElseThrow());
+    members.add(memberRepository.save(member));
+    return member;
+  }
+}
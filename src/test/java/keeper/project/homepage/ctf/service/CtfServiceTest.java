@@ -6,6 +6,9 @@ import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정
 import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.MISC;
 import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.STANDARD;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +27,9 @@ import keeper.project.homepage.ctf.entity.CtfSubmitLogEntity;
 import keeper.project.homepage.member.entity.MemberEntity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
@@ -43,6 +48,9 @@ public class CtfServiceTest extends CtfSpringTestHelper {
   @Autowired
   protected CtfChallengeService ctfChallengeService;
 
+  @SpyBean
+  private CtfSubmitLogWriter ctfSubmitLogWriter;
+
   private static final String TEST_FLAG1 = "TEST_FLAG_1";
 
   @Test
@@ -130,14 +138,19 @@ public class CtfServiceTest extends CtfSpringTestHelper {
         new UsernamePasswordAuthenticationToken(submitter.getId(), submitter.getPassword(),
             List.of(new SimpleGrantedAuthority("ROLE_회원"))));
 
+    doNothing().when(ctfSubmitLogWriter).submit(any());
+
     // when
-    CtfSubmitLogEntity submitLog = ctfChallengeService.setLog(createChallenge
+    ctfChallengeService.checkFlag(createChallenge
             .getChallengeDto()
             .getCommonChallengeDto()
             .getChallengeId(),
         CtfFlagDto.builder().content(TEST_FLAG1).build());
 
     // then
+    ArgumentCaptor<CtfSubmitLogEntity> captor = ArgumentCaptor.forClass(CtfSubmitLogEntity.class);
+    verify(ctfSubmitLogWriter).submit(captor.capture());
+    CtfSubmitLogEntity submitLog = captor.getValue();
     assertThat(submitLog.getFlagSubmitted()).isEqualTo(TEST_FLAG1);
     assertThat(submitLog.getIsCorrect()).isEqualTo(true);
     assertThat(submitLog.getTeamName()).isEqualTo(CREATE_TEAM_NAME);
@@ -0,0 +1,106 @@
+package keeper.project.homepage.ctf.service;
+
+import static keeper.project.homepage.ApiControllerTestHelper.MemberJobName.회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberRankName.일반회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정회원;
+import static keeper.project.homepage.ctf.entity.CtfChallengeCategoryEntity.CtfChallengeCategory.MISC;
+import static keeper.project.homepage.ctf.entity.CtfChallengeTypeEntity.CtfChallengeType.STANDARD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import keeper.project.homepage.ctf.controller.CtfSpringTestHelper;
+import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
+import keeper.project.homepage.ctf.entity.CtfContestEntity;
+import keeper.project.homepage.ctf.entity.CtfSubmitLogEntity;
+import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.member.entity.MemberEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class CtfSubmitLogWriterTest extends CtfSpringTestHelper {
+
+  @Autowired
+  private CtfSubmitLogWriter ctfSubmitLogWriter;
+
+  @Test
+  @DisplayName("제출 로그를 한 번에 저장한다")
+  public void writeTest() {
+    // given
+    MemberEntity submitter = generateMemberEntity(회원, 정회원, 일반회원);
+    CtfContestEntity contest = generateCtfContest(submitter);
+    CtfTeamEntity team = generateCtfTeam(contest, submitter, 0L);
+    CtfChallengeEntity challenge = generateCtfChallenge(contest, STANDARD, List.of(MISC), 100L,
+        true);
+    ctfContestRepository.flush();
+
+    List<CtfSubmitLogEntity> submitLogs = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      submitLogs.add(CtfSubmitLogEntity.builder()
+          .submitTime(LocalDateTime.now())
+          .flagSubmitted("flag_" + i)
+          .isCorrect(i == 2)
+          .teamName(team.getName())
+          .submitterLoginId(submitter.getLoginId())
+          .submitterRealname(submitter.getRealName())
+          .challengeName(challenge.getName())
+          .contestName(contest.getName())
+          .contest(contest)
+          .build());
+    }
+
+    // when
+    ctfSubmitLogWriter.write(submitLogs);
+
+    // then
+    List<CtfSubmitLogEntity> saved = ctfSubmitLogRepository.findAllByIdIsNotAndContestId(0L,
+        PageRequest.of(0, 10), contest.getId()).getContent();
+    assertThat(saved).hasSize(3);
+    assertThat(saved).extracting(CtfSubmitLogEntity::getFlagSubmitted)
+        .containsExactlyInAnyOrder("flag_0", "flag_1", "flag_2");
+    assertThat(saved).filteredOn(CtfSubmitLogEntity::getIsCorrect).hasSize(1);
+    assertThat(saved).allMatch(submitLog -> submitLog.getTeamName().equals(team.getName()));
+  }
+
+  @Test
+  @DisplayName("batch 중 저장할 수 없는 로그가 있어도 나머지 로그는 저장한다")
+  public void writeTest_partialFailure() {
+    // given
+    MemberEntity submitter = generateMemberEntity(회원, 정회원, 일반회원);
+    CtfContestEntity contest = generateCtfContest(submitter);
+    CtfTeamEntity team = generateCtfTeam(contest, submitter, 0L);
+    CtfChallengeEntity challenge = generateCtfChallenge(contest, STANDARD, List.of(MISC), 100L,
+        true);
+    ctfContestRepository.flush();
+
+    List<CtfSubmitLogEntity> submitLogs = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      submitLogs.add(CtfSubmitLogEntity.builder()
+          .submitTime(LocalDateTime.now())
+          .flagSubmitted("flag_" + i)
+          .isCorrect(false)
+          // team_name은 null일 수 없으므로 두 번째 로그는 저장에 실패한다.
+          .teamName(i == 1 ? null : team.getName())
+          .submitterLoginId(submitter.getLoginId())
+          .submitterRealname(submitter.getRealName())
+          .challengeName(challenge.getName())
+          .contestName(contest.getName())
+          .contest(contest)
+          .build());
+    }
+
+    // when
+    ctfSubmitLogWriter.write(submitLogs);
+
+    // then
+    List<CtfSubmitLogEntity> saved = ctfSubmitLogRepository.findAllByIdIsNotAndContestId(0L,
+        PageRequest.of(0, 10), contest.getId()).getContent();
+    assertThat(saved).extracting(CtfSubmitLogEntity::getFlagSubmitted)
+        .containsExactlyInAnyOrder("flag_0", "flag_2");
+  }
+}
@@ -0,0 +1,129 @@
+package keeper.project.homepage.ctf.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CtfSubmitRateLimiterTest {
+
+  private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private CtfSubmitRateLimiter createLimiter(int capacity) {
+    return new CtfSubmitRateLimiter(meterRegistry, now::get, INTERVAL_NANOS, capacity);
+  }
+
+  private double getRejectedCount() {
+    return meterRegistry.counter("keeper.ctf.submit.rejected").count();
+  }
+
+  @Test
+  @DisplayName("재시도 간격 안에 다시 제출하면 거절한다")
+  public void tryAcquireTest() {
+    CtfSubmitRateLimiter limiter = createLimiter(1);
+
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(1L, 10L)).isFalse();
+    // 다른 회원, 다른 문제는 따로 제한한다.
+    assertThat(limiter.tryAcquire(2L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(1L, 11L)).isTrue();
+
+    now.addAndGet(INTERVAL_NANOS - 1);
+    assertThat(limiter.tryAcquire(1L, 10L)).isFalse();
+    now.addAndGet(1);
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(getRejectedCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("용량만큼 연속으로 제출할 수 있다")
+  public void burstTest() {
+    CtfSubmitRateLimiter limiter = createLimiter(3);
+
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(1L, 10L)).isFalse();
+
+    now.addAndGet(INTERVAL_NANOS);
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(1L, 10L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("돌려받은 토큰은 바로 다시 사용할 수 있다")
+  public void releaseTest() {
+    CtfSubmitRateLimiter limiter = createLimiter(1);
+
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    limiter.release(1L, 10L);
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(1L, 10L)).isFalse();
+    // 사용한 적 없는 버킷은 만들지 않는다.
+    limiter.release(2L, 10L);
+    assertThat(limiter.getBucketCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("토큰이 가득 찬 버킷만 정리한다")
+  public void evictTest() {
+    CtfSubmitRateLimiter limiter = createLimiter(1);
+    limiter.tryAcquire(1L, 10L);
+    now.addAndGet(INTERVAL_NANOS);
+    limiter.tryAcquire(2L, 10L);
+
+    limiter.evictFullBuckets();
+
+    assertThat(limiter.getBucketCount()).isEqualTo(1);
+    assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    assertThat(limiter.tryAcquire(2L, 10L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("같은 회원이 동시에 제출해도 한 번만 통과한다")
+  public void concurrentTryAcquireTest() throws Exception {
+    CtfSubmitRateLimiter limiter = createLimiter(1);
+    int threadCount = 16;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < threadCount; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return limiter.tryAcquire(1L, 10L);
+        }));
+      }
+      start.countDown();
+
+      int acquired = 0;
+      for (Future<Boolean> result : results) {
+        if (result.get(10, TimeUnit.SECONDS)) {
+          acquired++;
+        }
+      }
+      assertThat(acquired).isEqualTo(1);
+      assertThat(getRejectedCount()).isEqualTo(threadCount - 1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
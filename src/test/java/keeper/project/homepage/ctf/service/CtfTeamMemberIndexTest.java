@@ -0,0 +1,39 @@
+package keeper.project.homepage.ctf.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CtfTeamMemberIndexTest {
+
+  private final CtfTeamMemberIndex index = new CtfTeamMemberIndex();
+
+  @Test
+  @DisplayName("대회와 회원으로 가입한 팀을 찾는다")
+  public void getTeamIdTest() {
+    index.put(1L, 10L, 100L);
+    index.put(2L, 10L, 200L);
+
+    assertThat(index.getTeamId(1L, 10L)).contains(100L);
+    assertThat(index.getTeamId(2L, 10L)).contains(200L);
+    assertThat(index.getTeamId(1L, 11L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("탈퇴하거나 팀이 삭제되면 인덱스에서 지운다")
+  public void removeTest() {
+    index.put(1L, 10L, 100L);
+    index.put(1L, 11L, 100L);
+    index.put(1L, 12L, 101L);
+
+    index.remove(1L, 10L);
+    assertThat(index.getTeamId(1L, 10L)).isEmpty();
+    assertThat(index.getTeamId(1L, 11L)).contains(100L);
+
+    index.removeTeam(100L);
+    assertThat(index.getTeamId(1L, 11L)).isEmpty();
+    assertThat(index.getTeamId(1L, 12L)).contains(101L);
+    assertThat(index.size()).isEqualTo(1);
+  }
+}
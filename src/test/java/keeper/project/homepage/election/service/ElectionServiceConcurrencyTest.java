@@ -0,0 +1,226 @@
+package keeper.project.homepage.election.service;
+
+import static keeper.project.homepage.ApiControllerTestHelper.MemberJobName.회원;
+import static keeper.project.homepage.ApiControllerTestHelper.MemberTypeName.정회원;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import keeper.project.homepage.election.controller.ElectionSpringTestHelper;
+import keeper.project.homepage.election.dto.request.ElectionVoteRequestDto;
+import keeper.project.homepage.election.entity.ElectionCandidateEntity;
+import keeper.project.homepage.election.entity.ElectionEntity;
+import keeper.project.homepage.election.exception.CustomElectionAlreadyVotedException;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.entity.MemberJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 투표자가 동시에 투표해도 득표 수와 투표 기록이 정확한지 확인한다.
+ *
+ * <p>각 투표가 자신의 트랜잭션을 커밋해야 하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+public class ElectionServiceConcurrencyTest extends ElectionSpringTestHelper {
+
+  private static final int VOTER_COUNT = 16;
+  private static final int SAME_VOTER_REQUEST_COUNT = 8;
+
+  @Autowired
+  private ElectionService electionService;
+
+  @Autowired
+  private ElectionTurnoutService electionTurnoutService;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final List<MemberEntity> members = new ArrayList<>();
+  private final List<MemberEntity> voters = new ArrayList<>();
+  private final List<ElectionCandidateEntity> presidentCandidates = new ArrayList<>();
+  private ElectionEntity election;
+  private MemberJobEntity presidentJob;
+  private MemberJobEntity vicePresidentJob;
+  private ElectionCandidateEntity vicePresidentCandidate;
+
+  @BeforeEach
+  public void setUp() {
+    transactionTemplate.executeWithoutResult(status -> {
+      presidentJob = memberJobRepository.findByName("ROLE_회장").orElseThrow();
+      vicePresidentJob = memberJobRepository.findByName("ROLE_부회장").orElseThrow();
+      MemberEntity creator = generateMember();
+      election = generateElection(creator, true);
+      presidentCandidates.add(generateElectionCandidate(generateMember(), election, presidentJob));
+      presidentCandidates.add(generateElectionCandidate(generateMember(), election, presidentJob));
+      vicePresidentCandidate = generateElectionCandidate(generateMember(), election,
+          vicePresidentJob);
+      for (int i = 0; i < VOTER_COUNT; i++) {
+        MemberEntity voter = generateMember();
+        generateElectionVoter(voter, election, false);
+        voters.add(voter);
+      }
+    });
+  }
+
+  @AfterEach
+  public void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      electionVoterRepository.deleteAll(
+          electionVoterRepository.findAllByElectionVoterPK_Election(election));
+      electionRepository.deleteById(election.getId());
+      memberRepository.deleteAllById(members.stream().map(MemberEntity::getId).toList());
+    });
+    electionTurnoutService.invalidate(election.getId());
+  }
+
+  @Test
+  @DisplayName("여러 투표자가 동시에 투표해도 득표 수와 투표 기록이 투표 수와 같다")
+  public void voteElection_concurrentVoters() throws Exception {
+    // when
+    List<Callable<Boolean>> votes = new ArrayList<>();
+    for (int i = 0; i < VOTER_COUNT; i++) {
+      MemberEntity voter = voters.get(i);
+      ElectionCandidateEntity president = presidentCandidates.get(i % 2);
+      votes.add(() -> vote(voter, president));
+    }
+    List<Boolean> results = runConcurrently(votes);
+
+    // then
+    assertThat(results).containsOnly(true);
+    assertThat(getVoteCount(presidentCandidates.get(0))).isEqualTo(VOTER_COUNT / 2);
+    assertThat(getVoteCount(presidentCandidates.get(1))).isEqualTo(VOTER_COUNT / 2);
+    assertThat(getVoteCount(vicePresidentCandidate)).isEqualTo(VOTER_COUNT);
+    assertThat(getChartLogCount(presidentJob)).isEqualTo(VOTER_COUNT);
+    assertThat(getChartLogCount(vicePresidentJob)).isEqualTo(VOTER_COUNT);
+    assertThat(electionVoterRepository.countAllByElectionVoterPK_ElectionAndIsVotedIsTrue(
+        election)).isEqualTo(VOTER_COUNT);
+    // 투표율을 조회한 적 없어도 커밋된 투표를 모두 센다.
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getVoted())
+        .isEqualTo(VOTER_COUNT);
+  }
+
+  @Test
+  @DisplayName("모든 투표자가 동시에 같은 후보자를 골라도 교착 상태 없이 모두 반영한다")
+  public void voteElection_concurrentSameCandidate() throws Exception {
+    // given
+    ElectionCandidateEntity president = presidentCandidates.get(0);
+
+    // when
+    List<Callable<Boolean>> votes = new ArrayList<>();
+    for (MemberEntity voter : voters) {
+      votes.add(() -> vote(voter, president));
+    }
+    List<Boolean> results = runConcurrently(votes);
+
+    // then
+    assertThat(results).containsOnly(true);
+    assertThat(getVoteCount(president)).isEqualTo(VOTER_COUNT);
+    assertThat(getVoteCount(presidentCandidates.get(1))).isEqualTo(0);
+    assertThat(getVoteCount(vicePresidentCandidate)).isEqualTo(VOTER_COUNT);
+    assertThat(getChartLogCount(presidentJob)).isEqualTo(VOTER_COUNT);
+    assertThat(getChartLogCount(vicePresidentJob)).isEqualTo(VOTER_COUNT);
+  }
+
+  @Test
+  @DisplayName("같은 투표자가 동시에 여러 번 투표해도 한 번만 반영한다")
+  public void voteElection_concurrentSameVoter() throws Exception {
+    // given
+    MemberEntity voter = voters.get(0);
+    ElectionCandidateEntity president = presidentCandidates.get(0);
+
+    // when
+    List<Callable<Boolean>> votes = new ArrayList<>();
+    for (int i = 0; i < SAME_VOTER_REQUEST_COUNT; i++) {
+      votes.add(() -> {
+        try {
+          return vote(voter, president);
+        } catch (CustomElectionAlreadyVotedException e) {
+          return false;
+        }
+      });
+    }
+    List<Boolean> results = runConcurrently(votes);
+
+    // then
+    assertThat(results).containsOnlyOnce(true);
+    assertThat(getVoteCount(president)).isEqualTo(1);
+    assertThat(getVoteCount(vicePresidentCandidate)).isEqualTo(1);
+    assertThat(getChartLogCount(presidentJob)).isEqualTo(1);
+    assertThat(getChartLogCount(vicePresidentJob)).isEqualTo(1);
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getVoted()).isEqualTo(1);
+  }
+
+  private Boolean vote(MemberEntity voter, ElectionCandidateEntity president) {
+    return electionService.voteElection(ElectionVoteRequestDto.builder()
+        .electionId(election.getId())
+        .voterId(voter.getId())
+        .candidateIds(List.of(president.getId(), vicePresidentCandidate.getId()))
+        .build());
+  }
+
+  private Integer getVoteCount(ElectionCandidateEntity candidate) {
+    return electionCandidateRepository.findById(candidate.getId()).orElseThrow().getVoteCount();
+  }
+
+  private int getChartLogCount(MemberJobEntity memberJob) {
+    return electionChartLogRepository
+        .findAllByElectionCandidate_ElectionAndElectionCandidate_MemberJobOrderById(election,
+            memberJob)
+        .size();
+  }
+
+  private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (Callable<T> task : tasks) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return task.call();
+        }));
+      }
+      start.countDown();
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        try {
+          results.add(future.get(30, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+          throw new AssertionError("투표 실패", e.getCause());
+        }
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private MemberEntity generateMember() {
+    String uniqueInfo = UUID.randomUUID().toString();
+    MemberEntity member = MemberEntity.builder()
+        .loginId("loginId" + uniqueInfo)
+        .emailAddress(uniqueInfo + "@keeper.co.kr")
+        .password("keeper1234")
+        .studentId("1234" + uniqueInfo)
+        .nickName("nick" + uniqueInfo)
+        .realName("real" + uniqueInfo)
+        .generation(8F)
+        .memberType(memberTypeRepository.findByName(정회원.getTypeName()).orElseThrow())
+        .build();
+    member.addMemberJob(memberJobRepository.findByName(회원.getJobName()).orElseThrow());
+    members.add(memberRepository.save(member));
+    return member;
+  }
+}
@@ -2,6 +2,12 @@ package keeper.project.homepage.election.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import javax.persistence.EntityManager;
 import keeper.project.homepage.election.controller.ElectionSpringTestHelper;
 import keeper.project.homepage.election.entity.ElectionCandidateEntity;
@@ -21,6 +27,9 @@ public class ElectionServiceTest extends ElectionSpringTestHelper {
   @Autowired
   private EntityManager em;
 
+  @Autowired
+  private ElectionService electionService;
+
   private MemberEntity user;
   private MemberEntity admin;
 
@@ -100,4 +109,74 @@ public class ElectionServiceTest extends ElectionSpringTestHelper {
     assertThat(loadedCandidate.getChartLogs()).contains(savedChartLog1, savedChartLog2);
   }
 
+  @Test
+  @DisplayName("투표 기록 replay - 표마다 한 줄씩 보낸다")
+  public void replayVotes() throws Exception {
+    //given
+    ElectionEntity election = generateElection(admin, true);
+    MemberJobEntity memberJob = memberJobRepository.findByName("ROLE_회장").get();
+    ElectionCandidateEntity candidate1 = generateElectionCandidate(user, election, memberJob);
+    ElectionCandidateEntity candidate2 = generateElectionCandidate(admin, election, memberJob);
+    generateElectionChartLog(candidate1);
+    generateElectionChartLog(candidate2);
+    generateElectionChartLog(candidate1);
+    election.closeElection();
+
+    //when
+    List<JsonNode> lines = replay(election, memberJob, 0);
+
+    //then
+    assertThat(lines).hasSize(4);
+    assertThat(lines.subList(0, 3)).extracting(line -> line.get("memberId").asLong())
+        .containsExactly(user.getId(), admin.getId(), user.getId());
+    assertThat(lines.get(2).get("votes").asLong()).isEqualTo(3L);
+    assertThat(lines.get(3).get("type").asText()).isEqualTo("end");
+    assertThat(lines.get(3).get("votes").asLong()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("투표 기록 replay - N표마다 누적 득표 수를 보낸다")
+  public void replayVotesWithTally() throws Exception {
+    //given
+    ElectionEntity election = generateElection(admin, true);
+    MemberJobEntity memberJob = memberJobRepository.findByName("ROLE_회장").get();
+    ElectionCandidateEntity candidate1 = generateElectionCandidate(user, election, memberJob);
+    ElectionCandidateEntity candidate2 = generateElectionCandidate(admin, election, memberJob);
+    for (int i = 0; i < 3; i++) {
+      generateElectionChartLog(candidate1);
+    }
+    for (int i = 0; i < 2; i++) {
+      generateElectionChartLog(candidate2);
+    }
+    election.closeElection();
+
+    //when
+    List<JsonNode> lines = replay(election, memberJob, 2);
+
+    //then
+    // 2표, 4표, 마지막 5표의 누적 득표 수와 end
+    assertThat(lines).extracting(line -> line.get("type").asText())
+        .containsExactly("tally", "tally", "tally", "end");
+    assertThat(lines).extracting(line -> line.get("votes").asLong())
+        .containsExactly(2L, 4L, 5L, 5L);
+    JsonNode lastTally = lines.get(2).get("tallies");
+    assertThat(lastTally.get(0).get("memberId").asLong()).isEqualTo(user.getId());
+    assertThat(lastTally.get(0).get("count").asLong()).isEqualTo(3L);
+    assertThat(lastTally.get(1).get("memberId").asLong()).isEqualTo(admin.getId());
+    assertThat(lastTally.get(1).get("count").asLong()).isEqualTo(2L);
+  }
+
+  private List<JsonNode> replay(ElectionEntity election, MemberJobEntity memberJob,
+      int tallyEvery) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    electionService.replayVotes(election.getId(), memberJob.getId(), tallyEvery, false)
+        .writeTo(outputStream);
+    ObjectMapper mapper = new ObjectMapper();
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+      lines.add(mapper.readTree(line));
+    }
+    return lines;
+  }
+
 }
@@ -0,0 +1,155 @@
+package keeper.project.homepage.election.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import keeper.project.homepage.election.controller.ElectionSpringTestHelper;
+import keeper.project.homepage.election.dto.request.ElectionVoteRequestDto;
+import keeper.project.homepage.election.dto.response.ElectionVoteStatus;
+import keeper.project.homepage.election.entity.ElectionCandidateEntity;
+import keeper.project.homepage.election.entity.ElectionEntity;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.entity.MemberJobEntity;
+import keeper.project.homepage.util.service.WebSocketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class ElectionTurnoutServiceTest extends ElectionSpringTestHelper {
+
+  // 스케줄러도 같은 메서드를 호출하므로 전송 여부는 timeout을 두고 확인한다.
+  private static final long VERIFY_TIMEOUT_MS = 3_000;
+
+  @MockBean
+  private WebSocketService webSocketService;
+
+  @Autowired
+  private ElectionTurnoutService electionTurnoutService;
+
+  @Autowired
+  private ElectionService electionService;
+
+  @Autowired
+  private AdminElectionService adminElectionService;
+
+  private MemberEntity user;
+  private MemberEntity admin;
+  private ElectionEntity election;
+  private ElectionCandidateEntity candidate;
+
+  @BeforeEach
+  public void setUp() {
+    user = generateMemberEntity(MemberJobName.회원, MemberTypeName.정회원, MemberRankName.일반회원);
+    admin = generateMemberEntity(MemberJobName.회장, MemberTypeName.정회원, MemberRankName.우수회원);
+    election = generateElection(admin, true);
+    generateElectionVoter(user, election, false);
+    generateElectionVoter(admin, election, false);
+    MemberJobEntity memberJob = memberJobRepository.findByName("ROLE_회장").get();
+    candidate = generateElectionCandidate(admin, election, memberJob);
+  }
+
+  @Test
+  @DisplayName("투표하면 투표율이 바뀌고, 바뀐 경우에만 전송한다")
+  public void publishVoteStatusesTest() {
+    String topic = ElectionTurnoutService.getStatusTopic(election.getId());
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+
+    ElectionVoteStatus before = electionTurnoutService.getVoteStatus(election.getId());
+    assertThat(before.getTotal()).isEqualTo(2);
+    assertThat(before.getVoted()).isEqualTo(0);
+    assertThat(before.getIsOpen()).isTrue();
+
+    electionTurnoutService.publishVoteStatuses();
+    electionTurnoutService.publishVoteStatuses();
+    verify(webSocketService, timeout(VERIFY_TIMEOUT_MS).times(1)).sendMessage(eq(topic), any());
+
+    // 커밋된 투표는 다른 스레드에서 반영되므로, 트랜잭션 밖에서 투표를 반영한다.
+    CompletableFuture.runAsync(() -> electionTurnoutService.vote(election.getId(), user.getId()))
+        .join();
+    ElectionVoteStatus after = electionTurnoutService.getVoteStatus(election.getId());
+    assertThat(after.getTotal()).isEqualTo(2);
+    assertThat(after.getVoted()).isEqualTo(1);
+    assertThat(after.getRate()).isEqualTo("50.00");
+
+    electionTurnoutService.publishVoteStatuses();
+    electionTurnoutService.publishVoteStatuses();
+    verify(webSocketService, timeout(VERIFY_TIMEOUT_MS).times(2))
+        .sendMessage(eq(topic), captor.capture());
+    assertThat(((ElectionVoteStatus) captor.getValue()).getVoted()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("같은 투표자의 투표는 한 번만 센다")
+  public void voteTwiceTest() {
+    electionTurnoutService.getVoteStatus(election.getId());
+
+    CompletableFuture.runAsync(() -> {
+      electionTurnoutService.vote(election.getId(), user.getId());
+      electionTurnoutService.vote(election.getId(), user.getId());
+    }).join();
+
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getVoted()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("투표는 커밋된 뒤에 반영한다")
+  public void voteAfterCommitTest() {
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getVoted()).isEqualTo(0);
+
+    electionService.voteElection(ElectionVoteRequestDto.builder()
+        .electionId(election.getId())
+        .voterId(user.getId())
+        .candidateIds(List.of(candidate.getId()))
+        .build());
+
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getVoted()).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("이 서버를 거치지 않은 투표는 다시 세어 반영한다")
+  public void reconcileTest() {
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getVoted()).isEqualTo(0);
+
+    electionVoterRepository.markVoted(election.getId(), user.getId());
+    electionTurnoutService.reconcile();
+
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getVoted()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("투표자를 등록하면 다음 조회 때 다시 센다")
+  public void registerVoterTest() {
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getTotal()).isEqualTo(2);
+
+    MemberEntity newVoter = generateMemberEntity(MemberJobName.회원, MemberTypeName.정회원,
+        MemberRankName.일반회원);
+    adminElectionService.registerVoter(election.getId(), newVoter.getId());
+
+    assertThat(electionTurnoutService.getVoteStatus(election.getId()).getTotal()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("종료된 선거는 마지막 투표율을 보낸 뒤 버리고, 다음 조회 때 다시 센다")
+  public void publishClosedElectionTest() {
+    String topic = ElectionTurnoutService.getStatusTopic(election.getId());
+    election.closeElection();
+
+    electionTurnoutService.publish(election.getId());
+    verify(webSocketService, timeout(VERIFY_TIMEOUT_MS).times(1)).sendMessage(eq(topic), any());
+
+    electionVoterRepository.markVoted(election.getId(), user.getId());
+    ElectionVoteStatus status = electionTurnoutService.getVoteStatus(election.getId());
+    assertThat(status.getIsOpen()).isFalse();
+    assertThat(status.getVoted()).isEqualTo(1);
+  }
+}
@@ -266,6 +266,10 @@ public class MemberControllerFindPostingTest extends ApiControllerTestHelper {
     commonFields.addAll(generateCommonResponseFields(success, code, msg));
     commonFields.addAll(Arrays.asList(
         fieldWithPath(prefix + ".isLast").description("true: 마지막 페이지, +\nfalse: 다음 페이지 존재"),
+        fieldWithPath(prefix + ".nextCursor").description(
+            "다음 페이지 조회 시 after 파라미터로 전달할 커서 "
+                + "(마지막 페이지이거나 작성 시간, ID 내림차순 정렬이 아닐 경우 없음)").type(String.class)
+            .optional(),
         fieldWithPath(prefix + ".content[].id").description("게시물 ID"),
         fieldWithPath(prefix + ".content[].title").description("게시물 제목"),
         fieldWithPath(prefix + ".content[].content").description(
@@ -179,6 +179,10 @@ public class PointLogControllerTest extends ApiControllerTestHelper {
                 fieldWithPath("code").description("성공 시 0을 반환"),
                 fieldWithPath("msg").description("성공: 성공하였습니다 +\n실패: 에러 메세지 반환"),
                 fieldWithPath("data.isLast").description("true: 마지막 페이지, +\nfalse: 다음 페이지 존재"),
+                fieldWithPath("data.nextCursor").description(
+                    "다음 페이지를 cursor로 조회할 때 after 파라미터로 전달할 값 "
+                        + "(마지막 페이지이거나 time, id 내림차순 정렬이 아닐 경우 없음)")
+                    .type(String.class).optional(),
                 fieldWithPath("data.content[].memberId").description("해당 포인트 로그를 보유한 멤버의 ID"),
                 fieldWithPath("data.content[].time").description("해당 포인트 로그가 생성된 시간"),
                 fieldWithPath("data.content[].point").description("포인트 변화량"),
@@ -202,6 +206,66 @@ public class PointLogControllerTest extends ApiControllerTestHelper {
         .andExpect(jsonPath("$.data.isLast").value(false));
   }
 
+  @Test
+  @DisplayName("포인트 내역 조회 - cursor 순서로 정렬했을 때만 nextCursor 전달")
+  public void findAllPointLogByMember_nextCursor() throws Exception {
+    // 기본 정렬(id 내림차순)은 cursor 순서와 다르므로 nextCursor를 주지 않는다.
+    mockMvc.perform(get("/v1/points")
+            .param("page", "0")
+            .param("size", "20")
+            .header("Authorization", userToken1))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.isLast").value(false))
+        .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+
+    mockMvc.perform(get("/v1/points")
+            .param("page", "0")
+            .param("size", "20")
+            .param("sort", "time,desc")
+            .param("sort", "id,desc")
+            .header("Authorization", userToken1))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.isLast").value(false))
+        .andExpect(jsonPath("$.data.nextCursor").exists());
+  }
+
+  @Test
+  @DisplayName("포인트 내역 조회 - 성공(cursor)")
+  public void findAllPointLogByMemberAfter() throws Exception {
+    // 가장 최근 로그보다 뒤의 위치부터 조회하면 첫 페이지와 같다.
+    String after = "2999-12-31T23:59:59," + Long.MAX_VALUE;
+
+    mockMvc.perform(get("/v1/points")
+            .param("after", after)
+            .param("size", "20")
+            .header("Authorization", userToken1))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data.content.length()").value(20))
+        .andExpect(jsonPath("$.data.isLast").value(false))
+        .andExpect(jsonPath("$.data.nextCursor").exists())
+        .andDo(document("point-lists-log-cursor",
+            requestParameters(
+                parameterWithName("after").description(
+                    "이전 응답의 nextCursor (작성 시간,ID). 해당 로그 다음부터 조회하며 전체 개수는 계산하지 않습니다."),
+                parameterWithName("size").optional().description("한 페이지당 출력 수(default = 20)")
+            )));
+  }
+
+  @Test
+  @DisplayName("포인트 내역 조회 - 실패(잘못된 cursor)")
+  public void findAllPointLogByMemberAfter_InvalidCursor() throws Exception {
+    mockMvc.perform(get("/v1/points")
+            .param("after", "invalid")
+            .header("Authorization", userToken1))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
   @Test
   @DisplayName("포인트 내역 조회 - 성공(마지막 페이지)")
   public void findAllPointLogByMember_Last() throws Exception {
@@ -17,12 +17,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import keeper.project.homepage.ApiControllerTestHelper;
-import keeper.project.homepage.util.dto.result.ListResult;
 import keeper.project.homepage.posting.entity.CategoryEntity;
 import keeper.project.homepage.posting.entity.CommentEntity;
 import keeper.project.homepage.posting.entity.PostingEntity;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.posting.dto.CommentDto;
+import keeper.project.homepage.util.dto.result.SliceResult;
 import keeper.project.homepage.util.image.ImageFormatChecking;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterAll;
@@ -167,7 +167,7 @@ public class CommentControllerTest extends ApiControllerTestHelper {
                         "좋아요 눌렀는지 확인 (눌렀으면 true, 아니면 false)"),
                     fieldWithPath("list[].checkedDislike").description(
                         "싫어요 눌렀는지 확인 (눌렀으면 true, 아니면 false)"))
-            )
+            ).and(generateSliceResponseFields())
         ));
   }
 
@@ -212,7 +212,7 @@ public class CommentControllerTest extends ApiControllerTestHelper {
 
     String resultString = result.getResponse().getContentAsString();
     ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
-    ListResult<CommentDto> commentDtoList = mapper.readValue(resultString, new TypeReference<>() {
+    SliceResult<CommentDto> commentDtoList = mapper.readValue(resultString, new TypeReference<>() {
     });
 
     for (CommentDto commentDto : commentDtoList.getList()) {
@@ -14,6 +14,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
+import com.jayway.jsonpath.JsonPath;
 import java.io.File;
 import java.io.FileInputStream;
 import java.time.LocalDateTime;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
@@ -155,11 +157,32 @@ public class PostingControllerTest extends ApiControllerTestHelper {
             ),
             responseFields(
                 generatePostingResponseFields(ResponseType.LIST, "성공 : true + \n실패 : false",
-                    "성공 : 0, 실패 시 : -11000", "")
+                    "성공 : 0, 실패 시 : -11000", "", generateSliceResponseFields())
             )
         ));
   }
 
+  @Test
+  @DisplayName("최신 글 목록 불러오기 - cursor")
+  public void findAllPostingAfter() throws Exception {
+
+    String nextCursor = JsonPath.read(mockMvc.perform(get("/v1/post/latest")
+            .param("size", "1")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(jsonPath("$.isLast").value(false))
+        .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+    mockMvc.perform(get("/v1/post/latest")
+            .param("after", nextCursor)
+            .param("size", "1")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andDo(print())
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(jsonPath("$.list.length()").value(1))
+        .andExpect(jsonPath("$.isLast").exists());
+  }
+
   @Test
   @DisplayName("카테고리별 글 목록 불러오기")
   public void findAllPostingByCategoryId() throws Exception {
@@ -180,7 +203,7 @@ public class PostingControllerTest extends ApiControllerTestHelper {
             ),
             responseFields(
                 generatePostingResponseFields(ResponseType.LIST, "성공 : true + \n실패 : false",
-                    "성공 : 0, 실패 시 : -11000", "")
+                    "성공 : 0, 실패 시 : -11000", "", generateSliceResponseFields())
             )
         ));
   }
@@ -371,6 +394,16 @@ public class PostingControllerTest extends ApiControllerTestHelper {
         ));
   }
 
+  @Test
+  @DisplayName("파일 이어받기(Range) 다운로드 테스트")
+  public void downloadFileWithRange() throws Exception {
+    mockMvc.perform(get("/v1/post/download/{fileId}", generalImageFile.getId().toString())
+            .header(HttpHeaders.RANGE, "bytes=0-9"))
+        .andExpect(MockMvcResultMatchers.status().isPartialContent())
+        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_LENGTH, "10"))
+        .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.CONTENT_RANGE));
+  }
+
   public MultiValueMap<String, String> generatePostingParams(boolean isModify) {
     MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
     params.add("title", "mvc제목");
@@ -0,0 +1,114 @@
+package keeper.project.homepage.posting.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManager;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.repository.MemberRepository;
+import keeper.project.homepage.posting.dto.PostingListDto;
+import keeper.project.homepage.posting.entity.CategoryEntity;
+import keeper.project.homepage.posting.entity.PostingEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PostingRepositoryTest {
+
+  @Autowired
+  private PostingRepository postingRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private EntityManager em;
+
+  private CategoryEntity categoryEntity;
+  private MemberEntity memberEntity;
+
+  @BeforeEach
+  public void setup() {
+    memberEntity = memberRepository.save(MemberEntity.builder()
+        .loginId("postingList")
+        .password("keeper")
+        .realName("postingList")
+        .nickName("postingList")
+        .emailAddress("postingList@keeper.co.kr")
+        .studentId("201724998")
+        .generation(0F)
+        .build());
+    categoryEntity = categoryRepository.save(
+        CategoryEntity.builder().name("test category").build());
+
+    for (int i = 0; i < 3; i++) {
+      postingRepository.save(PostingEntity.builder()
+          .title("posting 제목 " + i)
+          .content("posting 내용 " + i)
+          .categoryId(categoryEntity)
+          .ipAddress("192.111.222.333")
+          .allowComment(0)
+          .isNotice(0)
+          .isSecret(0)
+          .isTemp(0)
+          .likeCount(i)
+          .dislikeCount(0)
+          .commentCount(0)
+          .visitCount(0)
+          .registerTime(LocalDateTime.now().minusMinutes(i))
+          .updateTime(LocalDateTime.now())
+          .memberId(memberEntity)
+          .password("pw")
+          .build());
+    }
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  public void findListByCategoryTest() {
+    Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    Page<PostingListDto> postingPage = postingRepository.findListByCategoryIdAndIsTempAndIsNotice(
+        categoryEntity.getId(), 0, 0,
+        PageRequest.of(0, 10, Sort.by(Direction.DESC, "registerTime")));
+    List<PostingListDto> postings = postingPage.getContent();
+
+    Assertions.assertEquals(3, postings.size());
+    Assertions.assertEquals(3, postingPage.getTotalElements());
+    Assertions.assertEquals("posting 제목 0", postings.get(0).getTitle());
+    Assertions.assertEquals(memberEntity.getNickName(), postings.get(0).getWriter());
+    Assertions.assertEquals(categoryEntity.getName(), postings.get(0).getCategory());
+    // 작성자, 카테고리를 join 하여 한 번에 조회하고, 마지막 페이지이므로 count query는 생략된다.
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void findListWithCountTest() {
+    Page<PostingListDto> postingPage = postingRepository.findListByCategoryIdAndIsTempAndIsNotice(
+        categoryEntity.getId(), 0, 0,
+        PageRequest.of(0, 2, Sort.by(Direction.DESC, "registerTime")));
+
+    Assertions.assertEquals(2, postingPage.getContent().size());
+    Assertions.assertEquals(3, postingPage.getTotalElements());
+    Assertions.assertFalse(postingPage.isLast());
+  }
+}
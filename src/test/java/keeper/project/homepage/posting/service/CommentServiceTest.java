@@ -2,10 +2,12 @@ package keeper.project.homepage.posting.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import javax.persistence.EntityManager;
 import keeper.project.homepage.member.entity.MemberEntity;
 import keeper.project.homepage.member.entity.MemberJobEntity;
 import keeper.project.homepage.posting.dto.CommentDto;
 import keeper.project.homepage.member.entity.MemberHasCommentEntityPK;
+import keeper.project.homepage.member.entity.MemberHasCommentLikeEntity;
 import keeper.project.homepage.posting.entity.CategoryEntity;
 import keeper.project.homepage.posting.entity.CommentEntity;
 import keeper.project.homepage.posting.entity.PostingEntity;
@@ -17,7 +19,10 @@ import keeper.project.homepage.posting.repository.CategoryRepository;
 import keeper.project.homepage.posting.repository.CommentRepository;
 import keeper.project.homepage.posting.repository.PostingRepository;
 import keeper.project.homepage.posting.service.CommentService;
+import keeper.project.homepage.util.dto.CursorSlice;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,12 +33,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
 @ExtendWith(SpringExtension.class)
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 @Log4j2
 public class CommentServiceTest {
@@ -65,6 +71,9 @@ public class CommentServiceTest {
   @Autowired
   private MemberHasCommentDislikeRepository memberHasCommentDislikeRepository;
 
+  @Autowired
+  private EntityManager em;
+
   private CommentEntity commentEntity;
   private MemberEntity memberEntity;
   private PostingEntity postingEntity;
@@ -163,12 +172,91 @@ public class CommentServiceTest {
     Long postId = postingEntity.getId();
     Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
     List<CommentDto> commentEntityPage = commentService.findAllByPost(memberEntity.getId(), postId,
-        pageable);
+        pageable).getContent();
 
     Assertions.assertFalse(commentEntityPage.isEmpty());
     commentEntityPage.forEach(comment -> log.info(comment.getId()));
   }
 
+  @Test
+  @DisplayName("댓글 조회 쿼리 수는 댓글 수와 관계없이 일정하다")
+  public void findAllQueryCountTest() {
+    for (int i = 0; i < 9; i++) {
+      CommentEntity parent = saveComment("부모 댓글 " + i, 0L);
+      saveComment("대댓글 " + i + "-1", parent.getId());
+      CommentEntity reply = saveComment("대댓글 " + i + "-2", parent.getId());
+      if (i % 2 == 0) {
+        memberHasCommentLikeRepository.save(MemberHasCommentLikeEntity.builder()
+            .memberHasCommentEntityPK(new MemberHasCommentEntityPK(memberEntity, reply))
+            .build());
+      }
+    }
+    em.flush();
+    em.clear();
+
+    Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+        .getStatistics();
+
+    statistics.clear();
+    List<CommentDto> smallPage = commentService.findAllByPost(memberEntity.getId(),
+        postingEntity.getId(), PageRequest.of(0, 1, Sort.by("id").ascending())).getContent();
+    long smallPageQueryCount = statistics.getPrepareStatementCount();
+    em.clear();
+
+    statistics.clear();
+    List<CommentDto> fullPage = commentService.findAllByPost(memberEntity.getId(),
+        postingEntity.getId(), PageRequest.of(0, 10, Sort.by("id").ascending())).getContent();
+    long fullPageQueryCount = statistics.getPrepareStatementCount();
+
+    Assertions.assertEquals(2, smallPage.size());
+    // 기존 부모 댓글 1개 + 대댓글 1개, 추가한 부모 댓글 9개 + 대댓글 18개
+    Assertions.assertEquals(29, fullPage.size());
+    Assertions.assertEquals(smallPageQueryCount, fullPageQueryCount);
+    Assertions.assertEquals(5, fullPage.stream().filter(CommentDto::getCheckedLike).count());
+    // 대댓글은 부모 댓글 바로 뒤에 위치한다.
+    for (int i = 1; i < fullPage.size(); i++) {
+      CommentDto comment = fullPage.get(i);
+      if (comment.getParentId() != 0L) {
+        CommentDto previous = fullPage.get(i - 1);
+        Assertions.assertTrue(comment.getParentId().equals(previous.getId())
+            || comment.getParentId().equals(previous.getParentId()));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("댓글 cursor 페이징 - offset 페이지의 nextCursor로 다음 부모 댓글부터 조회한다")
+  public void findAllAfterTest() {
+    CommentEntity next = saveComment("다음 부모 댓글", 0L);
+    Pageable pageable = PageRequest.of(0, 1,
+        Sort.by(Direction.ASC, "registerTime", "id"));
+
+    CursorSlice<CommentDto> firstPage = commentService.findAllByPost(memberEntity.getId(),
+        postingEntity.getId(), pageable);
+    Assertions.assertFalse(firstPage.isLast());
+    Assertions.assertNotNull(firstPage.getNextCursor());
+
+    CursorSlice<CommentDto> nextPage = commentService.findAllByPostAfter(memberEntity.getId(),
+        postingEntity.getId(), firstPage.getNextCursor(), 1);
+    Assertions.assertTrue(nextPage.isLast());
+    Assertions.assertNull(nextPage.getNextCursor());
+    Assertions.assertEquals(next.getId(), nextPage.getContent().get(0).getId());
+  }
+
+  private CommentEntity saveComment(String content, Long parentId) {
+    return commentRepository.save(CommentEntity.builder()
+        .content(content)
+        .registerTime(registerTime)
+        .updateTime(updateTime)
+        .ipAddress(ipAddress)
+        .likeCount(likeCount)
+        .dislikeCount(dislikeCount)
+        .parentId(parentId)
+        .member(memberEntity)
+        .postingId(postingEntity)
+        .build());
+  }
+
   @Test
   @DisplayName("댓글 수정")
   public void updateTest() throws RuntimeException {
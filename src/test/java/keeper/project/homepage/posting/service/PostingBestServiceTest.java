@@ -0,0 +1,190 @@
+package keeper.project.homepage.posting.service;
+
+import static keeper.project.homepage.posting.service.PostingBestService.BEST_BUILT_KEY;
+import static keeper.project.homepage.posting.service.PostingBestService.BEST_REBUILDS_KEY;
+import static keeper.project.homepage.posting.service.PostingBestService.BEST_REGISTER_TIME_KEY;
+import static keeper.project.homepage.posting.service.PostingBestService.BEST_SCORE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.repository.MemberRepository;
+import keeper.project.homepage.posting.dto.PostingBestDto;
+import keeper.project.homepage.posting.entity.CategoryEntity;
+import keeper.project.homepage.posting.entity.PostingEntity;
+import keeper.project.homepage.posting.repository.CategoryRepository;
+import keeper.project.homepage.posting.repository.PostingRepository;
+import keeper.project.homepage.util.redis.RedisUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Transactional
+public class PostingBestServiceTest {
+
+  private static final int CONCURRENT_REBUILD_COUNT = 8;
+  // 테스트 DB에 있는 다른 게시글보다 항상 앞에 오도록 조회수를 크게 준다.
+  private static final int BEST_VISIT_COUNT = 1_000_000;
+
+  @Autowired
+  private PostingBestService postingBestService;
+
+  @Autowired
+  private PostingVisitCounter postingVisitCounter;
+
+  @Autowired
+  private RedisUtil redisUtil;
+
+  @Autowired
+  private PostingRepository postingRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private PostingEntity postingEntity;
+
+  @BeforeEach
+  public void setup() {
+    deleteLeaderboard();
+    MemberEntity memberEntity = memberRepository.save(MemberEntity.builder()
+        .loginId("bestPosting")
+        .password("keeper")
+        .realName("bestPosting")
+        .nickName("bestPosting")
+        .emailAddress("bestPosting@keeper.co.kr")
+        .studentId("201724998")
+        .generation(0F)
+        .build());
+    CategoryEntity categoryEntity = categoryRepository.save(
+        CategoryEntity.builder().name("test category").build());
+
+    postingEntity = postingRepository.save(PostingEntity.builder()
+        .title("posting 제목")
+        .content("posting 내용")
+        .categoryId(categoryEntity)
+        .ipAddress("192.111.222.333")
+        .allowComment(0)
+        .isNotice(0)
+        .isSecret(0)
+        .isTemp(0)
+        .likeCount(0)
+        .dislikeCount(0)
+        .commentCount(0)
+        .visitCount(BEST_VISIT_COUNT)
+        .registerTime(LocalDateTime.now())
+        .updateTime(LocalDateTime.now())
+        .memberId(memberEntity)
+        .password("pw")
+        .build());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    deleteLeaderboard();
+  }
+
+  @Test
+  @DisplayName("leaderboard가 만들어진 적 없으면 DB로부터 만든다")
+  public void findAllBest_notBuilt() {
+    List<PostingBestDto> bestPostings = postingBestService.findAllBest();
+
+    assertThat(redisUtil.hasKey(BEST_BUILT_KEY)).isTrue();
+    assertThat(bestPostings)
+        .extracting(PostingBestDto::getId)
+        .contains(postingEntity.getId());
+  }
+
+  @Test
+  @DisplayName("만들어진 leaderboard가 비어 있으면 다시 계산하지 않는다")
+  public void findAllBest_empty() {
+    postingBestService.rebuild();
+    redisUtil.deleteData(BEST_SCORE_KEY);
+    redisUtil.deleteData(BEST_REGISTER_TIME_KEY);
+
+    assertThat(postingBestService.findAllBest()).isEmpty();
+    assertThat(redisUtil.getSize(BEST_SCORE_KEY)).isZero();
+  }
+
+  @Test
+  @DisplayName("leaderboard에 DB에 없는 게시글이 있으면 다시 계산한다")
+  public void findAllBest_drift() {
+    postingBestService.rebuild();
+    String deletedPosting = String.valueOf(Long.MAX_VALUE);
+    redisUtil.addScore(BEST_REGISTER_TIME_KEY, deletedPosting, System.currentTimeMillis());
+    redisUtil.addScore(BEST_SCORE_KEY, deletedPosting, Double.MAX_VALUE);
+
+    List<PostingBestDto> bestPostings = postingBestService.findAllBest();
+
+    assertThat(bestPostings)
+        .extracting(PostingBestDto::getId)
+        .contains(postingEntity.getId());
+    assertThat(redisUtil.getScore(BEST_SCORE_KEY, deletedPosting)).isNull();
+  }
+
+  @Test
+  @DisplayName("아직 DB에 반영되지 않은 조회수도 점수에 더한다")
+  public void rebuild_pendingVisits() {
+    postingVisitCounter.increase(postingEntity.getId());
+    postingVisitCounter.increase(postingEntity.getId());
+
+    postingBestService.rebuild();
+
+    assertThat(redisUtil.getScore(BEST_SCORE_KEY, String.valueOf(postingEntity.getId())))
+        .isEqualTo(BEST_VISIT_COUNT + 2.0);
+    assertThat(redisUtil.getSize(BEST_REBUILDS_KEY)).isZero();
+  }
+
+  @Test
+  @DisplayName("여러 rebuild가 동시에 실행되어도 실패하지 않는다")
+  public void rebuild_concurrent() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REBUILD_COUNT);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_REBUILD_COUNT; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          postingBestService.rebuild();
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        try {
+          future.get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+          throw new AssertionError("rebuild 실패", e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(redisUtil.hasKey(BEST_BUILT_KEY)).isTrue();
+  }
+
+  private void deleteLeaderboard() {
+    redisUtil.deleteData(BEST_BUILT_KEY);
+    redisUtil.deleteData(BEST_SCORE_KEY);
+    redisUtil.deleteData(BEST_REGISTER_TIME_KEY);
+  }
+}
@@ -0,0 +1,194 @@
+package keeper.project.homepage.posting.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.repository.MemberRepository;
+import keeper.project.homepage.posting.entity.CategoryEntity;
+import keeper.project.homepage.posting.entity.PostingEntity;
+import keeper.project.homepage.posting.repository.CategoryRepository;
+import keeper.project.homepage.posting.repository.PostingRepository;
+import keeper.project.homepage.posting.service.PostingSearchIndex.SearchField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 색인은 커밋된 게시글만 반영하므로 테스트 트랜잭션을 쓰지 않고, 만든 데이터는 직접 지운다.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class PostingSearchIndexTest {
+
+  @Autowired
+  private PostingSearchIndex postingSearchIndex;
+
+  @Autowired
+  private PostingRepository postingRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final List<PostingEntity> postings = new ArrayList<>();
+
+  private MemberEntity memberEntity;
+  private CategoryEntity categoryEntity;
+  private PostingEntity titleMatched;
+  private PostingEntity contentMatched;
+
+  @BeforeEach
+  public void setup() {
+    memberEntity = memberRepository.save(MemberEntity.builder()
+        .loginId("postingSearch")
+        .password("keeper")
+        .realName("postingSearch")
+        .nickName("postingSearch")
+        .emailAddress("postingSearch@keeper.co.kr")
+        .studentId("201724997")
+        .generation(0F)
+        .build());
+    categoryEntity = categoryRepository.save(
+        CategoryEntity.builder().name("test category").build());
+
+    titleMatched = savePosting("리버싱 스터디 모집", "<p>이번 학기 스터디 안내</p>");
+    contentMatched = savePosting("스터디 안내", "<p>리버싱 기초부터 진행합니다</p>");
+    savePosting("웹 해킹 세미나", "<p>세미나 자료 공유</p>");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    postingRepository.deleteAllById(postings.stream().map(PostingEntity::getId)
+        .filter(postingRepository::existsById)
+        .toList());
+    categoryRepository.deleteById(categoryEntity.getId());
+    memberRepository.deleteById(memberEntity.getId());
+  }
+
+  private PostingEntity savePosting(String title, String content) {
+    PostingEntity posting = postingRepository.save(PostingEntity.builder()
+        .title(title)
+        .content(content)
+        .categoryId(categoryEntity)
+        .ipAddress("192.111.222.333")
+        .allowComment(0)
+        .isNotice(0)
+        .isSecret(0)
+        .isTemp(0)
+        .likeCount(0)
+        .dislikeCount(0)
+        .commentCount(0)
+        .visitCount(0)
+        .registerTime(LocalDateTime.now())
+        .updateTime(LocalDateTime.now())
+        .memberId(memberEntity)
+        .password("pw")
+        .build());
+    postings.add(posting);
+    return posting;
+  }
+
+  private List<Long> search(String keyword, SearchField field) {
+    return postingSearchIndex.search(categoryEntity.getId(), keyword, field, 0, 0,
+        PageRequest.of(0, 10)).getContent();
+  }
+
+  @Test
+  @DisplayName("제목, 내용 검색")
+  public void searchTest() {
+    Assertions.assertEquals(List.of(titleMatched.getId()), search("리버싱", SearchField.TITLE));
+    Assertions.assertEquals(List.of(contentMatched.getId()), search("리버싱", SearchField.CONTENT));
+    // 제목에 포함된 게시글이 더 높은 순위를 갖는다.
+    Assertions.assertEquals(List.of(titleMatched.getId(), contentMatched.getId()),
+        search("리버싱", SearchField.TITLE_OR_CONTENT));
+    // HTML 태그는 색인하지 않는다.
+    Assertions.assertTrue(search("<p>", SearchField.CONTENT).isEmpty());
+  }
+
+  @Test
+  @DisplayName("게시글 수정, 삭제 시 커밋된 뒤 색인 반영")
+  public void updateAndDeleteTest() {
+    transactionTemplate.executeWithoutResult(status -> {
+      updateTitle(titleMatched.getId(), "포너블 스터디 모집");
+      // 커밋 전에는 바뀌지 않는다.
+      Assertions.assertEquals(List.of(titleMatched.getId()), search("리버싱", SearchField.TITLE));
+    });
+
+    Assertions.assertTrue(search("리버싱", SearchField.TITLE).isEmpty());
+    Assertions.assertEquals(List.of(titleMatched.getId()), search("포너블", SearchField.TITLE));
+
+    postingRepository.deleteById(contentMatched.getId());
+    Assertions.assertTrue(search("리버싱", SearchField.CONTENT).isEmpty());
+  }
+
+  @Test
+  @DisplayName("rollback 된 수정은 색인에 반영하지 않는다")
+  public void rollbackTest() {
+    transactionTemplate.executeWithoutResult(status -> {
+      updateTitle(titleMatched.getId(), "포너블 스터디 모집");
+      status.setRollbackOnly();
+    });
+
+    Assertions.assertEquals(List.of(titleMatched.getId()), search("리버싱", SearchField.TITLE));
+    Assertions.assertTrue(search("포너블", SearchField.TITLE).isEmpty());
+  }
+
+  private void updateTitle(Long postingId, String title) {
+    PostingEntity posting = postingRepository.findById(postingId).orElseThrow();
+    posting.updateInfo(title, posting.getContent(), LocalDateTime.now(), posting.getIpAddress(),
+        posting.getAllowComment(), posting.getIsNotice(), posting.getIsSecret());
+    postingRepository.saveAndFlush(posting);
+  }
+
+  @Test
+  @DisplayName("검색 결과 페이징")
+  public void pagingTest() {
+    Page<Long> firstPage = postingSearchIndex.search(categoryEntity.getId(), "스터디",
+        SearchField.TITLE_OR_CONTENT, 0, 0, PageRequest.of(0, 1));
+    Page<Long> secondPage = postingSearchIndex.search(categoryEntity.getId(), "스터디",
+        SearchField.TITLE_OR_CONTENT, 0, 0, PageRequest.of(1, 1));
+
+    Assertions.assertEquals(2, firstPage.getTotalElements());
+    Assertions.assertEquals(1, firstPage.getContent().size());
+    Assertions.assertEquals(1, secondPage.getContent().size());
+    Assertions.assertNotEquals(firstPage.getContent(), secondPage.getContent());
+  }
+
+  @Test
+  @DisplayName("정렬을 지정하면 검색 점수 대신 지정한 순서로 정렬")
+  public void sortTest() {
+    // 정렬을 지정하지 않으면 제목과 내용 모두에 포함된 게시글이 먼저 온다.
+    Assertions.assertEquals(List.of(titleMatched.getId(), contentMatched.getId()),
+        postingSearchIndex.search(categoryEntity.getId(), "스터디", SearchField.TITLE_OR_CONTENT,
+            0, 0, PageRequest.of(0, 10)).getContent());
+    Assertions.assertEquals(List.of(contentMatched.getId(), titleMatched.getId()),
+        postingSearchIndex.search(categoryEntity.getId(), "스터디", SearchField.TITLE_OR_CONTENT,
+            0, 0, PageRequest.of(0, 10, Sort.by(Direction.DESC, "id"))).getContent());
+  }
+
+  @Test
+  @DisplayName("색인을 다시 만들어도 검색 결과가 유지된다")
+  public void rebuildTest() {
+    postingSearchIndex.rebuild();
+
+    Assertions.assertEquals(List.of(titleMatched.getId(), contentMatched.getId()),
+        search("리버싱", SearchField.TITLE_OR_CONTENT));
+  }
+}
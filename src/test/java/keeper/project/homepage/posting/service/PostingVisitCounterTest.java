@@ -0,0 +1,124 @@
+package keeper.project.homepage.posting.service;
+
+import java.time.LocalDateTime;
+import javax.persistence.EntityManager;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.repository.MemberRepository;
+import keeper.project.homepage.posting.entity.CategoryEntity;
+import keeper.project.homepage.posting.entity.PostingEntity;
+import keeper.project.homepage.posting.repository.CategoryRepository;
+import keeper.project.homepage.posting.repository.PostingRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Transactional
+public class PostingVisitCounterTest {
+
+  @Autowired
+  private PostingVisitCounter postingVisitCounter;
+
+  @Autowired
+  private PostingRepository postingRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private EntityManager em;
+
+  private PostingEntity postingEntity;
+
+  @BeforeEach
+  public void setup() {
+    MemberEntity memberEntity = memberRepository.save(MemberEntity.builder()
+        .loginId("visitCounter")
+        .password("keeper")
+        .realName("visitCounter")
+        .nickName("visitCounter")
+        .emailAddress("visitCounter@keeper.co.kr")
+        .studentId("201724999")
+        .generation(0F)
+        .build());
+    CategoryEntity categoryEntity = categoryRepository.save(
+        CategoryEntity.builder().name("test category").build());
+
+    postingEntity = postingRepository.save(PostingEntity.builder()
+        .title("posting 제목")
+        .content("posting 내용")
+        .categoryId(categoryEntity)
+        .ipAddress("192.111.222.333")
+        .allowComment(0)
+        .isNotice(0)
+        .isSecret(0)
+        .isTemp(0)
+        .likeCount(0)
+        .dislikeCount(0)
+        .commentCount(0)
+        .visitCount(5)
+        .registerTime(LocalDateTime.now())
+        .updateTime(LocalDateTime.now())
+        .memberId(memberEntity)
+        .password("pw")
+        .build());
+  }
+
+  @Test
+  @DisplayName("조회수는 flush 전까지 DB에 반영되지 않는다")
+  public void increaseTest() {
+    Long postingId = postingEntity.getId();
+
+    postingVisitCounter.increase(postingId);
+    postingVisitCounter.increase(postingId);
+    postingVisitCounter.increase(postingId);
+
+    em.flush();
+    em.clear();
+    Assertions.assertEquals(3, postingVisitCounter.getPendingCount(postingId));
+    Assertions.assertEquals(5, postingRepository.findById(postingId).get().getVisitCount());
+  }
+
+  @Test
+  @DisplayName("flush 하면 누적된 조회수를 한 번에 반영한다")
+  public void flushTest() {
+    Long postingId = postingEntity.getId();
+    for (int i = 0; i < 3; i++) {
+      postingVisitCounter.increase(postingId);
+    }
+
+    em.flush();
+    postingVisitCounter.flush();
+    em.clear();
+
+    Assertions.assertEquals(0, postingVisitCounter.getPendingCount(postingId));
+    Assertions.assertEquals(8, postingRepository.findById(postingId).get().getVisitCount());
+  }
+
+  @Test
+  @DisplayName("flush로 비운 게시글도 다시 조회하면 다음 flush에 반영된다")
+  public void increaseAfterFlushTest() {
+    Long postingId = postingEntity.getId();
+    postingVisitCounter.increase(postingId);
+
+    em.flush();
+    postingVisitCounter.flush();
+    postingVisitCounter.increase(postingId);
+    postingVisitCounter.increase(postingId);
+    postingVisitCounter.flush();
+    em.clear();
+
+    Assertions.assertEquals(0, postingVisitCounter.getPendingCount(postingId));
+    Assertions.assertEquals(8, postingRepository.findById(postingId).get().getVisitCount());
+  }
+}
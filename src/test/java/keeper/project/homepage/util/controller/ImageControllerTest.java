@@ -13,6 +13,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -60,4 +61,19 @@ class ImageControllerTest extends ApiControllerTestHelper {
             )
         ));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("ETag가 일치하면 이미지를 다시 보내지 않는다")
+  public void getImageNotModifiedTest() throws Exception {
+    String eTag = mockMvc.perform(get("/v1/util/image/{fileId}",
+            fileEntity.getId().toString()))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/v1/util/image/{fileId}",
+            fileEntity.getId().toString())
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(MockMvcResultMatchers.status().isNotModified());
+  }
+}
@@ -17,6 +17,7 @@ import keeper.project.homepage.ctf.entity.CtfChallengeEntity;
 import keeper.project.homepage.ctf.entity.CtfContestEntity;
 import keeper.project.homepage.ctf.entity.CtfFlagEntity;
 import keeper.project.homepage.ctf.entity.CtfTeamEntity;
+import keeper.project.homepage.ctf.exception.CustomCtfTeamNotFoundException;
 import keeper.project.homepage.member.entity.MemberEntity;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -169,6 +170,22 @@ class CtfUtilServiceTest extends CtfSpringTestHelper {
     }
   }
 
+  @Test
+  @DisplayName("여러 대회에 참가한 회원의 팀 조회 - 요청한 대회의 팀만 반환")
+  void getTeamHasMemberEntity() {
+    MemberEntity member = generateMemberEntity(회원, 정회원, 일반회원);
+    CtfTeamEntity invalidCtfTeam = generateCtfTeam(invalidCtf, member, 0L);
+    CtfTeamEntity validCtfTeam = generateCtfTeam(validCtf, member, 0L);
+
+    Assertions.assertThat(ctfUtilService.getTeamHasMemberEntity(invalidCtf.getId(), member.getId())
+        .getTeam().getId()).isEqualTo(invalidCtfTeam.getId());
+    Assertions.assertThat(ctfUtilService.getTeamHasMemberEntity(validCtf.getId(), member.getId())
+        .getTeam().getId()).isEqualTo(validCtfTeam.getId());
+    Assertions.assertThatThrownBy(
+            () -> ctfUtilService.getTeamHasMemberEntity(validCtf.getId(), member1.getId()))
+        .isInstanceOf(CustomCtfTeamNotFoundException.class);
+  }
+
   private void takeAnswer(CtfFlagEntity[][] flagEntities, int correctTeam, int correctChallenge,
       List<CtfTeamEntity> validTeamList, List<CtfChallengeEntity> validChallengeList) {
     flagEntities[correctTeam][correctChallenge].setIsCorrect(true);
@@ -60,8 +60,6 @@ public class WebSocketServiceTest {
 
     ElectionVoteStatus status = ElectionVoteStatus.createStatus(10, 5, true);
 
-    //TODO: Repeatable Test Code
-    //webSocketService.sendVoteStatusMessage(WEBSOCKET_TOPIC, status);
     session.send(WEBSOCKET_TOPIC, status);
 
     ElectionVoteStatus result = blockingQueue.poll(2, SECONDS);
@@ -0,0 +1,95 @@
+package keeper.project.homepage.util.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import keeper.project.homepage.member.entity.MemberEntity;
+import keeper.project.homepage.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceTest {
+
+  private static final Long MEMBER_ID = 1L;
+  private static final String REUSED_LOOKUP_METRIC = "keeper.auth.member.lookup.reused";
+
+  @Mock
+  private MemberRepository memberRepository;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private AuthService authService;
+
+  private MockHttpServletRequest request;
+
+  private final MemberEntity memberEntity = MemberEntity.builder()
+      .id(MEMBER_ID)
+      .loginId("loginId")
+      .emailAddress("emailAddress")
+      .realName("realName")
+      .nickName("nickName")
+      .studentId("123456789")
+      .build();
+
+  @BeforeEach
+  public void setUp() {
+    authService = new AuthService(memberRepository, meterRegistry);
+    request = new MockHttpServletRequest("GET", "/v1/members/" + MEMBER_ID);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(String.valueOf(MEMBER_ID), null));
+    when(memberRepository.findWithJobsAndTypeAndRankById(MEMBER_ID))
+        .thenReturn(Optional.of(memberEntity));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("한 요청 안에서 두 번째 조회는 DB를 조회하지 않는다")
+  public void getMemberEntityWithJWT_sameRequest() {
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/members/{id}");
+
+    MemberEntity first = authService.getMemberEntityWithJWT();
+    MemberEntity second = authService.getMemberEntityWithJWT();
+
+    assertThat(second).isSameAs(first);
+    verify(memberRepository, times(1)).findWithJobsAndTypeAndRankById(MEMBER_ID);
+    assertThat(meterRegistry.counter(REUSED_LOOKUP_METRIC, "endpoint", "GET /v1/members/{id}")
+        .count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("mapping pattern이 없으면 URI 대신 unknown으로 센다")
+  public void getMemberEntityWithJWT_unknownEndpoint() {
+    authService.getMemberEntityWithJWT();
+    authService.getMemberEntityWithJWT();
+
+    verify(memberRepository, times(1)).findWithJobsAndTypeAndRankById(MEMBER_ID);
+    assertThat(meterRegistry.counter(REUSED_LOOKUP_METRIC, "endpoint", "unknown").count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.find(REUSED_LOOKUP_METRIC)
+        .tag("endpoint", request.getMethod() + " " + request.getRequestURI())
+        .counter()).isNull();
+  }
+}